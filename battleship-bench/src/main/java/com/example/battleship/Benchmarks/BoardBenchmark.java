@@ -0,0 +1,88 @@
+package com.example.battleship.Benchmarks;
+
+import com.example.battleship.Model.Board.BitBoard;
+import com.example.battleship.Model.Board.Board;
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.Board.IBoard;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures cell reads and writes of the {@link IBoard} implementations.
+ * <p>
+ * Each operation sweeps the whole board once, so results are per full
+ * board pass and scale with {@code size * size}.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+
+    /** Board implementation under test. */
+    @Param({"BitBoard", "Board"})
+    public String impl;
+
+    /** Board side length. */
+    @Param({"10", "20", "32"})
+    public int size;
+
+    /** Board under test. */
+    private IBoard board;
+
+    /** Geometry of {@link #board}. */
+    private BoardGeometry geometry;
+
+    /**
+     * Creates the board with a mix of water, ships, misses and hits.
+     */
+    @Setup
+    public void setUp() {
+        geometry = BoardGeometry.square(size);
+        board = impl.equals("BitBoard") ? new BitBoard(geometry) : new Board(geometry);
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                board.setCell(r, c, (r * 7 + c * 3) % 4);
+            }
+        }
+    }
+
+    /**
+     * Reads every cell of the board.
+     *
+     * @return sum of all cell values
+     */
+    @Benchmark
+    public int getCellSweep() {
+        int sum = 0;
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                sum += board.getCell(r, c);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Writes every cell of the board.
+     *
+     * @param blackhole sink for the board
+     */
+    @Benchmark
+    public void setCellSweep(Blackhole blackhole) {
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                board.setCell(r, c, (r + c) & 3);
+            }
+        }
+        blackhole.consume(board);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.battleship.Benchmarks;
+
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.Game.Game;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures fleet generation and shot resolution in {@link Game}.
+ * <p>
+ * {@link #generateFleet()} builds a game and places the machine fleet.
+ * {@link #processShotSweep()} fires at every cell of a freshly generated
+ * machine board until the fleet is sunk, going through
+ * {@code executeHumanShot} and {@code processShot}.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+    /** Board side length. */
+    @Param({"10", "20", "32"})
+    public int size;
+
+    /** Geometry built from {@link #size}. */
+    private BoardGeometry geometry;
+
+    /** Shared seeded random source. */
+    private SplittableRandom random;
+
+    /** Game prepared for {@link #processShotSweep()}. */
+    private Game game;
+
+    /**
+     * Creates the geometry and random source.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        geometry = BoardGeometry.square(size);
+        random = new SplittableRandom(42);
+    }
+
+    /**
+     * Prepares a started game with both fleets for the shot sweep.
+     */
+    @Setup(Level.Invocation)
+    public void setUpGame() {
+        game = newGame();
+        game.generateFleet();
+        game.generateHumanFleet();
+        game.startGame();
+    }
+
+    /**
+     * Creates a game and generates the machine fleet.
+     *
+     * @return the game
+     */
+    @Benchmark
+    public Game generateFleet() {
+        Game fresh = newGame();
+        fresh.generateFleet();
+        return fresh;
+    }
+
+    /**
+     * Fires row by row at the machine board until its fleet is sunk.
+     *
+     * @return number of shots fired
+     */
+    @Benchmark
+    public int processShotSweep() {
+        int shots = 0;
+        for (int r = 0; r < geometry.getRows() && !game.isGameOver(); r++) {
+            for (int c = 0; c < geometry.getCols() && !game.isGameOver(); c++) {
+                game.executeHumanShot(r, c);
+                shots++;
+            }
+        }
+        return shots;
+    }
+
+    /**
+     * Creates a silent game.
+     */
+    private Game newGame() {
+        Game fresh = new Game("BENCH", geometry, random);
+        fresh.setVerbose(false);
+        return fresh;
+    }
+}
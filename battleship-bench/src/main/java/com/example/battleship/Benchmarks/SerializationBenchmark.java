@@ -0,0 +1,103 @@
+package com.example.battleship.Benchmarks;
+
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.Game.Game;
+import com.example.battleship.Model.Game.GameState;
+import com.example.battleship.Model.Serializable.SerializableFileHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures saving a mid-game {@link GameState}.
+ * <p>
+ * {@link #serializeToFile()} goes through {@link SerializableFileHandler#serialize},
+ * as the game controller does after every shot, with its console trace
+ * turned off so only the encoding and the write are timed. {@link #serializeToMemory()}
+ * isolates the encoding cost from disk I/O.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    /** State saved by every operation. */
+    private GameState state;
+
+    /** Handler under test. */
+    private SerializableFileHandler handler;
+
+    /** Temporary save file. */
+    private Path saveFile;
+
+    /**
+     * Plays half of a game and captures its state.
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @Setup
+    public void setUp() throws IOException {
+        Game game = new Game("BENCH", BoardGeometry.STANDARD, new SplittableRandom(42));
+        game.setVerbose(false);
+        game.generateFleet();
+        game.generateHumanFleet();
+        game.startGame();
+        for (int cell = 0; cell < 50 && !game.isGameOver(); cell += 2) {
+            game.executeHumanShot(cell / 10, cell % 10);
+        }
+
+        state = new GameState(game.getHuman().getName(), game.getHumanBoard(), game.getMachineBoard(),
+                game.getHumanFleet(), game.getMachineFleet(), game.getHumanShots(), game.getMachineShots(),
+                game.getCurrentPlayerIndex(), game.getCurrentState(), game.isGameOver());
+
+        handler = new SerializableFileHandler();
+        handler.setVerbose(false);
+        saveFile = Files.createTempFile("bench_save", ".dat");
+    }
+
+    /**
+     * Removes the temporary save file.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(saveFile);
+    }
+
+    /**
+     * Saves the state through the file handler.
+     */
+    @Benchmark
+    public void serializeToFile() {
+        handler.serialize(saveFile.toString(), state);
+    }
+
+    /**
+     * Encodes the state with an object stream in memory.
+     *
+     * @return encoded size in bytes
+     * @throws IOException never, the target is in memory
+     */
+    @Benchmark
+    public int serializeToMemory() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(state);
+        }
+        return bytes.size();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.battleship.Benchmarks;
+
+import com.example.battleship.Model.AI.SmartAI;
+import com.example.battleship.Model.Board.BoardGeometry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SmartAI#getNextShot()} and {@link SmartAI#registerResult}.
+ * <p>
+ * In HUNT mode every shot rebuilds the probability heat map
+ * ({@code updateHeatMap}), so {@link #huntShot()} tracks the cost of the
+ * density computation. {@link #targetShot()} exercises the TARGET path
+ * after a hit.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SmartAIBenchmark {
+
+    /** Board side length. */
+    @Param({"10", "20", "32"})
+    public int size;
+
+    /** AI under test. */
+    private SmartAI ai;
+
+    /** Shots fired since the last reset. */
+    private int shots;
+
+    /** Shots after which the AI is reset, so the board never runs out of cells. */
+    private int resetEvery;
+
+    /**
+     * Creates a silent AI with a fixed seed.
+     */
+    @Setup
+    public void setUp() {
+        BoardGeometry geometry = BoardGeometry.square(size);
+        ai = new SmartAI(geometry, new SplittableRandom(42));
+        ai.setVerbose(false);
+        resetEvery = geometry.getCellCount() / 2;
+    }
+
+    /**
+     * Fires one HUNT shot and reports a miss.
+     *
+     * @return the chosen cell
+     */
+    @Benchmark
+    public int[] huntShot() {
+        if (++shots >= resetEvery) {
+            ai.reset();
+            shots = 0;
+        }
+        int[] shot = ai.getNextShot();
+        ai.registerResult(shot[0], shot[1], false, false);
+        return shot;
+    }
+
+    /**
+     * Reports a hit in the middle of a fresh board and asks for the follow-up shot.
+     *
+     * @return the chosen cell
+     */
+    @Benchmark
+    public int[] targetShot() {
+        ai.reset();
+        ai.registerResult(size / 2, size / 2, true, false);
+        return ai.getNextShot();
+    }
+}
@@ -0,0 +1,371 @@
+package com.example.battleship.Model.AI;
+
+import com.example.battleship.Model.Board.BoardGeometry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
+
+/**
+ * Monte Carlo estimator of where the remaining enemy ships are.
+ *
+ * <p>Each sample is a complete random layout of the ships that are still
+ * afloat. A layout is accepted only if it is consistent with the AI's
+ * knowledge board:</p>
+ * <ul>
+ *   <li>no ship covers a known water (1) or sunk (3) cell;</li>
+ *   <li>ships do not touch each other, not even diagonally;</li>
+ *   <li>every hit (2) that is not yet part of a sunk ship is covered.</li>
+ * </ul>
+ * <p>Counting how often each cell is covered by the accepted layouts gives an
+ * estimate of its hit probability, in HUNT and TARGET mode alike.</p>
+ *
+ * <p>Sampling stops after {@code samplesPerMove} accepted layouts or when the
+ * per-move time budget runs out, whichever comes first. The work is split
+ * among a fixed set of workers that run on the common {@link ForkJoinPool};
+ * each worker owns a {@link SplittableRandom} and preallocated scratch arrays,
+ * so a move allocates almost nothing no matter how many layouts are drawn.
+ * Scratch cells are "cleared" by bumping a stamp instead of refilling arrays.</p>
+ *
+ * <p>An instance belongs to a single AI and is not thread-safe itself.</p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+public class MonteCarloSampler {
+
+    /** Default number of accepted layouts per move */
+    public static final int DEFAULT_SAMPLES = 2000;
+
+    /** Default time budget per move: 50 ms */
+    public static final long DEFAULT_BUDGET_NANOS = 50_000_000L;
+
+    /** Random placements tried for a ship before the layout is discarded */
+    private static final int PLACEMENT_ATTEMPTS = 64;
+
+    /** Placements through an uncovered hit tried before placing the ship anywhere */
+    private static final int HIT_ATTEMPTS = 8;
+
+    /** Layouts drawn without a single acceptance before the knowledge is deemed inconsistent */
+    private static final int GIVE_UP_ATTEMPTS = 5000;
+
+    /** Dimensions of the enemy board */
+    private final BoardGeometry geometry;
+
+    /** Accepted layouts wanted per move */
+    private final int samplesPerMove;
+
+    /** Time budget per move in nanoseconds */
+    private final long budgetNanos;
+
+    /** Workers, each with its own random source and scratch arrays */
+    private final List<Worker> workers;
+
+    /** Coverage counts of the last move, summed over workers */
+    private final int[] counts;
+
+    /** Accepted layouts of the last move */
+    private int lastSampleCount;
+
+    /**
+     * Creates a single-worker sampler with the default sample count and budget.
+     *
+     * @param geometry dimensions of the enemy board
+     * @param random   random source used to seed the worker
+     */
+    public MonteCarloSampler(BoardGeometry geometry, RandomGenerator random) {
+        this(geometry, random, DEFAULT_SAMPLES, DEFAULT_BUDGET_NANOS, 1);
+    }
+
+    /**
+     * Creates a sampler.
+     *
+     * @param geometry       dimensions of the enemy board
+     * @param random         random source used to seed the workers
+     * @param samplesPerMove accepted layouts wanted per move
+     * @param budgetNanos    time budget per move in nanoseconds
+     * @param parallelism    number of workers; 1 samples on the calling thread
+     * @throws IllegalArgumentException if a count or the budget is not positive
+     */
+    public MonteCarloSampler(BoardGeometry geometry, RandomGenerator random,
+                             int samplesPerMove, long budgetNanos, int parallelism) {
+        if (samplesPerMove <= 0 || budgetNanos <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Samples, budget and parallelism must be positive");
+        }
+        this.geometry = geometry;
+        this.samplesPerMove = samplesPerMove;
+        this.budgetNanos = budgetNanos;
+        this.counts = new int[geometry.getCellCount()];
+        this.workers = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            workers.add(new Worker(new SplittableRandom(random.nextLong())));
+        }
+    }
+
+    /**
+     * Samples layouts for the current knowledge and returns how often each
+     * cell was covered. The returned array is reused by the next call.
+     *
+     * @param knownBoard     0 = unknown, 1 = water, 2 = hit, 3 = sunk; indexed by {@code row * cols + col}
+     * @param remainingShips ships still afloat by size: {@code remainingShips[size - 1]}
+     * @return coverage count per cell; all zero if no layout was accepted
+     */
+    int[] sample(byte[] knownBoard, int[] remainingShips) {
+        long deadline = System.nanoTime() + budgetNanos;
+        int quota = (samplesPerMove + workers.size() - 1) / workers.size();
+        for (Worker worker : workers) {
+            worker.prepare(knownBoard, remainingShips, quota, deadline);
+        }
+
+        Arrays.fill(counts, 0);
+        lastSampleCount = 0;
+        if (workers.size() == 1) {
+            lastSampleCount = workers.get(0).call();
+        } else {
+            for (Future<Integer> done : ForkJoinPool.commonPool().invokeAll(workers)) {
+                try {
+                    lastSampleCount += done.get();
+                } catch (Exception e) {
+                    throw new IllegalStateException("Monte Carlo worker failed", e);
+                }
+            }
+        }
+
+        for (Worker worker : workers) {
+            int[] workerCounts = worker.counts;
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += workerCounts[i];
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of layouts accepted during the last move.
+     *
+     * @return accepted layouts
+     */
+    public int getLastSampleCount() {
+        return lastSampleCount;
+    }
+
+    /**
+     * One sampling thread's state. Every array is allocated once.
+     */
+    private final class Worker implements Callable<Integer> {
+
+        /** Random source owned by this worker */
+        final SplittableRandom random;
+
+        /** Coverage counts of the current move */
+        final int[] counts;
+
+        /** Cell belongs to a ship of the layout when equal to the stamp */
+        final int[] occupied;
+
+        /** Cell is taken or touches a ship of the layout when equal to the stamp */
+        final int[] forbidden;
+
+        /** Cells covered by the current layout */
+        final int[] layout;
+
+        /** Ship sizes to place, largest first */
+        final int[] fleet;
+
+        /** Hit cells that must be covered */
+        final int[] hits;
+
+        /** Knowledge board of the current move */
+        byte[] known;
+
+        /** Number of cells in {@link #layout} */
+        int layoutSize;
+
+        /** Number of ships in {@link #fleet} */
+        int fleetSize;
+
+        /** Number of cells in {@link #hits} */
+        int hitCount;
+
+        /** Accepted layouts wanted from this worker */
+        int quota;
+
+        /** {@link System#nanoTime()} at which sampling stops */
+        long deadline;
+
+        /** Current layout identifier */
+        int stamp;
+
+        /**
+         * Creates a worker.
+         *
+         * @param random random source owned by this worker
+         */
+        Worker(SplittableRandom random) {
+            int cells = geometry.getCellCount();
+            this.random = random;
+            this.counts = new int[cells];
+            this.occupied = new int[cells];
+            this.forbidden = new int[cells];
+            this.layout = new int[cells];
+            this.fleet = new int[cells];
+            this.hits = new int[cells];
+        }
+
+        /**
+         * Loads the knowledge of the current move.
+         */
+        void prepare(byte[] knownBoard, int[] remainingShips, int quota, long deadline) {
+            this.known = knownBoard;
+            this.quota = quota;
+            this.deadline = deadline;
+
+            fleetSize = 0;
+            for (int size = remainingShips.length; size >= 1; size--) {
+                for (int n = 0; n < remainingShips[size - 1] && fleetSize < fleet.length; n++) {
+                    fleet[fleetSize++] = size;
+                }
+            }
+            hitCount = 0;
+            for (int i = 0; i < knownBoard.length; i++) {
+                if (knownBoard[i] == 2) hits[hitCount++] = i;
+            }
+        }
+
+        /**
+         * Draws layouts until the quota or the deadline is reached. Gives up
+         * early when nothing fits, e.g. if the enemy fleet was placed with
+         * touching ships, so the AI falls back to its heuristics quickly.
+         *
+         * @return accepted layouts
+         */
+        @Override
+        public Integer call() {
+            Arrays.fill(counts, 0);
+            if (fleetSize == 0) return 0;
+
+            int accepted = 0;
+            long maxAttempts = (long) quota * 50;
+            for (long attempt = 0; accepted < quota && attempt < maxAttempts; attempt++) {
+                if ((attempt & 63) == 0 && System.nanoTime() > deadline) break;
+                if (accepted == 0 && attempt == GIVE_UP_ATTEMPTS) break;
+                if (drawLayout()) {
+                    accepted++;
+                    for (int i = 0; i < layoutSize; i++) {
+                        counts[layout[i]]++;
+                    }
+                }
+            }
+            return accepted;
+        }
+
+        /**
+         * Places the whole fleet at random and checks that all hits are covered.
+         *
+         * @return true if the layout is consistent with the knowledge board
+         */
+        boolean drawLayout() {
+            if (++stamp == Integer.MAX_VALUE) {
+                Arrays.fill(occupied, 0);
+                Arrays.fill(forbidden, 0);
+                stamp = 1;
+            }
+            layoutSize = 0;
+
+            for (int i = 0; i < fleetSize; i++) {
+                if (!placeShip(fleet[i])) return false;
+            }
+            for (int i = 0; i < hitCount; i++) {
+                if (occupied[hits[i]] != stamp) return false;
+            }
+            return true;
+        }
+
+        /**
+         * Places one ship, preferring placements through a hit that is
+         * not covered yet so that TARGET-mode layouts are accepted often.
+         *
+         * @param size ship size
+         * @return true if the ship was placed
+         */
+        boolean placeShip(int size) {
+            int rows = geometry.getRows();
+            int cols = geometry.getCols();
+
+            int hit = uncoveredHit();
+            if (hit >= 0) {
+                int hitRow = geometry.rowOf(hit);
+                int hitCol = geometry.colOf(hit);
+                for (int t = 0; t < HIT_ATTEMPTS; t++) {
+                    boolean horizontal = random.nextBoolean();
+                    int offset = random.nextInt(size);
+                    if (horizontal ? tryPlace(hitRow, hitCol - offset, size, true)
+                                   : tryPlace(hitRow - offset, hitCol, size, false)) {
+                        return true;
+                    }
+                }
+            }
+
+            for (int t = 0; t < PLACEMENT_ATTEMPTS; t++) {
+                boolean horizontal = random.nextBoolean();
+                int rowSpan = horizontal ? rows : rows - size + 1;
+                int colSpan = horizontal ? cols - size + 1 : cols;
+                if (rowSpan <= 0 || colSpan <= 0) continue;
+                if (tryPlace(random.nextInt(rowSpan), random.nextInt(colSpan), size, horizontal)) return true;
+            }
+            return false;
+        }
+
+        /**
+         * Returns a random hit not covered by the current layout, or -1.
+         */
+        int uncoveredHit() {
+            if (hitCount == 0) return -1;
+            int start = random.nextInt(hitCount);
+            for (int i = 0; i < hitCount; i++) {
+                int cell = hits[(start + i) % hitCount];
+                if (occupied[cell] != stamp) return cell;
+            }
+            return -1;
+        }
+
+        /**
+         * Adds a ship to the layout if it fits the board, avoids known water
+         * and sunk cells, and does not touch the ships already placed.
+         */
+        boolean tryPlace(int row, int col, int size, boolean horizontal) {
+            int rows = geometry.getRows();
+            int cols = geometry.getCols();
+            if (row < 0 || col < 0) return false;
+            if (horizontal ? (row >= rows || col + size > cols)
+                           : (col >= cols || row + size > rows)) return false;
+
+            int start = geometry.index(row, col);
+            int step = horizontal ? 1 : cols;
+            for (int i = 0; i < size; i++) {
+                int cell = start + i * step;
+                byte value = known[cell];
+                if (value == 1 || value == 3 || forbidden[cell] == stamp) return false;
+            }
+
+            for (int i = 0; i < size; i++) {
+                int cell = start + i * step;
+                occupied[cell] = stamp;
+                layout[layoutSize++] = cell;
+            }
+            int lastRow = horizontal ? row : row + size - 1;
+            int lastCol = horizontal ? col + size - 1 : col;
+            for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, lastRow + 1); r++) {
+                for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, lastCol + 1); c++) {
+                    forbidden[geometry.index(r, c)] = stamp;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.battleship.Model.AI;
+
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.Board.PlacementTable;
+
+import java.util.Arrays;
+
+/**
+ * Incrementally maintained ship-placement density used by {@link SmartAI} in HUNT mode.
+ *
+ * <p>For every ship size and every cell it keeps the number of legal placements
+ * (horizontal and vertical, as in the original heat map, so a 1-cell ship is
+ * counted twice) that cover the cell. A placement is legal while it is inside
+ * the board and none of its cells is <em>blocked</em> (known water or part of a
+ * sunk ship).</p>
+ *
+ * <p>The heat of a cell is the sum over sizes of {@code shipCount * placements}.
+ * Instead of rescanning the whole board before every shot, the counts and the
+ * heat are updated:</p>
+ * <ul>
+ *   <li>when a cell is blocked: only the placements through that cell, listed
+ *       by the shared {@link PlacementTable}, are removed, O(sizes * length²);</li>
+ *   <li>when a ship count changes: the heat is adjusted by the count delta,
+ *       O(cells) for that size.</li>
+ * </ul>
+ * <p>The resulting heat is identical to a full rescan of the same board.</p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+final class PlacementDensity {
+
+    /** Dimensions of the enemy board */
+    private final BoardGeometry geometry;
+
+    /** Largest ship size tracked */
+    private final int maxShipSize;
+
+    /** Cells that can no longer hold a ship, indexed by {@code row * cols + col} */
+    private final boolean[] blocked;
+
+    /** Placements of each size on an empty board: {@code tables[size - 1]} */
+    private final PlacementTable[] tables;
+
+    /** Whether each placement is still legal: {@code legal[size - 1][placement]} */
+    private final boolean[][] legal;
+
+    /** Legal placements covering each cell: {@code placements[size - 1][index]} */
+    private final int[][] placements;
+
+    /** Weight (remaining ships) of each size */
+    private final int[] weights;
+
+    /** Weighted sum of placements per cell */
+    private final int[] heat;
+
+    /**
+     * Creates a density map with no ships counted yet.
+     *
+     * @param geometry    dimensions of the enemy board
+     * @param maxShipSize largest ship size
+     */
+    PlacementDensity(BoardGeometry geometry, int maxShipSize) {
+        this.geometry = geometry;
+        this.maxShipSize = maxShipSize;
+        this.blocked = new boolean[geometry.getCellCount()];
+        this.tables = new PlacementTable[maxShipSize];
+        this.legal = new boolean[maxShipSize][];
+        for (int size = 1; size <= maxShipSize; size++) {
+            tables[size - 1] = PlacementTable.of(geometry, size);
+            legal[size - 1] = new boolean[tables[size - 1].size()];
+        }
+        this.placements = new int[maxShipSize][geometry.getCellCount()];
+        this.weights = new int[maxShipSize];
+        this.heat = new int[geometry.getCellCount()];
+        reset(new int[maxShipSize]);
+    }
+
+    /**
+     * Unblocks every cell and recomputes the counts for an empty board.
+     *
+     * @param shipCounts remaining ships by size: {@code shipCounts[size - 1]}
+     */
+    void reset(int[] shipCounts) {
+        Arrays.fill(blocked, false);
+        for (int size = 1; size <= maxShipSize; size++) {
+            PlacementTable table = tables[size - 1];
+            int[] sizePlacements = placements[size - 1];
+            Arrays.fill(legal[size - 1], true);
+            for (int cell = 0; cell < sizePlacements.length; cell++) {
+                sizePlacements[cell] = table.getCoverCount(cell);
+            }
+        }
+
+        Arrays.fill(weights, 0);
+        Arrays.fill(heat, 0);
+        for (int size = 1; size <= maxShipSize; size++) {
+            setShipCount(size, shipCounts[size - 1]);
+        }
+    }
+
+    /**
+     * Marks a cell as unable to hold a ship and removes every placement through it.
+     * Blocking an already blocked cell does nothing.
+     *
+     * @param row row index
+     * @param col column index
+     */
+    void block(int row, int col) {
+        int index = geometry.index(row, col);
+        if (blocked[index]) return;
+
+        for (int size = 1; size <= maxShipSize; size++) {
+            PlacementTable table = tables[size - 1];
+            for (int i = 0; i < table.getCoverCount(index); i++) {
+                removeIfLegal(table, table.getCovering(index, i));
+            }
+        }
+        blocked[index] = true;
+    }
+
+    /**
+     * Sets how many ships of a size remain. Negative counts are treated as zero.
+     *
+     * @param size  ship size
+     * @param count remaining ships of that size
+     */
+    void setShipCount(int size, int count) {
+        int weight = Math.max(0, count);
+        int delta = weight - weights[size - 1];
+        if (delta == 0) return;
+
+        int[] sizePlacements = placements[size - 1];
+        for (int i = 0; i < heat.length; i++) {
+            heat[i] += delta * sizePlacements[i];
+        }
+        weights[size - 1] = weight;
+    }
+
+    /**
+     * Returns the weighted placement count of a cell.
+     *
+     * @param row row index
+     * @param col column index
+     * @return heat of the cell
+     */
+    int getHeat(int row, int col) {
+        return heat[geometry.index(row, col)];
+    }
+
+    /**
+     * Returns the legal placements of one size covering a cell.
+     *
+     * @param size ship size
+     * @param row  row index
+     * @param col  column index
+     * @return number of placements
+     */
+    int getPlacements(int size, int row, int col) {
+        return placements[size - 1][geometry.index(row, col)];
+    }
+
+    /**
+     * Checks whether a cell has been blocked.
+     *
+     * @param row row index
+     * @param col column index
+     * @return true if no ship can occupy the cell
+     */
+    boolean isBlocked(int row, int col) {
+        return blocked[geometry.index(row, col)];
+    }
+
+    /**
+     * Removes a placement from the counts if it is still legal.
+     */
+    private void removeIfLegal(PlacementTable table, int placement) {
+        int size = table.getShipSize();
+        boolean[] sizeLegal = legal[size - 1];
+        if (!sizeLegal[placement]) return;
+        sizeLegal[placement] = false;
+
+        int[] sizePlacements = placements[size - 1];
+        int weight = weights[size - 1];
+        for (int i = 0; i < size; i++) {
+            int cell = table.getCell(placement, i);
+            sizePlacements[cell]--;
+            heat[cell] -= weight;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.battleship.Model.AI;
+
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.RNG.GameRandom;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Baseline shot strategy that fires at unshot cells in uniformly random order.
+ * <p>
+ * It ignores hit and sunk feedback, so it is the reference point used to
+ * measure how much better {@link SmartAI} plays. Each game shuffles the cell
+ * indices once; every call to {@link #getNextShot()} is then O(1) and never
+ * repeats a cell.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+public class RandomAI implements ShotStrategy {
+
+    /** Dimensions of the enemy board */
+    private final BoardGeometry geometry;
+
+    /** Random source used to shuffle the firing order */
+    private final RandomGenerator random;
+
+    /** Cell indices in firing order */
+    private final int[] order;
+
+    /** Position of the next shot inside {@link #order} */
+    private int next;
+
+    /**
+     * Creates a random strategy for the standard 10x10 board.
+     */
+    public RandomAI() {
+        this(BoardGeometry.STANDARD, new GameRandom());
+    }
+
+    /**
+     * Creates a random strategy for a board with the given dimensions.
+     *
+     * @param geometry dimensions of the enemy board
+     * @param random   random source used to shuffle the firing order
+     */
+    public RandomAI(BoardGeometry geometry, RandomGenerator random) {
+        this.geometry = geometry;
+        this.random = random;
+        this.order = new int[geometry.getCellCount()];
+        reset();
+    }
+
+    /**
+     * Returns the next cell of the shuffled firing order.
+     *
+     * @return an integer array {row, col}
+     * @throws IllegalStateException if every cell has already been shot
+     */
+    @Override
+    public int[] getNextShot() {
+        if (next >= order.length) {
+            throw new IllegalStateException("No cells left to shoot");
+        }
+        int index = order[next++];
+        return new int[]{geometry.rowOf(index), geometry.colOf(index)};
+    }
+
+    /**
+     * Ignored: the random baseline does not learn from results.
+     */
+    @Override
+    public void registerResult(int row, int col, boolean hit, boolean sunk) {
+    }
+
+    /**
+     * Reshuffles the firing order (Fisher-Yates) for a new game.
+     */
+    @Override
+    public void reset() {
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        next = 0;
+    }
+}
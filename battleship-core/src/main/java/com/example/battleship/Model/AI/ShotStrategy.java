@@ -0,0 +1,39 @@
+package com.example.battleship.Model.AI;
+
+/**
+ * Strategy used to choose shots against an enemy board.
+ * <p>
+ * Implementations keep their own knowledge of the enemy grid: the game asks
+ * for the next shot with {@link #getNextShot()}, resolves it, and reports the
+ * outcome back through {@link #registerResult(int, int, boolean, boolean)}.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see SmartAI
+ * @see RandomAI
+ */
+public interface ShotStrategy {
+
+    /**
+     * Chooses the next cell to fire at.
+     *
+     * @return an integer array {row, col} with 0-based coordinates
+     */
+    int[] getNextShot();
+
+    /**
+     * Reports the outcome of the last shot returned by {@link #getNextShot()}.
+     *
+     * @param row  row coordinate of the shot
+     * @param col  column coordinate of the shot
+     * @param hit  true if the shot hit a ship
+     * @param sunk true if the shot sunk a ship
+     */
+    void registerResult(int row, int col, boolean hit, boolean sunk);
+
+    /**
+     * Clears all knowledge so the strategy can play a new game.
+     */
+    void reset();
+}
@@ -1,6 +1,11 @@
 package com.example.battleship.Model.AI;
 
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.Board.CellBitSet;
+import com.example.battleship.Model.RNG.GameRandom;
+
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Advanced Artificial Intelligence for the Battleship game.
@@ -18,14 +23,18 @@ import java.util.*;
  *   <li>Maintains an internal knowledge board of the enemy grid.</li>
  *   <li>Uses a priority queue to select optimal target cells.</li>
  *   <li>Employs a probability heat map based on remaining ship sizes.</li>
+ *   <li>Optionally estimates hit probabilities by Monte Carlo sampling of
+ *       complete fleet layouts ({@link #setMonteCarloSampler}).</li>
  * </ul>
  *
- * <p>The board is assumed to be 10x10 and uses 0-based indexing.</p>
+ * <p>The board dimensions come from a {@link BoardGeometry} (10x10 by default)
+ * and use 0-based indexing. Internal maps are flat arrays indexed by
+ * {@code row * cols + col}.</p>
  *
  * @author Battleship Development Team
  * @version 2.0
  */
-public class SmartAI {
+public class SmartAI implements ShotStrategy {
 
     /**
      * Represents the current operational mode of the AI.
@@ -47,10 +56,13 @@ public class SmartAI {
     private final List<int[]> currentShipHits = new ArrayList<>();
 
     /** History of all fired shots to prevent duplicates */
-    private final Set<String> shotHistory = new HashSet<>();
+    private final CellBitSet shotHistory;
+
+    /** Dimensions of the enemy board */
+    private final BoardGeometry geometry;
 
     /**
-     * Internal knowledge board.
+     * Internal knowledge board, indexed by {@code row * cols + col}.
      * <ul>
      *   <li>0 = unknown</li>
      *   <li>1 = water/miss</li>
@@ -58,13 +70,54 @@ public class SmartAI {
      *   <li>3 = sunk</li>
      * </ul>
      */
-    private final int[][] knownBoard = new int[10][10];
+    private final byte[] knownBoard;
 
     /** Remaining ships indexed by size: [0]=frigates(1), [1]=destroyers(2), [2]=submarines(3), [3]=carriers(4) */
     private final int[] remainingShips = {4, 3, 2, 1};
 
-    /** Probability heat map used during HUNT mode */
-    private final int[][] heatMap = new int[10][10];
+    /** Placement counts and heat map used during HUNT mode, updated as cells are ruled out */
+    private final PlacementDensity density;
+
+    /** Random source used to break ties between equally good cells */
+    private final RandomGenerator random;
+
+    /** Whether decisions are traced to the console */
+    private boolean verbose = true;
+
+    /** Layout sampler used instead of the heuristics when set */
+    private MonteCarloSampler sampler;
+
+    /**
+     * Creates an AI for the standard 10x10 board.
+     */
+    public SmartAI() {
+        this(BoardGeometry.STANDARD);
+    }
+
+    /**
+     * Creates an AI for a board with the given dimensions.
+     *
+     * @param geometry dimensions of the enemy board
+     */
+    public SmartAI(BoardGeometry geometry) {
+        this(geometry, new GameRandom());
+    }
+
+    /**
+     * Creates an AI with its own random source.
+     * Parallel simulations give every worker a separately seeded generator.
+     *
+     * @param geometry dimensions of the enemy board
+     * @param random   random source used to break ties
+     */
+    public SmartAI(BoardGeometry geometry, RandomGenerator random) {
+        this.geometry = geometry;
+        this.random = random;
+        this.knownBoard = new byte[geometry.getCellCount()];
+        this.shotHistory = new CellBitSet(geometry);
+        this.density = new PlacementDensity(geometry, remainingShips.length);
+        this.density.reset(remainingShips);
+    }
 
     /**
      * Represents a candidate cell to shoot at along with its priority score.
@@ -85,8 +138,8 @@ public class SmartAI {
         /**
          * Constructs a scored cell.
          *
-         * @param row row index (0–9)
-         * @param col column index (0–9)
+         * @param row row index
+         * @param col column index
          * @param score priority score
          */
         ScoredCell(int row, int col, int score) {
@@ -159,7 +212,9 @@ public class SmartAI {
     /**
      * Determines the next shot to fire based on the current AI state.
      *
-     * <p>The method prioritizes:</p>
+     * <p>When a {@link MonteCarloSampler} is set, the cell covered most often by
+     * the sampled layouts is fired at. Otherwise, or if no consistent layout was
+     * found, the method prioritizes:</p>
      * <ol>
      *   <li>Queued high-priority targets</li>
      *   <li>Adjacent exploration around active hits</li>
@@ -169,48 +224,58 @@ public class SmartAI {
      *
      * @return an integer array {row, col} representing the next shot coordinates
      */
+    @Override
     public int[] getNextShot() {
-        System.out.println("\n🎯 [AI] ========== GETTING SHOT ==========");
-        System.out.println("   Total active hits: " + currentShipHits.size());
-        if (!currentShipHits.isEmpty()) {
-            System.out.print("   Positions: ");
-            for (int[] hit : currentShipHits) {
-                System.out.print("(" + hit[0] + "," + hit[1] + ") ");
+        if (verbose) {
+            System.out.println("\n🎯 [AI] ========== GETTING SHOT ==========");
+            System.out.println("   Total active hits: " + currentShipHits.size());
+            if (!currentShipHits.isEmpty()) {
+                System.out.print("   Positions: ");
+                for (int[] hit : currentShipHits) {
+                    System.out.print("(" + hit[0] + "," + hit[1] + ") ");
+                }
+                System.out.println();
             }
-            System.out.println();
         }
 
         int[] shot = null;
 
-        if (!currentShipHits.isEmpty()) {
-            System.out.println("   🔥 TARGET MODE ACTIVE");
+        if (sampler != null) {
+            currentMode = currentShipHits.isEmpty() ? Mode.HUNT : Mode.TARGET;
+            shot = getMonteCarloShot();
+        }
+
+        if (shot != null) {
+            if (verbose) System.out.println("   🎲 MONTE CARLO (" + sampler.getLastSampleCount() + " layouts)");
+        } else if (!currentShipHits.isEmpty()) {
+            if (verbose) System.out.println("   🔥 TARGET MODE ACTIVE");
             currentMode = Mode.TARGET;
 
             shot = pollValidTarget();
 
             if (shot == null) {
-                System.out.println("   📋 Regenerating targets...");
+                if (verbose) System.out.println("   📋 Regenerating targets...");
                 generateSmartTargets();
                 shot = pollValidTarget();
             }
 
             if (shot == null) {
-                System.out.println("   🔍 Exploring adjacent cells...");
+                if (verbose) System.out.println("   🔍 Exploring adjacent cells...");
                 shot = exploreAllAdjacent();
             }
 
             if (shot == null) {
-                System.out.println("   ♟️ Expanded pattern...");
+                if (verbose) System.out.println("   ♟️ Expanded pattern...");
                 shot = findNearbyCell();
             }
 
             if (shot == null) {
-                System.out.println("   ⚠️ Random fallback");
+                if (verbose) System.out.println("   ⚠️ Random fallback");
                 shot = getRandomAvailableCell();
             }
 
         } else {
-            System.out.println("   🔎 HUNT MODE");
+            if (verbose) System.out.println("   🔎 HUNT MODE");
             shot = getHuntModeShot();
         }
 
@@ -219,10 +284,12 @@ public class SmartAI {
             shot = new int[]{0, 0};
         }
 
-        System.out.println("   ✅ SHOT: (" + shot[0] + "," + shot[1] + ")");
-        System.out.println("===============================================\n");
+        if (verbose) System.out.println("   ✅ SHOT: (" + shot[0] + "," + shot[1] + ")");
+        if (verbose) System.out.println("===============================================\n");
 
-        shotHistory.add(shot[0] + "," + shot[1]);
+        if (isValidCell(shot[0], shot[1])) {
+            shotHistory.add(shot[0], shot[1]);
+        }
         return shot;
     }
 
@@ -235,18 +302,18 @@ public class SmartAI {
      * @return coordinates {row, col} of the next valid target, or null if queue is empty
      */
     private int[] pollValidTarget() {
-        System.out.println("      🎯 Queue size: " + targetQueue.size());
+        if (verbose) System.out.println("      🎯 Queue size: " + targetQueue.size());
 
         while (!targetQueue.isEmpty()) {
             ScoredCell cell = targetQueue.poll();
 
             if (isValidTarget(cell.row, cell.col)) {
-                System.out.println("      ✅ Target: (" + cell.row + "," + cell.col + ")");
+                if (verbose) System.out.println("      ✅ Target: (" + cell.row + "," + cell.col + ")");
                 return new int[]{cell.row, cell.col};
             }
         }
 
-        System.out.println("      ❌ No valid targets");
+        if (verbose) System.out.println("      ❌ No valid targets");
         return null;
     }
 
@@ -265,13 +332,13 @@ public class SmartAI {
                 int newCol = hit[1] + dir.dc;
 
                 if (isValidTarget(newRow, newCol)) {
-                    System.out.println("      ✅ Adjacent: (" + newRow + "," + newCol + ")");
+                    if (verbose) System.out.println("      ✅ Adjacent: (" + newRow + "," + newCol + ")");
                     return new int[]{newRow, newCol};
                 }
             }
         }
 
-        System.out.println("      ❌ No adjacent cells");
+        if (verbose) System.out.println("      ❌ No adjacent cells");
         return null;
     }
 
@@ -290,14 +357,14 @@ public class SmartAI {
                     int newCol = hit[1] + dc;
 
                     if (isValidTarget(newRow, newCol)) {
-                        System.out.println("      ✅ Nearby: (" + newRow + "," + newCol + ")");
+                        if (verbose) System.out.println("      ✅ Nearby: (" + newRow + "," + newCol + ")");
                         return new int[]{newRow, newCol};
                     }
                 }
             }
         }
 
-        System.out.println("      ❌ No nearby cells");
+        if (verbose) System.out.println("      ❌ No nearby cells");
         return null;
     }
 
@@ -314,7 +381,7 @@ public class SmartAI {
     private boolean isValidTarget(int row, int col) {
         return isValidCell(row, col) &&
                 !hasBeenShot(row, col) &&
-                knownBoard[row][col] == 0;
+                knownBoard[geometry.index(row, col)] == 0;
     }
 
     /**
@@ -328,40 +395,41 @@ public class SmartAI {
      * @param hit true if the shot hit a ship, false if it was a miss
      * @param sunk true if the shot sunk a ship, false otherwise
      */
+    @Override
     public void registerResult(int row, int col, boolean hit, boolean sunk) {
-        System.out.println("\n📊 [AI] ========== RESULT ==========");
-        System.out.println("   Pos: (" + row + "," + col + ") | Hit: " + hit + " | Sunk: " + sunk);
+        if (verbose) System.out.println("\n📊 [AI] ========== RESULT ==========");
+        if (verbose) System.out.println("   Pos: (" + row + "," + col + ") | Hit: " + hit + " | Sunk: " + sunk);
 
         if (!hit) {
-            knownBoard[row][col] = 1;
-            System.out.println("   💧 WATER - maintaining " + currentShipHits.size() + " hits");
+            markKnown(row, col, 1);
+            if (verbose) System.out.println("   💧 WATER - maintaining " + currentShipHits.size() + " hits");
             return;
         }
 
         // HIT
-        knownBoard[row][col] = 2;
+        markKnown(row, col, 2);
 
         boolean exists = currentShipHits.stream()
                 .anyMatch(h -> h[0] == row && h[1] == col);
 
         if (!exists) {
             currentShipHits.add(new int[]{row, col});
-            System.out.println("   💥 NEW HIT added!");
+            if (verbose) System.out.println("   💥 NEW HIT added!");
         }
 
-        System.out.println("   📍 Total hits: " + currentShipHits.size());
+        if (verbose) System.out.println("   📍 Total hits: " + currentShipHits.size());
 
         if (sunk) {
-            System.out.println("   🔥 SHIP SUNK!");
+            if (verbose) System.out.println("   🔥 SHIP SUNK!");
             handleSunkShip(row, col);
         } else {
-            System.out.println("   ⚠️ NOT sunk - continuing");
+            if (verbose) System.out.println("   ⚠️ NOT sunk - continuing");
             currentMode = Mode.TARGET;
             targetQueue.clear();
             generateSmartTargets();
         }
 
-        System.out.println("=======================================\n");
+        if (verbose) System.out.println("=======================================\n");
     }
 
     /**
@@ -375,47 +443,44 @@ public class SmartAI {
      * @param lastHitCol column coordinate of the final hit that sunk the ship
      */
     private void handleSunkShip(int lastHitRow, int lastHitCol) {
-        System.out.println("   🔍 Identifying sunk ship...");
+        if (verbose) System.out.println("   🔍 Identifying sunk ship...");
 
         // Find all connected hits to the last shot (the sunk ship)
-        Set<String> sunkShipCells = findConnectedShip(lastHitRow, lastHitCol);
+        CellBitSet sunkShipCells = findConnectedShip(lastHitRow, lastHitCol);
 
-        System.out.println("   🔥 Sunk ship has " + sunkShipCells.size() + " cells:");
-        for (String cell : sunkShipCells) {
-            System.out.println("      - " + cell);
+        if (verbose) {
+            System.out.println("   🔥 Sunk ship has " + sunkShipCells.size() + " cells: " + sunkShipCells);
         }
 
         // Mark as sunk
-        for (String cell : sunkShipCells) {
-            String[] parts = cell.split(",");
-            int r = Integer.parseInt(parts[0]);
-            int c = Integer.parseInt(parts[1]);
-            knownBoard[r][c] = 3;
+        for (int i = sunkShipCells.nextCell(0); i >= 0; i = sunkShipCells.nextCell(i + 1)) {
+            int r = geometry.rowOf(i);
+            int c = geometry.colOf(i);
+            markKnown(r, c, 3);
 
             // Mark adjacent cells of this ship as impossible
             markAdjacentAsImpossible(r, c);
         }
 
         // ✅ ONLY remove hits from the sunk ship
-        currentShipHits.removeIf(hit -> {
-            String key = hit[0] + "," + hit[1];
-            return sunkShipCells.contains(key);
-        });
+        currentShipHits.removeIf(hit -> sunkShipCells.contains(hit[0], hit[1]));
 
-        System.out.println("   🧹 Remaining hits after cleanup: " + currentShipHits.size());
+        if (verbose) System.out.println("   🧹 Remaining hits after cleanup: " + currentShipHits.size());
 
         if (!currentShipHits.isEmpty()) {
-            System.out.println("   ⚠️ STILL ACTIVE HITS - maintaining TARGET mode");
-            System.out.print("   Remaining hits: ");
-            for (int[] hit : currentShipHits) {
-                System.out.print("(" + hit[0] + "," + hit[1] + ") ");
+            if (verbose) {
+                System.out.println("   ⚠️ STILL ACTIVE HITS - maintaining TARGET mode");
+                System.out.print("   Remaining hits: ");
+                for (int[] hit : currentShipHits) {
+                    System.out.print("(" + hit[0] + "," + hit[1] + ") ");
+                }
+                System.out.println();
             }
-            System.out.println();
             currentMode = Mode.TARGET;
             targetQueue.clear();
             generateSmartTargets();
         } else {
-            System.out.println("   ✅ No more hits - returning to HUNT");
+            if (verbose) System.out.println("   ✅ No more hits - returning to HUNT");
             currentMode = Mode.HUNT;
             targetQueue.clear();
         }
@@ -424,7 +489,8 @@ public class SmartAI {
         int shipSize = sunkShipCells.size();
         if (shipSize >= 1 && shipSize <= 4) {
             remainingShips[shipSize - 1]--;
-            System.out.println("   📊 Remaining ships: " + Arrays.toString(remainingShips));
+            density.setShipCount(shipSize, remainingShips[shipSize - 1]);
+            if (verbose) System.out.println("   📊 Remaining ships: " + Arrays.toString(remainingShips));
         }
     }
 
@@ -436,14 +502,14 @@ public class SmartAI {
      *
      * @param startRow starting row coordinate
      * @param startCol starting column coordinate
-     * @return set of strings in "row,col" format representing all cells of the sunk ship
+     * @return all cells of the sunk ship
      */
-    private Set<String> findConnectedShip(int startRow, int startCol) {
-        Set<String> visited = new HashSet<>();
+    private CellBitSet findConnectedShip(int startRow, int startCol) {
+        CellBitSet visited = new CellBitSet(geometry);
         Queue<int[]> queue = new LinkedList<>();
 
         queue.add(new int[]{startRow, startCol});
-        visited.add(startRow + "," + startCol);
+        visited.add(startRow, startCol);
 
         while (!queue.isEmpty()) {
             int[] current = queue.poll();
@@ -454,14 +520,13 @@ public class SmartAI {
             for (Direction dir : Direction.values()) {
                 int newRow = row + dir.dr;
                 int newCol = col + dir.dc;
-                String key = newRow + "," + newCol;
 
                 // If it's a hit (2) or sunk (3) and we haven't visited it
                 if (isValidCell(newRow, newCol) &&
-                        !visited.contains(key) &&
-                        (knownBoard[newRow][newCol] == 2 || knownBoard[newRow][newCol] == 3)) {
+                        !visited.contains(newRow, newCol) &&
+                        (knownBoard[geometry.index(newRow, newCol)] == 2 || knownBoard[geometry.index(newRow, newCol)] == 3)) {
 
-                    visited.add(key);
+                    visited.add(newRow, newCol);
                     queue.add(new int[]{newRow, newCol});
                 }
             }
@@ -487,8 +552,8 @@ public class SmartAI {
                 int newRow = row + dr;
                 int newCol = col + dc;
 
-                if (isValidCell(newRow, newCol) && knownBoard[newRow][newCol] == 0) {
-                    knownBoard[newRow][newCol] = 1;
+                if (isValidCell(newRow, newCol) && knownBoard[geometry.index(newRow, newCol)] == 0) {
+                    markKnown(newRow, newCol, 1);
                 }
             }
         }
@@ -502,22 +567,22 @@ public class SmartAI {
      */
     private void generateSmartTargets() {
         targetQueue.clear();
-        System.out.println("      🎯 Generating targets for " + currentShipHits.size() + " hits");
+        if (verbose) System.out.println("      🎯 Generating targets for " + currentShipHits.size() + " hits");
 
         if (currentShipHits.isEmpty()) return;
 
         // Group hits into possible different ships
         List<List<int[]>> shipGroups = groupHitsByProximity();
 
-        System.out.println("      📊 Ship groups detected: " + shipGroups.size());
+        if (verbose) System.out.println("      📊 Ship groups detected: " + shipGroups.size());
 
         // Generate targets for each group
         for (List<int[]> group : shipGroups) {
-            System.out.println("         Group with " + group.size() + " hits");
+            if (verbose) System.out.println("         Group with " + group.size() + " hits");
             generateTargetsForGroup(group);
         }
 
-        System.out.println("      📋 Total targets: " + targetQueue.size());
+        if (verbose) System.out.println("      📋 Total targets: " + targetQueue.size());
     }
 
     /**
@@ -530,17 +595,16 @@ public class SmartAI {
      */
     private List<List<int[]>> groupHitsByProximity() {
         List<List<int[]>> groups = new ArrayList<>();
-        Set<String> processed = new HashSet<>();
+        CellBitSet processed = new CellBitSet(geometry);
 
         for (int[] hit : currentShipHits) {
-            String key = hit[0] + "," + hit[1];
-            if (processed.contains(key)) continue;
+            if (processed.contains(hit[0], hit[1])) continue;
 
             List<int[]> group = new ArrayList<>();
             Queue<int[]> queue = new LinkedList<>();
 
             queue.add(hit);
-            processed.add(key);
+            processed.add(hit[0], hit[1]);
             group.add(hit);
 
             // BFS to find connected hits
@@ -550,14 +614,12 @@ public class SmartAI {
                 for (Direction dir : Direction.values()) {
                     int newRow = current[0] + dir.dr;
                     int newCol = current[1] + dir.dc;
-                    String newKey = newRow + "," + newCol;
-
-                    if (processed.contains(newKey)) continue;
+                    if (processed.contains(newRow, newCol)) continue;
 
                     // Search if there's a hit at this position
                     for (int[] otherHit : currentShipHits) {
                         if (otherHit[0] == newRow && otherHit[1] == newCol) {
-                            processed.add(newKey);
+                            processed.add(newRow, newCol);
                             group.add(otherHit);
                             queue.add(otherHit);
                             break;
@@ -684,20 +746,19 @@ public class SmartAI {
     /**
      * Selects a shot using probabilistic HUNT mode.
      *
-     * <p>Updates the heat map based on possible ship placements,
+     * <p>Reads the heat map kept up to date by {@link PlacementDensity},
      * then selects a random cell from those with maximum probability.</p>
      *
      * @return coordinates {row, col} of the selected shot
      */
     private int[] getHuntModeShot() {
-        updateHeatMap();
         int maxHeat = -1;
         List<int[]> bestCells = new ArrayList<>();
 
-        for (int row = 0; row < 10; row++) {
-            for (int col = 0; col < 10; col++) {
-                if (hasBeenShot(row, col) || knownBoard[row][col] != 0) continue;
-                int heat = heatMap[row][col];
+        for (int row = 0; row < geometry.getRows(); row++) {
+            for (int col = 0; col < geometry.getCols(); col++) {
+                if (hasBeenShot(row, col) || knownBoard[geometry.index(row, col)] != 0) continue;
+                int heat = density.getHeat(row, col);
                 if (heat > maxHeat) {
                     maxHeat = heat;
                     bestCells.clear();
@@ -709,69 +770,84 @@ public class SmartAI {
         }
 
         return bestCells.isEmpty() ? getRandomAvailableCell() :
-                bestCells.get(new Random().nextInt(bestCells.size()));
+                bestCells.get(random.nextInt(bestCells.size()));
     }
 
     /**
-     * Updates the probability heat map based on possible ship placements.
+     * Selects the shot with the highest estimated hit probability from
+     * layouts drawn by the {@link MonteCarloSampler}.
      *
-     * <p>For each remaining ship size, calculates all valid placements
-     * and increments the heat value of affected cells.</p>
+     * @return coordinates {row, col} of the selected shot, or null if no
+     * consistent layout was found within the budget
      */
-    private void updateHeatMap() {
-        for (int i = 0; i < 10; i++) Arrays.fill(heatMap[i], 0);
-        for (int size = 1; size <= 4; size++) {
-            if (remainingShips[size - 1] <= 0) continue;
-            int count = remainingShips[size - 1];
-            for (int row = 0; row < 10; row++) {
-                for (int col = 0; col < 10; col++) {
-                    if (canPlaceShip(row, col, size, true)) {
-                        for (int i = 0; i < size; i++) heatMap[row][col + i] += count;
-                    }
-                    if (canPlaceShip(row, col, size, false)) {
-                        for (int i = 0; i < size; i++) heatMap[row + i][col] += count;
-                    }
-                }
+    private int[] getMonteCarloShot() {
+        int[] counts = sampler.sample(knownBoard, remainingShips);
+        if (sampler.getLastSampleCount() == 0) return null;
+
+        int best = 0;
+        int ties = 0;
+        int choice = -1;
+        for (int i = 0; i < counts.length; i++) {
+            int row = geometry.rowOf(i);
+            int col = geometry.colOf(i);
+            if (counts[i] == 0 || !isValidTarget(row, col)) continue;
+            if (counts[i] > best) {
+                best = counts[i];
+                ties = 1;
+                choice = i;
+            } else if (counts[i] == best && random.nextInt(++ties) == 0) {
+                choice = i;
             }
         }
+        return choice < 0 ? null : new int[]{geometry.rowOf(choice), geometry.colOf(choice)};
     }
 
     /**
-     * Checks if a ship of given size can be placed at the specified position.
+     * Records what is known about a cell.
      *
-     * @param row starting row
-     * @param col starting column
-     * @param size ship size
-     * @param horizontal true for horizontal placement, false for vertical
-     * @return true if placement is valid, false otherwise
+     * <p>Water (1) and sunk (3) cells can no longer hold a floating ship,
+     * so they are also removed from the placement density.</p>
+     *
+     * @param row row index
+     * @param col column index
+     * @param value 1 = water/miss, 2 = hit, 3 = sunk
      */
-    private boolean canPlaceShip(int row, int col, int size, boolean horizontal) {
-        for (int i = 0; i < size; i++) {
-            int r = horizontal ? row : row + i;
-            int c = horizontal ? col + i : col;
-            if (!isValidCell(r, c) || knownBoard[r][c] == 1 || knownBoard[r][c] == 3) return false;
+    private void markKnown(int row, int col, int value) {
+        knownBoard[geometry.index(row, col)] = (byte) value;
+        if (value == 1 || value == 3) {
+            density.block(row, col);
         }
-        return true;
     }
 
     /**
      * Selects a random available cell from all unshot positions.
      *
-     * <p>Used as a fallback when no better strategy is available.</p>
+     * <p>Used as a fallback when no better strategy is available. If every
+     * unknown cell is exhausted, cells ruled out by the no-touch rule are
+     * tried too, since the enemy fleet may have been placed with touching ships.</p>
      *
      * @return coordinates {row, col} of a random available cell, or {0,0} if none exist
      */
     private int[] getRandomAvailableCell() {
         List<int[]> available = new ArrayList<>();
-        for (int row = 0; row < 10; row++) {
-            for (int col = 0; col < 10; col++) {
-                if (!hasBeenShot(row, col) && knownBoard[row][col] == 0) {
+        for (int row = 0; row < geometry.getRows(); row++) {
+            for (int col = 0; col < geometry.getCols(); col++) {
+                if (!hasBeenShot(row, col) && knownBoard[geometry.index(row, col)] == 0) {
                     available.add(new int[]{row, col});
                 }
             }
         }
+        if (available.isEmpty()) {
+            for (int row = 0; row < geometry.getRows(); row++) {
+                for (int col = 0; col < geometry.getCols(); col++) {
+                    if (!hasBeenShot(row, col)) {
+                        available.add(new int[]{row, col});
+                    }
+                }
+            }
+        }
         return available.isEmpty() ? new int[]{0, 0} :
-                available.get(new Random().nextInt(available.size()));
+                available.get(random.nextInt(available.size()));
     }
 
     /**
@@ -782,7 +858,7 @@ public class SmartAI {
      * @return true if the cell has been shot, false otherwise
      */
     private boolean hasBeenShot(int row, int col) {
-        return shotHistory.contains(row + "," + col);
+        return shotHistory.contains(row, col);
     }
 
     /**
@@ -790,10 +866,10 @@ public class SmartAI {
      *
      * @param row row index
      * @param col column index
-     * @return true if the cell is within bounds (0-9), false otherwise
+     * @return true if the cell is within the board bounds, false otherwise
      */
     private boolean isValidCell(int row, int col) {
-        return row >= 0 && row < 10 && col >= 0 && col < 10;
+        return geometry.contains(row, col);
     }
 
     /**
@@ -802,6 +878,7 @@ public class SmartAI {
      * <p>Clears all tracking data, resets ship counts, and
      * reinitializes the knowledge board and heat map.</p>
      */
+    @Override
     public void reset() {
         currentMode = Mode.HUNT;
         targetQueue.clear();
@@ -809,10 +886,48 @@ public class SmartAI {
         shotHistory.clear();
         remainingShips[0] = 4; remainingShips[1] = 3;
         remainingShips[2] = 2; remainingShips[3] = 1;
-        for (int i = 0; i < 10; i++) {
-            Arrays.fill(knownBoard[i], 0);
-            Arrays.fill(heatMap[i], 0);
-        }
+        Arrays.fill(knownBoard, (byte) 0);
+        density.reset(remainingShips);
+    }
+
+    /**
+     * Enables or disables the console trace of AI decisions.
+     * Headless simulations turn it off; the UI keeps it on.
+     *
+     * @param verbose true to print decisions to the console
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    /**
+     * Switches between Monte Carlo sampling and the heat map heuristics.
+     *
+     * @param sampler layout sampler for this AI's board, or null for the heuristics
+     */
+    public void setMonteCarloSampler(MonteCarloSampler sampler) {
+        this.sampler = sampler;
+    }
+
+    /**
+     * Returns the hunt heat of a cell: how many placements of the remaining
+     * ships still cover it, weighted as in HUNT mode.
+     *
+     * @param row row index
+     * @param col column index
+     * @return heat of the cell
+     */
+    public int getHeat(int row, int col) {
+        return density.getHeat(row, col);
+    }
+
+    /**
+     * Indicates whether shots are chosen by Monte Carlo sampling.
+     *
+     * @return true if a layout sampler is set
+     */
+    public boolean isMonteCarlo() {
+        return sampler != null;
     }
 
 /**
@@ -0,0 +1,354 @@
+package com.example.battleship.Model.Board;
+
+import com.example.battleship.Model.Exceptions.InvalidPositionException;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Implementation of the {@link IBoard} interface that packs the grid
+ * into {@code long} bitplanes instead of a map of boxed values.
+ *
+ * <p>Each cell {@code (row, col)} is mapped to bit {@code row * cols + col}
+ * (see {@link BoardGeometry#index(int, int)}) of three planes:</p>
+ * <ul>
+ *   <li><b>ship</b>: the cell is occupied by a ship (hit or not)</li>
+ *   <li><b>miss</b>: the cell was shot and contained water</li>
+ *   <li><b>hit</b>: the cell was shot and contained a ship</li>
+ * </ul>
+ *
+ * <p>The usual cell values are preserved by {@link #getCell(int, int)} and
+ * {@link #setCell(int, int, int)}: 0 = water, 1 = ship, 2 = miss, 3 = hit.
+ * Whole-board queries ("all unshot cells", "all hits", ...) are answered with
+ * bitwise operations over the planes.</p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see Board
+ */
+public class BitBoard extends BoardAdapter implements Serializable {
+
+    /** Serialization version identifier. */
+    private static final long serialVersionUID = 1L;
+
+    /** Dimensions of the board. */
+    private final BoardGeometry geometry;
+
+    /** Cells occupied by a ship. */
+    private final long[] shipPlane;
+
+    /** Cells shot that contained water. */
+    private final long[] missPlane;
+
+    /** Cells shot that contained a ship. */
+    private final long[] hitPlane;
+
+    /**
+     * Creates an empty 10x10 board (all cells are water).
+     */
+    public BitBoard() {
+        this(BoardGeometry.STANDARD);
+    }
+
+    /**
+     * Creates an empty board with the given dimensions.
+     *
+     * @param geometry board dimensions
+     */
+    public BitBoard(BoardGeometry geometry) {
+        this.geometry = geometry;
+        int words = geometry.getWordCount();
+        this.shipPlane = new long[words];
+        this.missPlane = new long[words];
+        this.hitPlane = new long[words];
+    }
+
+    /**
+     * Creates a bit board holding the same cell values as another board.
+     * <p>
+     * This is the migration path for games saved with the legacy
+     * {@link Board}: the old board is read cell by cell and its values are
+     * copied into the planes.
+     * </p>
+     *
+     * @param source board to copy
+     * @return a new bit board with the same contents
+     */
+    public static BitBoard copyOf(IBoard source) {
+        BoardGeometry sourceGeometry = source.getGeometry();
+        BitBoard copy = new BitBoard(sourceGeometry);
+        for (int r = 0; r < sourceGeometry.getRows(); r++) {
+            for (int c = 0; c < sourceGeometry.getCols(); c++) {
+                int value = source.getCell(r, c);
+                if (value != 0) {
+                    copy.setCell(r, c, value);
+                }
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Creates a bit board from saved planes, e.g. when a binary save is read.
+     * A hit cell is always a ship cell, whatever the ship plane says.
+     *
+     * @param geometry board dimensions
+     * @param ships    cells occupied by a ship
+     * @param misses   cells shot that contained water
+     * @param hits     cells shot that contained a ship
+     * @return a new bit board holding copies of the planes
+     * @throws IllegalArgumentException if a plane does not match the geometry
+     */
+    public static BitBoard fromPlanes(BoardGeometry geometry, long[] ships, long[] misses, long[] hits) {
+        BitBoard board = new BitBoard(geometry);
+        int words = geometry.getWordCount();
+        if (ships.length != words || misses.length != words || hits.length != words) {
+            throw new IllegalArgumentException("Planes do not match " + geometry);
+        }
+        for (int w = 0; w < words; w++) {
+            long valid = geometry.validMask(w);
+            board.hitPlane[w] = hits[w] & valid;
+            board.missPlane[w] = misses[w] & ~hits[w] & valid;
+            board.shipPlane[w] = (ships[w] | hits[w]) & valid;
+        }
+        return board;
+    }
+
+    /**
+     * Sets a value in the board at the given coordinates.
+     *
+     * @param row   0-based row index
+     * @param col   0-based column index
+     * @param value 0 = water, 1 = ship, 2 = miss, 3 = hit
+     * @throws InvalidPositionException if the coordinates are outside the board
+     * @throws IllegalArgumentException if the value is not one of the known cell states
+     */
+    @Override
+    public void setCell(int row, int col, int value) {
+        if (!isInside(row, col)) {
+            throw new InvalidPositionException("Out of bounds: (" + row + "," + col + ")");
+        }
+
+        int index = geometry.index(row, col);
+        int word = index >>> 6;
+        long bit = 1L << index;
+
+        shipPlane[word] &= ~bit;
+        missPlane[word] &= ~bit;
+        hitPlane[word] &= ~bit;
+
+        switch (value) {
+            case 0 -> { }
+            case 1 -> shipPlane[word] |= bit;
+            case 2 -> missPlane[word] |= bit;
+            case 3 -> {
+                shipPlane[word] |= bit;
+                hitPlane[word] |= bit;
+            }
+            default -> throw new IllegalArgumentException("Unknown cell value: " + value);
+        }
+    }
+
+    /**
+     * Returns the value at the given coordinates.
+     *
+     * @param row 0-based row index
+     * @param col 0-based column index
+     * @return 0 = water, 1 = ship, 2 = miss, 3 = hit; 0 if the position is outside the board
+     */
+    @Override
+    public int getCell(int row, int col) {
+        if (!isInside(row, col)) {
+            return 0;
+        }
+
+        int index = geometry.index(row, col);
+        int word = index >>> 6;
+        long bit = 1L << index;
+
+        if ((hitPlane[word] & bit) != 0) return 3;
+        if ((missPlane[word] & bit) != 0) return 2;
+        if ((shipPlane[word] & bit) != 0) return 1;
+        return 0;
+    }
+
+    /**
+     * Checks whether the cell has already received a shot (miss or hit).
+     *
+     * @param row 0-based row index
+     * @param col 0-based column index
+     * @return true if the cell was shot
+     */
+    public boolean isShot(int row, int col) {
+        if (!isInside(row, col)) return false;
+        int index = geometry.index(row, col);
+        return ((missPlane[index >>> 6] | hitPlane[index >>> 6]) & (1L << index)) != 0;
+    }
+
+    /**
+     * Checks whether the cell is occupied by a ship, hit or not.
+     *
+     * @param row 0-based row index
+     * @param col 0-based column index
+     * @return true if a ship occupies the cell
+     */
+    public boolean hasShip(int row, int col) {
+        if (!isInside(row, col)) return false;
+        int index = geometry.index(row, col);
+        return (shipPlane[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the cells that have not been shot yet, as a bitplane copy.
+     *
+     * @return plane with one bit set per unshot cell
+     */
+    public long[] getUnshotCells() {
+        long[] result = new long[shipPlane.length];
+        for (int w = 0; w < result.length; w++) {
+            result[w] = ~(missPlane[w] | hitPlane[w]) & geometry.validMask(w);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the cells that were hit, as a bitplane copy.
+     *
+     * @return plane with one bit set per hit
+     */
+    public long[] getHitCells() {
+        return hitPlane.clone();
+    }
+
+    /**
+     * Returns the cells that were shot and missed, as a bitplane copy.
+     *
+     * @return plane with one bit set per miss
+     */
+    public long[] getMissCells() {
+        return missPlane.clone();
+    }
+
+    /**
+     * Returns the cells occupied by ships, as a bitplane copy.
+     *
+     * @return plane with one bit set per ship cell
+     */
+    public long[] getShipCells() {
+        return shipPlane.clone();
+    }
+
+    /**
+     * Checks whether a placement is clear of ships, as one mask intersection.
+     *
+     * @param table     placements of one ship size on this board's geometry
+     * @param placement placement number in the table
+     * @return true if no cell of the placement holds a ship
+     */
+    public boolean isFree(PlacementTable table, int placement) {
+        return !table.intersects(placement, shipPlane);
+    }
+
+    /**
+     * Counts ship cells that have not been hit yet.
+     *
+     * @return number of intact ship cells
+     */
+    public int countIntactShipCells() {
+        int count = 0;
+        for (int w = 0; w < shipPlane.length; w++) {
+            count += Long.bitCount(shipPlane[w] & ~hitPlane[w]);
+        }
+        return count;
+    }
+
+    /**
+     * Counts the cells that were hit.
+     *
+     * @return number of hits on this board
+     */
+    public int countHits() {
+        int count = 0;
+        for (long word : hitPlane) count += Long.bitCount(word);
+        return count;
+    }
+
+    /**
+     * Counts the cells that were shot and missed.
+     *
+     * @return number of misses on this board
+     */
+    public int countMisses() {
+        int count = 0;
+        for (long word : missPlane) count += Long.bitCount(word);
+        return count;
+    }
+
+    /**
+     * Counts the cells that have not been shot yet.
+     *
+     * @return number of unshot cells
+     */
+    public int countUnshot() {
+        return geometry.getCellCount() - countHits() - countMisses();
+    }
+
+    /**
+     * Returns the dimensions of the board.
+     *
+     * @return the board geometry
+     */
+    @Override
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * Prints the board to standard output, one row of numbers per line.
+     * This method is intended for debugging and quick visual inspection.
+     */
+    @Override
+    public void printBoard() {
+        System.out.print("\n ");
+        for (int c = 0; c < geometry.getCols(); c++) System.out.print(" " + c);
+        System.out.println();
+        for (int r = 0; r < geometry.getRows(); r++) {
+            System.out.print(r + " ");
+            for (int c = 0; c < geometry.getCols(); c++) {
+                System.out.print(getCell(r, c) + " ");
+            }
+            System.out.println();
+        }
+    }
+
+    /**
+     * Compares the planes of two bit boards.
+     *
+     * @param o other object
+     * @return true if both boards hold the same cell values
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BitBoard other)) return false;
+        return geometry.equals(other.geometry)
+                && Arrays.equals(shipPlane, other.shipPlane)
+                && Arrays.equals(missPlane, other.missPlane)
+                && Arrays.equals(hitPlane, other.hitPlane);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(shipPlane);
+        result = 31 * result + Arrays.hashCode(missPlane);
+        result = 31 * result + Arrays.hashCode(hitPlane);
+        return result;
+    }
+
+    /**
+     * Checks whether the coordinates are inside the board.
+     */
+    private boolean isInside(int row, int col) {
+        return geometry.contains(row, col);
+    }
+}
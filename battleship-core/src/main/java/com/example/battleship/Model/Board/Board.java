@@ -0,0 +1,135 @@
+package com.example.battleship.Model.Board;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * Implementation of the {@link IBoard} interface using a flat {@code byte[]}
+ * grid. Each cell is stored at index {@code row * cols + col} (see
+ * {@link BoardGeometry}).
+ *
+ * <p>The game itself plays on {@link BitBoard}; this class is kept so saves
+ * written by earlier versions can still be deserialized and migrated with
+ * {@link BitBoard#copyOf(IBoard)}. Those saves stored the grid as a
+ * {@code HashMap<String,Integer>} keyed by "row,col"; {@link #readObject}
+ * converts that form on the fly.</p>
+ *
+ */
+public class Board extends BoardAdapter implements Serializable {
+    /** Serialization version identifier, pinned to the value of the original class. */
+    private static final long serialVersionUID = 1141132383314281917L;
+
+    /** Dimensions of the board. */
+    private BoardGeometry geometry;
+
+    /** Cell values indexed by {@code row * cols + col}. */
+    private byte[] cells;
+
+    /**
+     * Creates a 10x10 board and initializes all cells to 0.
+     *
+     */
+    public Board() {
+        this(BoardGeometry.STANDARD);
+    }
+
+    /**
+     * Creates a board with the given dimensions and initializes all cells to 0.
+     *
+     * @param geometry board dimensions
+     */
+    public Board(BoardGeometry geometry) {
+        this.geometry = geometry;
+        this.cells = new byte[geometry.getCellCount()];
+    }
+
+    /**
+     * Sets a value in the board at the given coordinates.
+     * Positions outside the board are ignored.
+     *
+     * @param row   0-based row index
+     * @param col   0-based column index
+     * @param value value to set for the cell (0 = water, 1 = ship, 2 = miss, 3 = hit)
+     */
+    @Override
+    public void setCell(int row, int col, int value) {
+        if (geometry.contains(row, col)) {
+            cells[geometry.index(row, col)] = (byte) value;
+        }
+    }
+
+    /**
+     * Returns the value at the given coordinates.
+     *
+     * @param row 0-based row index
+     * @param col 0-based column index
+     * @return the integer stored at the cell, or 0 if the position is not present
+     */
+    @Override
+    public int getCell(int row, int col) {
+        if (!geometry.contains(row, col)) {
+            return 0;
+        }
+        return cells[geometry.index(row, col)];
+    }
+
+    /**
+     * Returns the dimensions of the board.
+     *
+     * @return the board geometry
+     */
+    @Override
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * Prints the board to standard output, one row of numbers per line.
+     * This method is intended for debugging and quick visual inspection.
+     */
+    @Override
+    public void printBoard() {
+        System.out.print("\n ");
+        for (int c = 0; c < geometry.getCols(); c++) System.out.print(" " + c);
+        System.out.println();
+        for (int r = 0; r < geometry.getRows(); r++) {
+            System.out.print(r + " ");
+            for (int c = 0; c < geometry.getCols(); c++) {
+                System.out.print(getCell(r, c) + " ");
+            }
+            System.out.println();
+        }
+    }
+
+    /**
+     * Reads either the current form (geometry + cells) or the legacy form
+     * (ROWS, COLS and a "row,col" keyed map) of a serialized board.
+     *
+     * @param in stream to read from
+     * @throws IOException if the stream cannot be read
+     * @throws ClassNotFoundException if a serialized class is missing
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        boolean legacy = fields.getObjectStreamClass().getField("board") != null;
+
+        if (legacy && fields.get("board", null) instanceof Map<?, ?> map) {
+            geometry = BoardGeometry.of(fields.get("ROWS", 10), fields.get("COLS", 10));
+            cells = new byte[geometry.getCellCount()];
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                String[] parts = String.valueOf(entry.getKey()).split(",");
+                int row = Integer.parseInt(parts[0]);
+                int col = Integer.parseInt(parts[1]);
+                setCell(row, col, ((Number) entry.getValue()).intValue());
+            }
+        } else {
+            geometry = (BoardGeometry) fields.get("geometry", BoardGeometry.STANDARD);
+            cells = (byte[]) fields.get("cells", null);
+            if (cells == null) {
+                cells = new byte[geometry.getCellCount()];
+            }
+        }
+    }
+}
@@ -51,6 +51,17 @@ public abstract class BoardAdapter implements IBoard {
         // Default nothing
     }
 
+    /**
+     * Returns the dimensions of the board.
+     * <p>Default implementation returns the standard 10x10 geometry.</p>
+     *
+     * @return the board geometry
+     */
+    @Override
+    public BoardGeometry getGeometry() {
+        return BoardGeometry.STANDARD;
+    }
+
     /**
      * Returns the wrapped Board instance.
      * Useful if you need direct access to the underlying Board object.
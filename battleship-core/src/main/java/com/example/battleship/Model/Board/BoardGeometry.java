@@ -0,0 +1,188 @@
+package com.example.battleship.Model.Board;
+
+import java.io.Serializable;
+
+/**
+ * Describes the dimensions of a rectangular board and maps cells to flat indices.
+ *
+ * <p>Every cell {@code (row, col)} is addressed by the index
+ * {@code row * cols + col}, so boards, AI maps and shot trackers can store
+ * their data in flat primitive arrays ({@code byte[]}, {@code int[]},
+ * {@code long[]} bitplanes) instead of nested arrays or hashed keys.</p>
+ *
+ * <p>Instances are immutable. {@link #STANDARD} is the classic 10x10 board;
+ * larger geometries (20x20, 32x32, ...) are used for AI-vs-AI soak tests.</p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+public final class BoardGeometry implements Serializable {
+
+    /** Serialization version identifier. */
+    private static final long serialVersionUID = 1L;
+
+    /** The classic 10x10 Battleship board. */
+    public static final BoardGeometry STANDARD = new BoardGeometry(10, 10);
+
+    /** Number of rows. */
+    private final int rows;
+
+    /** Number of columns. */
+    private final int cols;
+
+    /**
+     * Creates a geometry with the given dimensions.
+     *
+     * @param rows number of rows (at least 1)
+     * @param cols number of columns (at least 1)
+     * @throws IllegalArgumentException if a dimension is not positive
+     */
+    private BoardGeometry(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Invalid board size: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    /**
+     * Returns a geometry with the given dimensions.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     * @return the geometry ({@link #STANDARD} for 10x10)
+     */
+    public static BoardGeometry of(int rows, int cols) {
+        if (rows == STANDARD.rows && cols == STANDARD.cols) {
+            return STANDARD;
+        }
+        return new BoardGeometry(rows, cols);
+    }
+
+    /**
+     * Returns a square geometry.
+     *
+     * @param size number of rows and columns
+     * @return the geometry
+     */
+    public static BoardGeometry square(int size) {
+        return of(size, size);
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return columns
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Returns the total number of cells.
+     *
+     * @return rows * cols
+     */
+    public int getCellCount() {
+        return rows * cols;
+    }
+
+    /**
+     * Returns the number of 64-bit words needed to hold one bit per cell.
+     *
+     * @return words per bitplane
+     */
+    public int getWordCount() {
+        return (rows * cols + 63) >>> 6;
+    }
+
+    /**
+     * Checks whether a coordinate lies inside the board.
+     *
+     * @param row row index
+     * @param col column index
+     * @return true if 0 &lt;= row &lt; rows and 0 &lt;= col &lt; cols
+     */
+    public boolean contains(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+
+    /**
+     * Converts a coordinate into its flat cell index. The coordinate is not validated.
+     *
+     * @param row row index
+     * @param col column index
+     * @return row * cols + col
+     */
+    public int index(int row, int col) {
+        return row * cols + col;
+    }
+
+    /**
+     * Returns the row of a flat cell index.
+     *
+     * @param index cell index
+     * @return row
+     */
+    public int rowOf(int index) {
+        return index / cols;
+    }
+
+    /**
+     * Returns the column of a flat cell index.
+     *
+     * @param index cell index
+     * @return column
+     */
+    public int colOf(int index) {
+        return index % cols;
+    }
+
+    /**
+     * Returns the mask of valid cell bits for a bitplane word; only the last word can be partial.
+     *
+     * @param word word index
+     * @return mask with one bit per existing cell
+     */
+    public long validMask(int word) {
+        int remaining = getCellCount() - (word << 6);
+        if (remaining >= 64) return -1L;
+        if (remaining <= 0) return 0L;
+        return (1L << remaining) - 1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BoardGeometry other)) return false;
+        return rows == other.rows && cols == other.cols;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * rows + cols;
+    }
+
+    @Override
+    public String toString() {
+        return rows + "x" + cols;
+    }
+
+    /**
+     * Keeps {@link #STANDARD} canonical after deserialization.
+     *
+     * @return the canonical instance for these dimensions
+     */
+    private Object readResolve() {
+        return of(rows, cols);
+    }
+}
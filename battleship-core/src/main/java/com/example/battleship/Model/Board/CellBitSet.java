@@ -0,0 +1,243 @@
+package com.example.battleship.Model.Board;
+
+import com.example.battleship.Model.Exceptions.InvalidPositionException;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Set of board cells stored as one bit per cell.
+ *
+ * <p>Used to track the cells a player has already shot at. Cell
+ * {@code (row, col)} is bit {@code row * cols + col} (see
+ * {@link BoardGeometry#index(int, int)}), so adding a cell and testing
+ * membership are single bit operations and nothing is boxed.</p>
+ *
+ * <p>The serialized form is the geometry followed by the bits packed into
+ * {@code ceil(cells / 8)} bytes: 13 bytes for a 10x10 board.</p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+public final class CellBitSet implements Serializable {
+
+    /** Serialization version identifier. */
+    private static final long serialVersionUID = 1L;
+
+    /** Dimensions of the board the cells belong to. */
+    private final BoardGeometry geometry;
+
+    /** One bit per cell; written by hand in {@link #writeObject}. */
+    private transient long[] words;
+
+    /** Number of cells in the set. */
+    private transient int size;
+
+    /**
+     * Creates an empty set for the given board.
+     *
+     * @param geometry board dimensions
+     */
+    public CellBitSet(BoardGeometry geometry) {
+        this.geometry = geometry;
+        this.words = new long[geometry.getWordCount()];
+    }
+
+    /**
+     * Creates a set from legacy {@code "row,col"} keys, as stored by saves
+     * written before shots were tracked with bitsets. Malformed or
+     * out-of-bounds keys are skipped.
+     *
+     * @param geometry board dimensions
+     * @param keys     cells in {@code "row,col"} format
+     * @return a new set containing the parsed cells
+     */
+    public static CellBitSet fromKeys(BoardGeometry geometry, Collection<?> keys) {
+        CellBitSet set = new CellBitSet(geometry);
+        for (Object key : keys) {
+            String[] parts = String.valueOf(key).split(",");
+            if (parts.length != 2) continue;
+            try {
+                int row = Integer.parseInt(parts[0].trim());
+                int col = Integer.parseInt(parts[1].trim());
+                if (geometry.contains(row, col)) {
+                    set.add(row, col);
+                }
+            } catch (NumberFormatException ignored) {
+                // Skip corrupted entries
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Adds a cell to the set.
+     *
+     * @param row 0-based row index
+     * @param col 0-based column index
+     * @return true if the cell was not in the set yet
+     * @throws InvalidPositionException if the coordinates are outside the board
+     */
+    public boolean add(int row, int col) {
+        int index = indexOf(row, col);
+        long bit = 1L << index;
+        long word = words[index >>> 6];
+        if ((word & bit) != 0) {
+            return false;
+        }
+        words[index >>> 6] = word | bit;
+        size++;
+        return true;
+    }
+
+    /**
+     * Checks whether a cell is in the set.
+     *
+     * @param row 0-based row index
+     * @param col 0-based column index
+     * @return true if the cell was added; false if it was not or lies outside the board
+     */
+    public boolean contains(int row, int col) {
+        if (!geometry.contains(row, col)) {
+            return false;
+        }
+        int index = geometry.index(row, col);
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the first cell index at or after {@code fromIndex} that is in the set.
+     * Used to iterate the set in board order:
+     * {@code for (int i = set.nextCell(0); i >= 0; i = set.nextCell(i + 1))}.
+     *
+     * @param fromIndex cell index to start from
+     * @return the next cell index, or -1 if there is none
+     */
+    public int nextCell(int fromIndex) {
+        int cells = geometry.getCellCount();
+        if (fromIndex < 0) fromIndex = 0;
+        if (fromIndex >= cells) return -1;
+
+        int wordIndex = fromIndex >>> 6;
+        long word = words[wordIndex] & (-1L << fromIndex);
+        while (true) {
+            if (word != 0) {
+                int index = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                return index < cells ? index : -1;
+            }
+            if (++wordIndex == words.length) return -1;
+            word = words[wordIndex];
+        }
+    }
+
+    /**
+     * Returns the number of cells in the set.
+     *
+     * @return set size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the set is empty.
+     *
+     * @return true if no cell was added
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every cell from the set.
+     */
+    public void clear() {
+        Arrays.fill(words, 0L);
+        size = 0;
+    }
+
+    /**
+     * Returns the dimensions of the board the cells belong to.
+     *
+     * @return board geometry
+     */
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * Returns the bit index of a cell, validating the coordinates.
+     */
+    private int indexOf(int row, int col) {
+        if (!geometry.contains(row, col)) {
+            throw new InvalidPositionException("Out of bounds: (" + row + "," + col + ")");
+        }
+        return geometry.index(row, col);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CellBitSet other)) return false;
+        return geometry.equals(other.geometry) && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * geometry.hashCode() + Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("[");
+        for (int i = nextCell(0); i >= 0; i = nextCell(i + 1)) {
+            if (text.length() > 1) text.append(", ");
+            text.append(geometry.rowOf(i)).append(',').append(geometry.colOf(i));
+        }
+        return text.append(']').toString();
+    }
+
+    /**
+     * Writes the geometry and the bits packed into bytes.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        byte[] packed = new byte[(geometry.getCellCount() + 7) >>> 3];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = (byte) (words[i >>> 3] >>> ((i & 7) << 3));
+        }
+        out.writeInt(packed.length);
+        out.write(packed);
+    }
+
+    /**
+     * Reads the geometry and unpacks the bits.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int length = in.readInt();
+        if (geometry == null || length != (geometry.getCellCount() + 7) >>> 3) {
+            throw new InvalidObjectException("Cell set does not match its geometry");
+        }
+        byte[] packed = new byte[length];
+        in.readFully(packed);
+
+        words = new long[geometry.getWordCount()];
+        for (int i = 0; i < packed.length; i++) {
+            words[i >>> 3] |= (packed[i] & 0xFFL) << ((i & 7) << 3);
+        }
+        int cells = geometry.getCellCount();
+        if ((cells & 63) != 0) {
+            words[words.length - 1] &= (1L << cells) - 1;
+        }
+        size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+    }
+}
@@ -28,4 +28,10 @@ public interface IBoard {
      * Prints the board
      */
     void printBoard();
+
+    /**
+     * Returns the dimensions of the board
+     * @return the board geometry
+     */
+    BoardGeometry getGeometry();
 }
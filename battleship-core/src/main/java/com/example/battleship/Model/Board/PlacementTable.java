@@ -0,0 +1,329 @@
+package com.example.battleship.Model.Board;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Every placement of one ship size on an empty board, with the cells of each
+ * placement stored as a bitmask.
+ *
+ * <p>A placement is a start cell (top-left end) and an orientation. Its mask
+ * uses the flat cell index of {@link BoardGeometry}, the same layout as the
+ * {@code long[]} bitplanes of {@link BitBoard}, so checking a placement against
+ * a plane is a word-wise AND instead of a walk over the cells. Only the words
+ * a placement spans are stored. Like the original heat map, a one-cell ship
+ * has a horizontal and a vertical placement on each cell.</p>
+ *
+ * <p>Tables are built lazily on first use, one per geometry and size, and then
+ * shared: they are immutable and safe to use from any thread.</p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+public final class PlacementTable {
+
+    /** Tables built so far, keyed by {@link #key(BoardGeometry, int)} */
+    private static final ConcurrentHashMap<Long, PlacementTable> TABLES = new ConcurrentHashMap<>();
+
+    /** Dimensions of the board */
+    private final BoardGeometry geometry;
+
+    /** Length of the ship */
+    private final int shipSize;
+
+    /** Start cell of each placement */
+    private final int[] starts;
+
+    /** Orientation of each placement */
+    private final boolean[] vertical;
+
+    /** Placement of each start cell and orientation: {@code index * 2 + (vertical ? 1 : 0)}, or -1 */
+    private final int[] lookup;
+
+    /** First word spanned by each placement's mask */
+    private final int[] firstWord;
+
+    /** Offset of each placement's mask words in {@link #masks}; one extra entry closes the last range */
+    private final int[] maskOffsets;
+
+    /** Mask words of every placement, back to back */
+    private final long[] masks;
+
+    /** First word spanned by each placement's halo (the ship and the cells around it) */
+    private final int[] haloFirstWord;
+
+    /** Offset of each placement's halo words in {@link #halos}; one extra entry closes the last range */
+    private final int[] haloOffsets;
+
+    /** Halo words of every placement, back to back */
+    private final long[] halos;
+
+    /** Offset of each cell's entries in {@link #covering}; one extra entry closes the last range */
+    private final int[] coverOffsets;
+
+    /** Placements covering each cell, grouped by cell */
+    private final int[] covering;
+
+    /**
+     * Returns the table of a ship size on a board geometry, building it on first use.
+     *
+     * @param geometry dimensions of the board
+     * @param shipSize length of the ship (at least 1)
+     * @return the shared table
+     * @throws IllegalArgumentException if the ship size is not positive
+     */
+    public static PlacementTable of(BoardGeometry geometry, int shipSize) {
+        if (shipSize < 1) {
+            throw new IllegalArgumentException("Invalid ship size: " + shipSize);
+        }
+        return TABLES.computeIfAbsent(key(geometry, shipSize), k -> new PlacementTable(geometry, shipSize));
+    }
+
+    /**
+     * Packs a geometry and a ship size into a cache key.
+     */
+    private static long key(BoardGeometry geometry, int shipSize) {
+        return ((long) geometry.getRows() << 42) | ((long) geometry.getCols() << 21) | shipSize;
+    }
+
+    /**
+     * Enumerates the placements and builds their masks.
+     */
+    private PlacementTable(BoardGeometry geometry, int shipSize) {
+        this.geometry = geometry;
+        this.shipSize = shipSize;
+
+        int rows = geometry.getRows();
+        int cols = geometry.getCols();
+        int cells = geometry.getCellCount();
+
+        int[] startList = new int[cells * 2];
+        boolean[] verticalList = new boolean[cells * 2];
+        int count = 0;
+        lookup = new int[cells * 2];
+        Arrays.fill(lookup, -1);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int start = geometry.index(row, col);
+                if (col + shipSize <= cols) {
+                    lookup[start * 2] = count;
+                    startList[count] = start;
+                    verticalList[count++] = false;
+                }
+                if (row + shipSize <= rows) {
+                    lookup[start * 2 + 1] = count;
+                    startList[count] = start;
+                    verticalList[count++] = true;
+                }
+            }
+        }
+        starts = Arrays.copyOf(startList, count);
+        vertical = Arrays.copyOf(verticalList, count);
+
+        firstWord = new int[count];
+        maskOffsets = new int[count + 1];
+        haloFirstWord = new int[count];
+        haloOffsets = new int[count + 1];
+        for (int p = 0; p < count; p++) {
+            int last = getCell(p, shipSize - 1);
+            firstWord[p] = starts[p] >>> 6;
+            maskOffsets[p + 1] = maskOffsets[p] + (last >>> 6) - firstWord[p] + 1;
+
+            int haloFirst = geometry.index(Math.max(0, getRow(p) - 1), Math.max(0, getCol(p) - 1));
+            int haloLast = geometry.index(Math.min(rows - 1, geometry.rowOf(last) + 1),
+                                          Math.min(cols - 1, geometry.colOf(last) + 1));
+            haloFirstWord[p] = haloFirst >>> 6;
+            haloOffsets[p + 1] = haloOffsets[p] + (haloLast >>> 6) - haloFirstWord[p] + 1;
+        }
+
+        masks = new long[maskOffsets[count]];
+        halos = new long[haloOffsets[count]];
+        int[] coverCounts = new int[cells];
+        for (int p = 0; p < count; p++) {
+            for (int i = 0; i < shipSize; i++) {
+                int cell = getCell(p, i);
+                masks[maskOffsets[p] + (cell >>> 6) - firstWord[p]] |= 1L << cell;
+                coverCounts[cell]++;
+            }
+
+            int lastRow = geometry.rowOf(getCell(p, shipSize - 1));
+            int lastCol = geometry.colOf(getCell(p, shipSize - 1));
+            for (int r = Math.max(0, getRow(p) - 1); r <= Math.min(rows - 1, lastRow + 1); r++) {
+                for (int c = Math.max(0, getCol(p) - 1); c <= Math.min(cols - 1, lastCol + 1); c++) {
+                    int cell = geometry.index(r, c);
+                    halos[haloOffsets[p] + (cell >>> 6) - haloFirstWord[p]] |= 1L << cell;
+                }
+            }
+        }
+
+        coverOffsets = new int[cells + 1];
+        for (int cell = 0; cell < cells; cell++) {
+            coverOffsets[cell + 1] = coverOffsets[cell] + coverCounts[cell];
+        }
+        covering = new int[coverOffsets[cells]];
+        int[] fill = Arrays.copyOf(coverOffsets, cells);
+        for (int p = 0; p < count; p++) {
+            for (int i = 0; i < shipSize; i++) {
+                covering[fill[getCell(p, i)]++] = p;
+            }
+        }
+    }
+
+    /**
+     * Returns the dimensions of the board.
+     *
+     * @return board geometry
+     */
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * Returns the length of the ship.
+     *
+     * @return ship size
+     */
+    public int getShipSize() {
+        return shipSize;
+    }
+
+    /**
+     * Returns the number of placements.
+     *
+     * @return placement count
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * Returns the placement starting at a cell, if it fits on the board.
+     *
+     * @param row      row of the top-left end
+     * @param col      column of the top-left end
+     * @param vertical true for a vertical ship
+     * @return placement number, or -1 if the ship would leave the board
+     */
+    public int find(int row, int col, boolean vertical) {
+        if (!geometry.contains(row, col)) {
+            return -1;
+        }
+        return lookup[geometry.index(row, col) * 2 + (vertical ? 1 : 0)];
+    }
+
+    /**
+     * Returns the cell index of the top-left end of a placement.
+     *
+     * @param placement placement number
+     * @return start cell index
+     */
+    public int getStart(int placement) {
+        return starts[placement];
+    }
+
+    /**
+     * Returns the row of the top-left end of a placement.
+     *
+     * @param placement placement number
+     * @return row index
+     */
+    public int getRow(int placement) {
+        return geometry.rowOf(starts[placement]);
+    }
+
+    /**
+     * Returns the column of the top-left end of a placement.
+     *
+     * @param placement placement number
+     * @return column index
+     */
+    public int getCol(int placement) {
+        return geometry.colOf(starts[placement]);
+    }
+
+    /**
+     * Indicates whether a placement is vertical.
+     *
+     * @param placement placement number
+     * @return true if vertical, false if horizontal
+     */
+    public boolean isVertical(int placement) {
+        return vertical[placement];
+    }
+
+    /**
+     * Returns one cell of a placement.
+     *
+     * @param placement placement number
+     * @param i         0 for the top-left end, up to {@code shipSize - 1}
+     * @return cell index
+     */
+    public int getCell(int placement, int i) {
+        return starts[placement] + i * (vertical[placement] ? geometry.getCols() : 1);
+    }
+
+    /**
+     * Checks whether a placement covers any cell set in a plane.
+     *
+     * @param placement placement number
+     * @param plane     bitplane of this geometry
+     * @return true if at least one cell of the placement is set
+     */
+    public boolean intersects(int placement, long[] plane) {
+        int word = firstWord[placement];
+        for (int i = maskOffsets[placement]; i < maskOffsets[placement + 1]; i++, word++) {
+            if ((masks[i] & plane[word]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets the cells of a placement in a plane.
+     *
+     * @param placement placement number
+     * @param plane     bitplane of this geometry
+     */
+    public void addTo(int placement, long[] plane) {
+        int word = firstWord[placement];
+        for (int i = maskOffsets[placement]; i < maskOffsets[placement + 1]; i++, word++) {
+            plane[word] |= masks[i];
+        }
+    }
+
+    /**
+     * Sets the cells of a placement and every cell touching it, diagonals
+     * included, in a plane. Used to enforce the no-touch rule.
+     *
+     * @param placement placement number
+     * @param plane     bitplane of this geometry
+     */
+    public void addHaloTo(int placement, long[] plane) {
+        int word = haloFirstWord[placement];
+        for (int i = haloOffsets[placement]; i < haloOffsets[placement + 1]; i++, word++) {
+            plane[word] |= halos[i];
+        }
+    }
+
+    /**
+     * Returns the number of placements covering a cell.
+     *
+     * @param cell cell index
+     * @return placement count
+     */
+    public int getCoverCount(int cell) {
+        return coverOffsets[cell + 1] - coverOffsets[cell];
+    }
+
+    /**
+     * Returns one of the placements covering a cell.
+     *
+     * @param cell cell index
+     * @param i    0 to {@code getCoverCount(cell) - 1}
+     * @return placement number
+     */
+    public int getCovering(int cell, int i) {
+        return covering[coverOffsets[cell] + i];
+    }
+}
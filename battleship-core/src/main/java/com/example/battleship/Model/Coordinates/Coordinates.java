@@ -0,0 +1,92 @@
+package com.example.battleship.Model.Coordinates;
+
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.RNG.GameRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Helper utility to generate and shuffle board coordinates.
+ * Coordinates are stored as int[] pairs in the form {row, col}.
+ * Both row and col are 0-based and bounded by the board geometry
+ * (0..9 inclusive on the standard board).
+ */
+public class Coordinates {
+    private final BoardGeometry geometry;
+    private final RandomGenerator random;
+    private final List<int[]> coordinates;
+
+    /**
+     * Constructs the Coordinates helper for the standard 10x10 board.
+     */
+    public Coordinates() {
+        this(BoardGeometry.STANDARD);
+    }
+
+    /**
+     * Constructs the Coordinates helper and generates + shuffles all positions of the given board.
+     *
+     * @param geometry board dimensions
+     */
+    public Coordinates(BoardGeometry geometry) {
+        this(geometry, new GameRandom());
+    }
+
+    /**
+     * Constructs the Coordinates helper using the given random source for the shuffle.
+     *
+     * @param geometry board dimensions
+     * @param random   random source, so a seeded caller gets a reproducible order
+     */
+    public Coordinates(BoardGeometry geometry, RandomGenerator random) {
+        this.geometry = geometry;
+        this.random = random;
+        coordinates = new ArrayList<>(geometry.getCellCount());
+        generate();
+        shuffle();
+    }
+
+    /**
+     * Generates all possible board positions (every row and column of the geometry).
+     * The order after generation is deterministic before shuffle is applied.
+     */
+    private void generate() {
+        for (int row = 0; row < geometry.getRows(); row++) {
+            for (int col = 0; col < geometry.getCols(); col++) {
+                coordinates.add(new int[]{row, col});
+            }
+        }
+    }
+
+    /**
+     * Randomly shuffles the list of coordinates in place (Fisher-Yates).
+     */
+    private void shuffle() {
+        for (int i = coordinates.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            coordinates.set(j, coordinates.set(i, coordinates.get(j)));
+        }
+    }
+
+    /**
+     * Returns a sublist with the first ten shuffled coordinates.
+     * Useful when you need a small batch of random positions.
+     *
+     * @return a list view of the first 10 coordinate pairs
+     */
+    public List<int[]> getTenRandomCoordinates() {
+        return coordinates.subList(0, 10);
+    }
+
+    /**
+     * Returns the internal list of coordinates (shuffled).
+     * Note: this returns a modifiable view; callers should not rely on immutability.
+     *
+     * @return the list of shuffled coordinate pairs [row, col], 0-based
+     */
+    public List<int[]> getCoordinates() {
+        return coordinates;
+    }
+}
\ No newline at end of file
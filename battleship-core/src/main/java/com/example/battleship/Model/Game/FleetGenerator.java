@@ -0,0 +1,225 @@
+package com.example.battleship.Model.Game;
+
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.Board.PlacementTable;
+import com.example.battleship.Model.Ship.IShip;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Places a complete random fleet on an empty board.
+ *
+ * <p>The placements of each ship size come from the shared
+ * {@link PlacementTable}. Ships are placed largest first; each one is drawn
+ * uniformly from the pool of placements of its size, and placements found to
+ * overlap the ships already placed are removed from the pool as they are
+ * drawn. Overlap is a mask intersection with a bitplane of blocked cells. No
+ * ship is built and no exception is thrown for a rejected placement.</p>
+ *
+ * <p>When the no-touch rule is enabled, ships may not share an edge or a
+ * corner. If a pool runs dry (only possible when the fleet barely fits), the
+ * layout is restarted, so a returned fleet is always complete.</p>
+ *
+ * <p>Instances are immutable and may be shared between games and threads.</p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+public final class FleetGenerator {
+
+    /** Ship sizes of the classic fleet: 1x4, 2x3, 3x2 and 4x1 */
+    private static final int[] STANDARD_FLEET = {4, 3, 3, 2, 2, 2, 1, 1, 1, 1};
+
+    /** Restarts tried before a fleet is declared not to fit */
+    private static final int MAX_RESTARTS = 1000;
+
+    /** Dimensions of the board */
+    private final BoardGeometry geometry;
+
+    /** Ship sizes to place, largest first */
+    private final int[] shipSizes;
+
+    /** Whether ships must keep one cell of water around them */
+    private final boolean noTouch;
+
+    /** Placements of each size on an empty board: {@code tables[size - 1]} */
+    private final PlacementTable[] tables;
+
+    /** Placement numbers {@code 0..n-1} of each size, copied to start a pool */
+    private final int[][] allPlacements;
+
+    /**
+     * Creates a generator for the classic fleet, allowing ships to touch.
+     *
+     * @param geometry dimensions of the board
+     */
+    public FleetGenerator(BoardGeometry geometry) {
+        this(geometry, STANDARD_FLEET, false);
+    }
+
+    /**
+     * Creates a generator for the given fleet.
+     *
+     * @param geometry  dimensions of the board
+     * @param shipSizes size of every ship (1 to {@link FleetStatus#MAX_SHIP_SIZE})
+     * @param noTouch   true if ships may not touch, not even diagonally
+     * @throws IllegalArgumentException if a ship size is not supported or does not fit the board
+     */
+    public FleetGenerator(BoardGeometry geometry, int[] shipSizes, boolean noTouch) {
+        this.geometry = geometry;
+        this.noTouch = noTouch;
+        this.shipSizes = shipSizes.clone();
+        Arrays.sort(this.shipSizes);
+        for (int i = 0, j = this.shipSizes.length - 1; i < j; i++, j--) {
+            int tmp = this.shipSizes[i];
+            this.shipSizes[i] = this.shipSizes[j];
+            this.shipSizes[j] = tmp;
+        }
+
+        int maxSize = 0;
+        for (int size : this.shipSizes) {
+            if (size < 1 || size > FleetStatus.MAX_SHIP_SIZE
+                    || size > Math.max(geometry.getRows(), geometry.getCols())) {
+                throw new IllegalArgumentException("Unsupported ship size " + size + " on " + geometry);
+            }
+            maxSize = Math.max(maxSize, size);
+        }
+
+        this.tables = new PlacementTable[maxSize];
+        this.allPlacements = new int[maxSize][];
+        for (int size = 1; size <= maxSize; size++) {
+            tables[size - 1] = PlacementTable.of(geometry, size);
+            allPlacements[size - 1] = new int[tables[size - 1].size()];
+            for (int p = 0; p < allPlacements[size - 1].length; p++) {
+                allPlacements[size - 1][p] = p;
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of this generator with the no-touch rule set as given.
+     *
+     * @param noTouch true if ships may not touch, not even diagonally
+     * @return a generator for the same board and fleet
+     */
+    public FleetGenerator withNoTouch(boolean noTouch) {
+        return noTouch == this.noTouch ? this : new FleetGenerator(geometry, shipSizes, noTouch);
+    }
+
+    /**
+     * Indicates whether ships are kept apart.
+     *
+     * @return true if the no-touch rule is enabled
+     */
+    public boolean isNoTouch() {
+        return noTouch;
+    }
+
+    /**
+     * Returns the dimensions of the board.
+     *
+     * @return board geometry
+     */
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * Generates a complete fleet.
+     *
+     * @param random random source; the same seed yields the same fleet
+     * @return the ships, largest first, none overlapping
+     * @throws IllegalStateException if the fleet does not fit the board
+     */
+    public List<IShip> generate(RandomGenerator random) {
+        int[] layout = new int[shipSizes.length];
+        long[] blocked = new long[geometry.getWordCount()];
+
+        for (int attempt = 0; attempt < MAX_RESTARTS; attempt++) {
+            Arrays.fill(blocked, 0L);
+            if (placeAll(random, layout, blocked)) {
+                List<IShip> fleet = new ArrayList<>(shipSizes.length);
+                for (int i = 0; i < shipSizes.length; i++) {
+                    fleet.add(createShip(shipSizes[i], layout[i], random));
+                }
+                return fleet;
+            }
+        }
+        throw new IllegalStateException("Fleet " + Arrays.toString(shipSizes) + " does not fit on " + geometry);
+    }
+
+    /**
+     * Draws one placement per ship.
+     *
+     * @param random  random source
+     * @param layout  receives the placement number of every ship
+     * @param blocked bitplane of cells that can no longer hold a ship
+     * @return false if a ship had no legal placement left
+     */
+    private boolean placeAll(RandomGenerator random, int[] layout, long[] blocked) {
+        int[] pool = null;
+        int poolSize = 0;
+
+        for (int ship = 0; ship < shipSizes.length; ship++) {
+            int size = shipSizes[ship];
+            PlacementTable table = tables[size - 1];
+
+            // Ships of the same size share a pool, so pruned placements stay pruned
+            if (ship == 0 || shipSizes[ship - 1] != size) {
+                pool = allPlacements[size - 1].clone();
+                poolSize = pool.length;
+            }
+
+            int chosen = -1;
+            while (poolSize > 0) {
+                int pick = random.nextInt(poolSize);
+                int placement = pool[pick];
+                pool[pick] = pool[--poolSize];
+                if (!table.intersects(placement, blocked)) {
+                    chosen = placement;
+                    break;
+                }
+            }
+            if (chosen < 0) {
+                return false;
+            }
+
+            layout[ship] = chosen;
+            if (noTouch) {
+                table.addHaloTo(chosen, blocked);
+            } else {
+                table.addTo(chosen, blocked);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds the ship of a placement. The ship is anchored at either end,
+     * so every direction appears as in a hand-placed fleet.
+     */
+    private IShip createShip(int size, int placement, RandomGenerator random) {
+        PlacementTable table = tables[size - 1];
+        int row = table.getRow(placement);
+        int col = table.getCol(placement);
+        boolean vertical = table.isVertical(placement);
+        IShip.Direction direction;
+
+        if (size == 1) {
+            direction = IShip.Direction.getRandomDirection(random);
+        } else if (random.nextBoolean()) {
+            direction = vertical ? IShip.Direction.DOWN : IShip.Direction.RIGHT;
+        } else if (vertical) {
+            direction = IShip.Direction.UP;
+            row += size - 1;
+        } else {
+            direction = IShip.Direction.LEFT;
+            col += size - 1;
+        }
+
+        return IShip.of(size, col, row, direction);
+    }
+}
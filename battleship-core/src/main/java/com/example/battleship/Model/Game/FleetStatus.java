@@ -0,0 +1,172 @@
+package com.example.battleship.Model.Game;
+
+import com.example.battleship.Model.Ship.IShip;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Live counters describing one side's fleet.
+ * <p>
+ * {@link Game} updates the counters as ships are placed and hit, so checking
+ * for the end of the game or showing fleet statistics never scans the fleet.
+ * Every ship type has its own size, so sunk ships are counted by size.
+ * </p>
+ *
+ * <p>
+ * The public API is read-only; only the game changes the counters.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+public final class FleetStatus {
+
+    /** Largest ship size tracked (aircraft carrier) */
+    public static final int MAX_SHIP_SIZE = 4;
+
+    /** Ships placed, by size: {@code shipsBySize[size - 1]} */
+    private final int[] shipsBySize = new int[MAX_SHIP_SIZE];
+
+    /** Ships sunk, by size: {@code sunkBySize[size - 1]} */
+    private final int[] sunkBySize = new int[MAX_SHIP_SIZE];
+
+    /** Ships placed */
+    private int shipCount;
+
+    /** Ships sunk */
+    private int shipsSunk;
+
+    /** Ship cells not hit yet */
+    private int cellsRemaining;
+
+    /**
+     * Creates the counters of an empty fleet.
+     */
+    FleetStatus() {
+    }
+
+    /**
+     * Counts a newly placed ship, taking into account hits it already has.
+     *
+     * @param ship placed ship
+     */
+    void addShip(IShip ship) {
+        int size = ship.getShipSize();
+        shipCount++;
+        shipsBySize[size - 1]++;
+        cellsRemaining += Math.max(0, size - ship.getHitCount());
+        if (ship.isSunken()) {
+            shipsSunk++;
+            sunkBySize[size - 1]++;
+        }
+    }
+
+    /**
+     * Records a hit that has just been registered on a ship.
+     *
+     * @param ship the ship that was hit
+     */
+    void recordHit(IShip ship) {
+        if (ship.getHitCount() <= ship.getShipSize()) {
+            cellsRemaining--;
+        }
+        if (ship.isSunken() && ship.getHitCount() == ship.getShipSize()) {
+            shipsSunk++;
+            sunkBySize[ship.getShipSize() - 1]++;
+        }
+    }
+
+    /**
+     * Recounts a whole fleet, e.g. after a saved game is restored.
+     *
+     * @param fleet the ships of this side
+     */
+    void rebuild(List<IShip> fleet) {
+        Arrays.fill(shipsBySize, 0);
+        Arrays.fill(sunkBySize, 0);
+        shipCount = 0;
+        shipsSunk = 0;
+        cellsRemaining = 0;
+        for (IShip ship : fleet) {
+            addShip(ship);
+        }
+    }
+
+    /**
+     * Returns the number of ships in the fleet.
+     *
+     * @return ships placed
+     */
+    public int getShipCount() {
+        return shipCount;
+    }
+
+    /**
+     * Returns the number of ships still afloat.
+     *
+     * @return ships not sunk
+     */
+    public int getShipsAfloat() {
+        return shipCount - shipsSunk;
+    }
+
+    /**
+     * Returns the number of ships sunk.
+     *
+     * @return ships sunk
+     */
+    public int getShipsSunk() {
+        return shipsSunk;
+    }
+
+    /**
+     * Returns the number of ship cells that have not been hit yet.
+     *
+     * @return cells remaining
+     */
+    public int getCellsRemaining() {
+        return cellsRemaining;
+    }
+
+    /**
+     * Returns the number of ships of a given size in the fleet.
+     *
+     * @param size ship size, 1 to {@link #MAX_SHIP_SIZE}
+     * @return ships of that size
+     */
+    public int getShipCount(int size) {
+        return shipsBySize[size - 1];
+    }
+
+    /**
+     * Returns the number of ships of a given size that were sunk.
+     *
+     * @param size ship size, 1 to {@link #MAX_SHIP_SIZE}
+     * @return sunk ships of that size
+     */
+    public int getShipsSunk(int size) {
+        return sunkBySize[size - 1];
+    }
+
+    /**
+     * Checks whether every ship of the fleet has been sunk.
+     * An empty fleet counts as destroyed.
+     *
+     * @return true if no ship is afloat
+     */
+    public boolean isDestroyed() {
+        return shipsSunk == shipCount;
+    }
+
+    /**
+     * Returns a short summary of the counters.
+     *
+     * @return formatted counters
+     */
+    @Override
+    public String toString() {
+        return String.format("Ships: %d/%d afloat | Cells remaining: %d",
+                getShipsAfloat(), shipCount, cellsRemaining);
+    }
+}
@@ -0,0 +1,1032 @@
+package com.example.battleship.Model.Game;
+
+import com.example.battleship.Model.AI.SmartAI;
+import com.example.battleship.Model.Board.BitBoard;
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.Board.CellBitSet;
+import com.example.battleship.Model.Board.IBoard;
+import com.example.battleship.Model.Board.PlacementTable;
+import com.example.battleship.Model.Exceptions.InvalidGameStateException;
+import com.example.battleship.Model.Exceptions.InvalidPositionException;
+import com.example.battleship.Model.Exceptions.InvalidShotException;
+import com.example.battleship.Model.Player.Human;
+import com.example.battleship.Model.Player.Machine;
+import com.example.battleship.Model.RNG.GameRandom;
+import com.example.battleship.Model.Ship.*;
+
+import java.util.*;
+import java.util.random.RandomGenerator;
+
+/**
+ * Main controller of the Battleship game.
+ * <p>
+ * This class manages players, turn order, boards, ship placement,
+ * shooting logic, AI interaction, and overall game state.
+ * </p>
+ *
+ * <p>
+ * It extends {@link GameAdapter} and encapsulates the full gameplay lifecycle:
+ * setup, playing phase, and game termination.
+ * </p>
+ */
+public class Game extends GameAdapter {
+
+    /** Human player instance. */
+    private Human human;
+
+    /** Machine (AI) player instance. */
+    private Machine machine;
+
+    /** Stores all players in the game. */
+    private final List<Object> players;
+
+    /** Queue controlling turn rotation. */
+    private final Queue<Object> turnQueue;
+
+    /** Fleet belonging to the machine player. */
+    private List<IShip> machineFleet = new ArrayList<>();
+
+    /** Fleet belonging to the human player. */
+    private List<IShip> humanFleet = new ArrayList<>();
+
+    /** Live counters of the machine fleet. */
+    private final FleetStatus machineStatus = new FleetStatus();
+
+    /** Live counters of the human fleet. */
+    private final FleetStatus humanStatus = new FleetStatus();
+
+    /** Ship occupying each cell of the machine board, indexed by {@code row * cols + col}. */
+    private final IShip[] machineShipAt;
+
+    /** Ship occupying each cell of the human board, indexed by {@code row * cols + col}. */
+    private final IShip[] humanShipAt;
+
+    /** Index of the currently active player. */
+    private int currentPlayerIndex;
+
+    /** Indicates whether the game has ended. */
+    private boolean gameOver;
+
+    /** Dimensions shared by both boards. */
+    private final BoardGeometry geometry;
+
+    /** Board used by the machine player. */
+    private IBoard machineBoard;
+
+    /** Board used by the human player. */
+    private IBoard humanBoard;
+
+    /** Current game state. */
+    private GameState currentState;
+
+    /** Tracks human shots to avoid duplicates. */
+    private CellBitSet humanShots;
+
+    /** Tracks machine shots to avoid duplicates. */
+    private CellBitSet machineShots;
+
+    /** Smart AI instance controlling machine behavior. */
+    private final SmartAI smartAI;
+
+    /** Random source for fleet placement and the built-in AI. */
+    private final RandomGenerator random;
+
+    /** Places random fleets for the machine (and for the human in simulations). */
+    private FleetGenerator fleetGenerator;
+
+    /** Whether game events are traced to the console. */
+    private boolean verbose = true;
+
+    /** Receives resolved shots, or null. */
+    private ShotListener shotListener;
+
+    /**
+     * Represents the possible states of the game.
+     */
+    public enum GameState {
+        SETUP,
+        PLAYING,
+        FINISHED
+    }
+
+    /**
+     * Represents the result of a shot.
+     */
+    public enum ShotResult {
+        MISS,
+        HIT,
+        SUNK,
+        ALREADY_SHOT,
+        INVALID
+    }
+
+    /**
+     * Creates a new game instance on the standard 10x10 board and initializes players and boards.
+     */
+    public Game(String username) {
+        this(username, BoardGeometry.STANDARD);
+    }
+
+    /**
+     * Creates a new game instance with the given board dimensions.
+     *
+     * @param username name of the human player
+     * @param geometry dimensions of both boards
+     */
+    public Game(String username, BoardGeometry geometry) {
+        this(username, geometry, new GameRandom());
+    }
+
+    /**
+     * Creates a new game whose fleets and AI decisions are fully determined by a seed.
+     * Replaying the same moves with the same seed reproduces the game exactly.
+     *
+     * @param username name of the human player
+     * @param geometry dimensions of both boards
+     * @param seed     seed of the game's {@link GameRandom}
+     */
+    public Game(String username, BoardGeometry geometry, long seed) {
+        this(username, geometry, new GameRandom(seed));
+    }
+
+    /**
+     * Creates a new game instance with the given board dimensions and random source.
+     * <p>
+     * Fleet placement and the built-in {@link SmartAI} draw from {@code random},
+     * so parallel simulations can give each worker its own seeded generator.
+     * A {@link GameRandom} is split so that the AI gets its own stream.
+     * </p>
+     *
+     * @param username name of the human player
+     * @param geometry dimensions of both boards
+     * @param random   random source for this game
+     */
+    public Game(String username, BoardGeometry geometry, RandomGenerator random) {
+        this.geometry = geometry;
+        this.random = random;
+        this.players = new ArrayList<>();
+        this.turnQueue = new LinkedList<>();
+        this.machineBoard = new BitBoard(geometry);
+        this.humanBoard = new BitBoard(geometry);
+        this.humanShots = new CellBitSet(geometry);
+        this.machineShots = new CellBitSet(geometry);
+        this.machineShipAt = new IShip[geometry.getCellCount()];
+        this.humanShipAt = new IShip[geometry.getCellCount()];
+        this.smartAI = new SmartAI(geometry, GameRandom.splitOf(random));
+        this.fleetGenerator = new FleetGenerator(geometry);
+        this.currentState = GameState.SETUP;
+        initializePlayers(username);
+    }
+
+    /**
+     * Initializes human and machine players and adds them to the turn queue.
+     */
+    private void initializePlayers(String username) {
+        human = new Human(username);
+        players.add(human);
+        turnQueue.add(human);
+
+        machine = new Machine("CPU-");
+        players.add(machine);
+        turnQueue.add(machine);
+    }
+
+    /**
+     * Starts the game after ship placement is completed.
+     *
+     * @throws InvalidGameStateException if the human fleet is empty
+     */
+    public void startGame() {
+        if (humanFleet.isEmpty()) {
+            throw new InvalidGameStateException("Player must place their ships first.");
+        }
+
+        smartAI.reset();
+        currentState = GameState.PLAYING;
+        currentPlayerIndex = 0;
+    }
+
+    /**
+     * Checks if it is currently the human player's turn.
+     *
+     * @return {@code true} if human is the active player
+     */
+    public boolean isHumanTurn() {
+        return getCurrentPlayer() == human;
+    }
+
+    /**
+     * Checks if it is currently the machine player's turn.
+     *
+     * @return {@code true} if machine is the active player
+     */
+    public boolean isMachineTurn() {
+        return getCurrentPlayer() == machine;
+    }
+
+    /**
+     * Returns the currently active player.
+     *
+     * @return the active player or {@code null} if none exists
+     */
+    @Override
+    public Object getCurrentPlayer() {
+        List<Object> activePlayers = getActivePlayers();
+        if (activePlayers.isEmpty()) { return null; }
+        if (currentPlayerIndex >= activePlayers.size()) { currentPlayerIndex = 0; }
+        return activePlayers.get(currentPlayerIndex);
+    }
+
+    /**
+     * Returns a list of all active players.
+     *
+     * @return list of players
+     */
+    public List<Object> getActivePlayers() {
+        return players.stream().toList();
+    }
+
+    /**
+     * Advances the turn to the next player.
+     * If only one player remains, the game ends.
+     */
+    @Override
+    public void advanceTurn() {
+        currentPlayerIndex++;
+
+        // Check for winner after each turn
+        if (getActivePlayers().size() == 1) {
+            gameOver = true;
+        }
+    }
+
+    // ================= SHIPS ACCOMMODATION =================
+
+    /**
+     * Places a human ship on the human board.
+     *
+     * @param ship ship to place
+     * @throws InvalidPositionException if placement is invalid
+     */
+    public void placeHumanShip(IShip ship) throws InvalidPositionException {
+        int[] d = calculateDisplacement(ship.getDirection());
+        validateShipPlacement(ship, humanBoard);
+        applyShipToBoard(ship, d[0], d[1], humanBoard);
+        indexShip(ship, humanShipAt);
+        humanFleet.add(ship);
+        humanStatus.addShip(ship);
+    }
+
+    /**
+     * Validates that a ship placement is within bounds and collision-free.
+     * The placement is looked up in the shared {@link PlacementTable}, so
+     * no cell is walked on a {@link BitBoard}.
+     *
+     * @param ship  ship to validate
+     * @param board target board
+     * @throws InvalidPositionException if placement is invalid
+     */
+    private void validateShipPlacement(IShip ship, IBoard board) throws InvalidPositionException {
+        int[] topLeft = ship.getCoordinates().get(0);
+        boolean vertical = ship.getDirection() == IShip.Direction.UP || ship.getDirection() == IShip.Direction.DOWN;
+        PlacementTable table = PlacementTable.of(geometry, ship.getShipSize());
+        int placement = table.find(topLeft[0], topLeft[1], vertical);
+
+        if (placement < 0) {
+            throw new InvalidPositionException("Out of bounds");
+        }
+        if (!isFree(table, placement, board)) {
+            throw new InvalidPositionException("Collision with another ship");
+        }
+    }
+
+    /**
+     * Checks whether a placement is clear of ships on a board.
+     */
+    private boolean isFree(PlacementTable table, int placement, IBoard board) {
+        if (board instanceof BitBoard bitBoard) {
+            return bitBoard.isFree(table, placement);
+        }
+        for (int i = 0; i < table.getShipSize(); i++) {
+            int cell = table.getCell(placement, i);
+            if (board.getCell(geometry.rowOf(cell), geometry.colOf(cell)) == 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a ship could be placed on the human board, e.g. to preview
+     * a placement before the ship is built.
+     *
+     * @param row      row of the top-left end
+     * @param col      column of the top-left end
+     * @param size     ship size
+     * @param vertical true for a vertical ship
+     * @return true if the ship fits on the board and overlaps no ship
+     */
+    public boolean canPlaceHumanShip(int row, int col, int size, boolean vertical) {
+        PlacementTable table = PlacementTable.of(geometry, size);
+        int placement = table.find(row, col, vertical);
+        return placement >= 0 && isFree(table, placement, humanBoard);
+    }
+
+    /**
+     * Applies a ship placement to a board.
+     */
+    private void applyShipToBoard(IShip ship, int dx, int dy, IBoard board) {
+        int row = ship.getRow();
+        int col = ship.getCol();
+        int size = ship.getShipSize();
+
+        for (int i = 0; i < size; i++) {
+            int r = row + dx * i;
+            int c = col + dy * i;
+            board.setCell(r, c, 1);
+        }
+    }
+
+    /**
+     * Converts a ship direction into row and column displacement.
+     *
+     * @param dir ship direction
+     * @return displacement array [dr, dc]
+     */
+    private int[] calculateDisplacement(IShip.Direction dir) {
+        int dr = 0, dc = 0;
+
+        switch (dir) {
+            case RIGHT -> dc = 1;
+            case LEFT -> dc = -1;
+            case DOWN -> dr = 1;
+            case UP -> dr = -1;
+        }
+
+        return new int[]{dr, dc};
+    }
+
+    /**
+     * Places a ship on the machine board.
+     *
+     * @param ship ship to place
+     * @throws InvalidPositionException if placement is invalid
+     */
+    public void placeShip(IShip ship) throws InvalidPositionException {
+        int[] d = calculateDisplacement(ship.getDirection());
+        validateShipPlacement(ship, machineBoard);
+        applyShipToBoard(ship, d[0], d[1], machineBoard);
+        indexShip(ship, machineShipAt);
+    }
+
+    /**
+     * Records a placed ship in a cell-to-ship index.
+     *
+     * @param ship  placed ship
+     * @param index index of the board the ship was placed on
+     */
+    private void indexShip(IShip ship, IShip[] index) {
+        for (int[] cell : ship.getCoordinates()) {
+            index[geometry.index(cell[0], cell[1])] = ship;
+        }
+    }
+
+    /**
+     * Rebuilds a cell-to-ship index from a whole fleet, e.g. after a saved game is restored.
+     *
+     * @param fleet ships on the board
+     * @param index index to rebuild
+     */
+    private void reindexFleet(List<IShip> fleet, IShip[] index) {
+        Arrays.fill(index, null);
+        for (IShip ship : fleet) {
+            indexShip(ship, index);
+        }
+    }
+
+    /**
+     * Generates the complete fleet using randomized coordinates.
+     */
+    @Override
+    public void generateFleet(){
+        generateFleet(machineBoard, machineFleet, machineShipAt);
+        machineStatus.rebuild(machineFleet);
+    }
+
+    /**
+     * Generates a random fleet for the human player.
+     * <p>
+     * Used by headless simulations, where both sides are played by a
+     * {@link com.example.battleship.Model.AI.ShotStrategy} and nobody places ships by hand.
+     * </p>
+     */
+    public void generateHumanFleet() {
+        generateFleet(humanBoard, humanFleet, humanShipAt);
+        humanStatus.rebuild(humanFleet);
+    }
+
+    /**
+     * Generates a complete fleet on the given board.
+     */
+    private void generateFleet(IBoard board, List<IShip> fleet, IShip[] index) {
+        for (IShip ship : fleetGenerator.generate(random)) {
+            int[] d = calculateDisplacement(ship.getDirection());
+            applyShipToBoard(ship, d[0], d[1], board);
+            indexShip(ship, index);
+            fleet.add(ship);
+        }
+
+        if (verbose) System.out.println("🚢 Fleet placed: " + fleet.size() + " ships");
+    }
+
+    // =============== FIRING SYSTEM =======================
+
+    /**
+     * Executes a shot performed by the human player.
+     */
+    public ShotResult executeHumanShot(int row, int col) {
+        if (!isHumanTurn()) {
+            throw new InvalidGameStateException("It is not your turn");
+        }
+
+        if (currentState != GameState.PLAYING) {
+            throw new InvalidGameStateException("The game has not started");
+        }
+
+        // Validate range
+        if (!geometry.contains(row, col)) {
+            return ShotResult.INVALID;
+        }
+
+        if (!humanShots.add(row, col)) {
+            return ShotResult.ALREADY_SHOT;
+        }
+
+        ShotResult result = processShot(row, col, machineBoard, machineShipAt, machineStatus);
+        if (shotListener != null) {
+            shotListener.onShot(true, row, col, result);
+        }
+        return result;
+    }
+
+    /**
+     * Executes a shot performed by the machine player.
+     *
+     * @return array [row, col, result.ordinal()]
+     */
+    public int[] executeMachineShot() {
+        if (!isMachineTurn()) {
+            throw new InvalidGameStateException("It is not the machine's turn");
+        }
+
+        // Get shot and ensure it has not been used
+        int[] shot;
+        int maxAttempts = 100; // Prevent infinite loop
+        int attempts = 0;
+
+        do {
+            shot = smartAI.getNextShot();
+            attempts++;
+
+            if (!machineShots.contains(shot[0], shot[1])) {
+                break; // Valid shot
+            }
+
+            if (verbose) System.out.println("⚠️ [AI] Already shot at (" + shot[0] + "," + shot[1] + "), retrying...");
+
+            if (attempts >= maxAttempts) {
+                if (verbose) System.err.println("❌ AI stuck, selecting random cell...");
+                shot = getRandomUnusedCell();
+                break;
+            }
+
+        } while (true);
+
+        int row = shot[0];
+        int col = shot[1];
+
+        if (verbose) {
+            System.out.println("🤖 [AI] " + smartAI.getDebugInfo());
+            System.out.println("🤖 [AI] Shooting at: (" + row + "," + col + ") [attempt " + attempts + "]");
+        }
+
+        ShotResult result = executeMachineShot(row, col);
+
+        boolean hit = (result == ShotResult.HIT || result == ShotResult.SUNK);
+        boolean sunk = (result == ShotResult.SUNK);
+
+        smartAI.registerResult(row, col, hit, sunk);
+
+        if (verbose) {
+            System.out.println("🤖 [AI] Result: " + result +
+                    " (hit=" + hit + ", sunk=" + sunk + ")");
+
+            if (sunk) {
+                System.out.println("🤖 [AI] Total player ships sunk: " + humanStatus.getShipsSunk());
+            }
+        }
+
+        return new int[]{row, col, result.ordinal()};
+    }
+
+    /**
+     * Executes a machine shot at a cell chosen by the caller.
+     * <p>
+     * The built-in {@link SmartAI} is not consulted nor notified; callers
+     * driving the machine with their own strategy report the result to it.
+     * </p>
+     *
+     * @param row target row
+     * @param col target column
+     * @return the shot result
+     * @throws InvalidGameStateException if it is not the machine's turn
+     */
+    public ShotResult executeMachineShot(int row, int col) {
+        if (!isMachineTurn()) {
+            throw new InvalidGameStateException("It is not the machine's turn");
+        }
+
+        if (!geometry.contains(row, col)) {
+            return ShotResult.INVALID;
+        }
+
+        if (!machineShots.add(row, col)) {
+            return ShotResult.ALREADY_SHOT;
+        }
+
+        ShotResult result = processShot(row, col, humanBoard, humanShipAt, humanStatus);
+        if (shotListener != null) {
+            shotListener.onShot(false, row, col, result);
+        }
+        return result;
+    }
+
+    // Helper method to get a random unused cell
+    private int[] getRandomUnusedCell() {
+        List<int[]> available = new ArrayList<>();
+
+        for (int row = 0; row < geometry.getRows(); row++) {
+            for (int col = 0; col < geometry.getCols(); col++) {
+                if (!machineShots.contains(row, col)) {
+                    available.add(new int[]{row, col});
+                }
+            }
+        }
+
+        if (available.isEmpty()) {
+            return new int[]{0, 0}; // Extreme fallback
+        }
+
+        return available.get(random.nextInt(available.size()));
+    }
+
+    /**
+     * Processes a shot on a board.
+     * The hit ship is looked up in the board's cell-to-ship index
+     * and the fleet counters of that side are updated.
+     */
+    private ShotResult processShot(int row, int col, IBoard board, IShip[] shipAt, FleetStatus status) {
+        int cell = board.getCell(row, col);
+
+        if (cell == 0) {
+            board.setCell(row, col, 2);
+            if (verbose) System.out.println("💦 Water at (" + row + "," + col + ")");
+            return ShotResult.MISS;
+        } else if (cell == 1) {
+            board.setCell(row, col, 3);
+            if (verbose) System.out.println("💥 Hit at (" + row + "," + col + ")");
+
+            IShip ship = shipAt[geometry.index(row, col)];
+            if (ship != null) {
+                ship.registerHit();
+                status.recordHit(ship);
+
+                if (ship.isSunken()) {
+                    if (verbose) System.out.println("🔥 Ship sunk: " + ship.getClass().getSimpleName());
+                    checkGameOver();
+                    return ShotResult.SUNK;
+                }
+            }
+            return ShotResult.HIT;
+        }
+
+        return ShotResult.ALREADY_SHOT;
+    }
+
+    /**
+     * Determines whether a shot is inside a ship, using the ship's cached cells.
+     */
+    private boolean isShotInsideShip(int shotRow, int shotCol, IShip ship) {
+        for (int[] cell : ship.getCoordinates()) {
+            if (cell[0] == shotRow && cell[1] == shotCol) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //================== GAME OVER VERIFICATION ==================
+
+    /**
+     * Checks whether the game has ended.
+     */
+    private void checkGameOver() {
+        if (humanStatus.isDestroyed()) {
+            gameOver = true;
+            currentState = GameState.FINISHED;
+        } else if (machineStatus.isDestroyed()) {
+            gameOver = true;
+            currentState = GameState.FINISHED;
+        }
+    }
+
+    /**
+     * Determines whether the human player has won.
+     */
+    public boolean hasHumanWon() {
+        return machineStatus.isDestroyed();
+    }
+
+    /**
+     * Determines whether the machine player has won.
+     */
+    public boolean hasMachineWon() {
+        return humanStatus.isDestroyed();
+    }
+
+    /**
+     * Returns the live counters of the machine fleet.
+     *
+     * @return read-only fleet status
+     */
+    public FleetStatus getMachineFleetStatus() {
+        return machineStatus;
+    }
+
+    /**
+     * Returns the live counters of the human fleet.
+     *
+     * @return read-only fleet status
+     */
+    public FleetStatus getHumanFleetStatus() {
+        return humanStatus;
+    }
+
+    //================= ACCESS METHODS =======================
+
+    /**
+     * Returns all board coordinates occupied by a ship, top-left cell first.
+     * The list is cached by the ship and must not be modified.
+     */
+    public List<int[]> getShipCoordinates(IShip ship) {
+        return ship.getCoordinates();
+    }
+
+    /**
+     * Returns the ship occupying a cell of the machine board.
+     *
+     * @param row row index
+     * @param col column index
+     * @return the ship, or null if the cell is water
+     */
+    public IShip getMachineShipAt(int row, int col) {
+        return machineShipAt[geometry.index(row, col)];
+    }
+
+    /**
+     * Returns the ship occupying a cell of the human board.
+     *
+     * @param row row index
+     * @param col column index
+     * @return the ship, or null if the cell is water
+     */
+    public IShip getHumanShipAt(int row, int col) {
+        return humanShipAt[geometry.index(row, col)];
+    }
+
+    /**
+     * Prints all machine fleet ship coordinates.
+     */
+    @Override
+    public void printFleetCoordinates() {
+        for (IShip ship : machineFleet) {
+            System.out.println("--- " + ship.getClass().getSimpleName() + " ---");
+
+            for (int[] c : getShipCoordinates(ship)) {
+                // c[0] = row (Y-axis)
+                // c[1] = col (X-axis)
+                System.out.println("Row=" + c[0] + "  Col=" + c[1]);
+            }
+            System.out.println();
+        }
+    }
+
+    //================ OTHER FUNCTIONS =====================
+
+    /**
+     * Executes a full human turn.
+     */
+    @Override
+    public boolean playTurn(IBoard board, Human player, int row, int col) {
+
+        validateNotRepeatedShot(player, row, col);
+        registerPlayerShot(player, row, col);
+
+        int cell = board.getCell(row, col);
+
+        if (isWater(cell)) {
+            return handleWater(board, row, col);
+        }
+
+        if (isShip(cell)) {
+            return handleShipHit(board, row, col);
+        }
+
+        return false;
+    }
+
+    /**
+     * Validates that the player has not already fired at the given cell.
+     */
+    private void validateNotRepeatedShot(Human player, int row, int col) {
+        if (player.alreadyShot(row, col)) {
+            System.out.println("You already shot at that position.");
+            throw new InvalidShotException("You already shot at that position");
+        }
+    }
+
+    /**
+     * Registers a player's shot.
+     */
+    private void registerPlayerShot(Human player, int row, int col) {
+        player.shoot(row, col);
+    }
+
+    /**
+     * Checks if a cell represents water.
+     */
+    private boolean isWater(int cell) {
+        return cell == 0;
+    }
+
+    /**
+     * Handles a miss.
+     */
+    private boolean handleWater(IBoard board, int row, int col) {
+        board.setCell(row, col, 2);
+        System.out.println("Miss!");
+        return false; // Turn ends
+    }
+
+    /**
+     * Checks if a cell contains a ship.
+     */
+    private boolean isShip(int cell) {
+        return cell == 1;
+    }
+
+    /**
+     * Handles a successful ship hit.
+     */
+    private boolean handleShipHit(IBoard board, int row, int col) {
+        board.setCell(row, col, 3);
+        System.out.println("Hit!");
+
+        IShip ship = machineShipAt[geometry.index(row, col)];
+        if (ship == null) {
+            return false;
+        }
+
+        ship.registerHit();
+        machineStatus.recordHit(ship);
+        if (ship.isSunken()) {
+            System.out.println("🔥 You sunk a " + ship.getClass().getSimpleName());
+        }
+        return true;
+    }
+
+    /**
+     * Validates whether a shot hits a ship.
+     */
+    public boolean ValidateShot(int row, int col, IShip ship) {
+        if (isShotInsideShip(row, col, ship)) {
+            ship.registerHit();
+            if (geometry.contains(row, col)) {
+                int index = geometry.index(row, col);
+                if (machineShipAt[index] == ship) machineStatus.recordHit(ship);
+                else if (humanShipAt[index] == ship) humanStatus.recordHit(ship);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Executes the full human play cycle.
+     */
+    public void executeHumanPlay(IBoard board, Human human, int row, int col) {
+
+        if (getCurrentPlayer() != human) {
+            throw new InvalidGameStateException("It is not your turn");
+        }
+
+        boolean successfulShot = playTurn(board, human, row, col);
+
+        if (!successfulShot) {
+            System.out.println("End of player's turn.");
+            advanceTurn();
+        }
+    }
+
+    /**
+     * Executes the machine's turn.
+     */
+    public void executeMachinePlay(){
+        advanceTurn();
+    }
+
+    // ================ DEBUGGING =======================
+
+    /**
+     * Prints the visual state of a board.
+     */
+    public void printBoardState(String boardName, IBoard board) {
+        System.out.println("\n=== " + boardName + " ===");
+        System.out.print("   ");
+        for (int c = 0; c < geometry.getCols(); c++) {
+            System.out.print(c + " ");
+        }
+        System.out.println();
+
+        for (int r = 0; r < geometry.getRows(); r++) {
+            System.out.print(r + "| ");
+            for (int c = 0; c < geometry.getCols(); c++) {
+                int cell = board.getCell(r, c);
+                String symbol = switch(cell) {
+                    case 0 -> "·"; // Water
+                    case 1 -> "■"; // Ship
+                    case 2 -> "○"; // Miss
+                    case 3 -> "X"; // Hit
+                    default -> "?";
+                };
+                System.out.print(symbol + " ");
+            }
+            System.out.println();
+        }
+        System.out.println();
+    }
+
+    //================== GETTERS =======================
+
+    @Override
+    public boolean isGameOver() {return gameOver;}
+
+    @Override
+    public List<Object> getPlayers() {return players;}
+
+    @Override
+    public IBoard getMachineBoard(){return machineBoard;}
+
+    public IBoard getHumanBoard() {return humanBoard;}
+
+    @Override
+    public List<IShip> getMachineFleet() {return machineFleet;}
+
+    @Override
+    public Human getHuman(){ return human;}
+
+    @Override
+    public GameState getCurrentState() {return currentState;}
+
+    public List<IShip> getHumanFleet() { return humanFleet; }
+
+    public CellBitSet getHumanShots() { return humanShots; }
+
+    public CellBitSet getMachineShots() { return machineShots; }
+
+    public int getCurrentPlayerIndex() { return currentPlayerIndex; }
+
+    // Setter methods for restoring game state
+    public void setHumanBoard(IBoard board) { this.humanBoard = board; }
+    public void setMachineBoard(IBoard board) { this.machineBoard = board; }
+    public void setHumanFleet(List<IShip> fleet) {
+        this.humanFleet = fleet;
+        reindexFleet(fleet, humanShipAt);
+        humanStatus.rebuild(fleet);
+    }
+    public void setMachineFleet(List<IShip> fleet) {
+        this.machineFleet = fleet;
+        reindexFleet(fleet, machineShipAt);
+        machineStatus.rebuild(fleet);
+    }
+    public void setHumanShots(CellBitSet shots) { this.humanShots = shots; }
+    public void setMachineShots(CellBitSet shots) { this.machineShots = shots; }
+    public void setCurrentPlayerIndex(int index) { this.currentPlayerIndex = index; }
+    public void setCurrentState(GameState state) { this.currentState = state; }
+    public void setGameOver(boolean gameOver) { this.gameOver = gameOver; }
+
+    /**
+     * Creates a snapshot of this game for saving. The snapshot shares the
+     * boards, fleets and shot sets of the game; encode it before the game moves on.
+     *
+     * @return the current state
+     */
+    public com.example.battleship.Model.Game.GameState toGameState() {
+        return new com.example.battleship.Model.Game.GameState(
+                human.getName(), humanBoard, machineBoard, humanFleet, machineFleet,
+                humanShots, machineShots, currentPlayerIndex, currentState, gameOver, getSeed());
+    }
+
+    /**
+     * Creates a game from a saved snapshot. The game gets the snapshot's seed
+     * when it has one, so a resumed game keeps the seed it can be replayed from.
+     *
+     * @param username name of the human player
+     * @param state    snapshot to restore
+     * @return the restored game
+     */
+    public static Game fromSnapshot(String username, com.example.battleship.Model.Game.GameState state) {
+        BoardGeometry geometry = state.getHumanBoard() != null
+                ? state.getHumanBoard().getGeometry() : BoardGeometry.STANDARD;
+        Game game = state.getSeed() != null
+                ? new Game(username, geometry, state.getSeed())
+                : new Game(username, geometry);
+        game.restore(state);
+        return game;
+    }
+
+    /**
+     * Restores boards, fleets, shots, turn and phase from a saved snapshot.
+     *
+     * @param state snapshot to restore
+     */
+    public void restore(com.example.battleship.Model.Game.GameState state) {
+        setHumanBoard(state.getHumanBoard());
+        setMachineBoard(state.getMachineBoard());
+        setHumanFleet(state.getHumanFleet());
+        setMachineFleet(state.getMachineFleet());
+        setHumanShots(state.getHumanShots());
+        setMachineShots(state.getMachineShots());
+        setCurrentPlayerIndex(state.getCurrentPlayerIndex());
+        setCurrentState(state.getGamePhase());
+        setGameOver(state.isGameOver());
+    }
+
+    public SmartAI getSmartAI() { return smartAI; }
+
+    /**
+     * Enables or disables the console trace of game events, including the built-in AI.
+     *
+     * @param verbose true to print events to the console
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+        smartAI.setVerbose(verbose);
+    }
+
+    /**
+     * Returns the generator used for random fleets.
+     *
+     * @return the fleet generator
+     */
+    public FleetGenerator getFleetGenerator() { return fleetGenerator; }
+
+    /**
+     * Replaces the generator used for random fleets, e.g. to enable the no-touch rule.
+     *
+     * @param fleetGenerator generator for this game's board geometry
+     * @throws IllegalArgumentException if the generator is for another geometry
+     */
+    public void setFleetGenerator(FleetGenerator fleetGenerator) {
+        if (!fleetGenerator.getGeometry().equals(geometry)) {
+            throw new IllegalArgumentException("Fleet generator is for " + fleetGenerator.getGeometry());
+        }
+        this.fleetGenerator = fleetGenerator;
+    }
+
+    public BoardGeometry getGeometry() { return geometry; }
+
+    /**
+     * Sets the listener told about every resolved shot, e.g. to export shot data.
+     *
+     * @param shotListener listener, or null for none
+     */
+    public void setShotListener(ShotListener shotListener) { this.shotListener = shotListener; }
+
+    /**
+     * Returns the random source of this game. When it is a {@link GameRandom},
+     * its seed identifies the game for replays.
+     *
+     * @return the game's random source
+     */
+    public RandomGenerator getRandom() { return random; }
+
+    /**
+     * Returns the seed of this game's {@link GameRandom}.
+     *
+     * @return the seed, or null if the game draws from another random source
+     */
+    public Long getSeed() {
+        return random instanceof GameRandom gameRandom ? gameRandom.getSeed() : null;
+    }
+}
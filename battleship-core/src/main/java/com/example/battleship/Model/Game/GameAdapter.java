@@ -1,7 +1,7 @@
 package com.example.battleship.Model.Game;
 
 import com.example.battleship.Model.AI.SmartAI;
-import com.example.battleship.Model.Board.Board;
+import com.example.battleship.Model.Board.IBoard;
 import com.example.battleship.Model.Exceptions.InvalidPositionException;
 import com.example.battleship.Model.Exceptions.InvalidShotException;
 import com.example.battleship.Model.Player.Human;
@@ -25,7 +25,7 @@ import java.util.List;
  *     }
  *
  *     &#64;Override
- *     public boolean playTurn(Board board, Human player, int row, int col) {
+ *     public boolean playTurn(IBoard board, Human player, int row, int col) {
  *         // Custom turn logic
  *         return false;
  *     }
@@ -75,7 +75,7 @@ public abstract class GameAdapter implements IGame {
      * @throws InvalidShotException if the shot is invalid (not thrown by default)
      */
     @Override
-    public boolean playTurn(Board board, Human player, int row, int col) throws InvalidShotException {
+    public boolean playTurn(IBoard board, Human player, int row, int col) throws InvalidShotException {
         return false;
     }
 
@@ -106,7 +106,7 @@ public abstract class GameAdapter implements IGame {
      * @return {@code null} by default
      */
     @Override
-    public Board getMachineBoard() {
+    public IBoard getMachineBoard() {
         return null;
     }
 
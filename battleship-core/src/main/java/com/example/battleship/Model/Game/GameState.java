@@ -0,0 +1,295 @@
+package com.example.battleship.Model.Game;
+
+import com.example.battleship.Model.Board.BitBoard;
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.Board.CellBitSet;
+import com.example.battleship.Model.Board.IBoard;
+import com.example.battleship.Model.Ship.IShip;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Represents a serializable snapshot of the game state.
+ * <p>
+ * This class is used to persist and restore the current game progress,
+ * including boards, fleets, shot history, turn information, and game phase.
+ * </p>
+ *
+ * <p>
+ * It implements {@link Serializable} to allow saving the game state
+ * to disk and loading it later.
+ * </p>
+ *
+ * <p>
+ * Saves written before {@link BitBoard} existed hold legacy
+ * {@link com.example.battleship.Model.Board.Board} instances; they are
+ * migrated to bit boards when the snapshot is read back. Older saves also
+ * hold shots as sets of {@code "row,col"} strings, which are converted to
+ * {@link CellBitSet}s.
+ * </p>
+ */
+public class GameState implements Serializable {
+
+    /** Serialization version identifier. */
+    private static final long serialVersionUID = 1L;
+
+    /** Name of the human player. */
+    private String playerName;
+
+    /** Board belonging to the human player. */
+    private IBoard humanBoard;
+
+    /** Board belonging to the machine player. */
+    private IBoard machineBoard;
+
+    /** Fleet of ships owned by the human player. */
+    private List<IShip> humanFleet;
+
+    /** Fleet of ships owned by the machine player. */
+    private List<IShip> machineFleet;
+
+    /** Cells shot by the human player (on the machine board). */
+    private CellBitSet humanShots;
+
+    /** Cells shot by the machine player (on the human board). */
+    private CellBitSet machineShots;
+
+    /** Index of the current player turn. */
+    private int currentPlayerIndex;
+
+    /** Current phase of the game (renamed to avoid name conflict). */
+    private Game.GameState gamePhase;  // Renamed to avoid conflict
+
+    /** Indicates whether the game has ended. */
+    private boolean gameOver;
+
+    /** Seed of the game's random source, or null if unknown. */
+    private Long seed;
+
+    /**
+     * Creates a complete snapshot of the current game state.
+     *
+     * @param playerName         name of the human player
+     * @param humanBoard         human player's board
+     * @param machineBoard       machine player's board
+     * @param humanFleet         human player's fleet
+     * @param machineFleet       machine player's fleet
+     * @param humanShots         shots fired by the human player
+     * @param machineShots       shots fired by the machine player
+     * @param currentPlayerIndex index of the active player
+     * @param gamePhase          current game phase
+     * @param gameOver           whether the game has finished
+     */
+    public GameState(String playerName, IBoard humanBoard, IBoard machineBoard,
+                     List<IShip> humanFleet, List<IShip> machineFleet,
+                     CellBitSet humanShots, CellBitSet machineShots,
+                     int currentPlayerIndex, Game.GameState gamePhase, boolean gameOver) {
+        this(playerName, humanBoard, machineBoard, humanFleet, machineFleet, humanShots, machineShots,
+                currentPlayerIndex, gamePhase, gameOver, null);
+    }
+
+    /**
+     * Creates a complete snapshot of the current game state, with the seed
+     * that lets the game be replayed.
+     *
+     * @param playerName         name of the human player
+     * @param humanBoard         human player's board
+     * @param machineBoard       machine player's board
+     * @param humanFleet         human player's fleet
+     * @param machineFleet       machine player's fleet
+     * @param humanShots         shots fired by the human player
+     * @param machineShots       shots fired by the machine player
+     * @param currentPlayerIndex index of the active player
+     * @param gamePhase          current game phase
+     * @param gameOver           whether the game has finished
+     * @param seed               seed of the game's random source, or null if unknown
+     */
+    public GameState(String playerName, IBoard humanBoard, IBoard machineBoard,
+                     List<IShip> humanFleet, List<IShip> machineFleet,
+                     CellBitSet humanShots, CellBitSet machineShots,
+                     int currentPlayerIndex, Game.GameState gamePhase, boolean gameOver, Long seed) {
+        this.playerName = playerName;
+        this.humanBoard = humanBoard;
+        this.machineBoard = machineBoard;
+        this.humanFleet = humanFleet;
+        this.machineFleet = machineFleet;
+        this.humanShots = humanShots;
+        this.machineShots = machineShots;
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.gamePhase = gamePhase;  // Renamed
+        this.gameOver = gameOver;
+        this.seed = seed;
+    }
+
+    // ===================== GETTERS =====================
+
+    /**
+     * Returns the name of the human player.
+     *
+     * @return player name
+     */
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    /**
+     * Returns the human player's board.
+     *
+     * @return human board
+     */
+    public IBoard getHumanBoard() {
+        return humanBoard;
+    }
+
+    /**
+     * Returns the machine player's board.
+     *
+     * @return machine board
+     */
+    public IBoard getMachineBoard() {
+        return machineBoard;
+    }
+
+    /**
+     * Returns the human player's fleet.
+     *
+     * @return list of human ships
+     */
+    public List<IShip> getHumanFleet() {
+        return humanFleet;
+    }
+
+    /**
+     * Returns the machine player's fleet.
+     *
+     * @return list of machine ships
+     */
+    public List<IShip> getMachineFleet() {
+        return machineFleet;
+    }
+
+    /**
+     * Returns the cells shot by the human player.
+     *
+     * @return human shot history
+     */
+    public CellBitSet getHumanShots() {
+        return humanShots;
+    }
+
+    /**
+     * Returns the cells shot by the machine player.
+     *
+     * @return machine shot history
+     */
+    public CellBitSet getMachineShots() {
+        return machineShots;
+    }
+
+    /**
+     * Returns the index of the current player.
+     *
+     * @return current player index
+     */
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    /**
+     * Returns the current game phase.
+     *
+     * @return game phase
+     */
+    public Game.GameState getGamePhase() {  // Renamed
+        return gamePhase;
+    }
+
+    /**
+     * Indicates whether the game has ended.
+     *
+     * @return {@code true} if the game is over
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Returns the seed of the game's random source, which with the moves
+     * played reproduces the game.
+     *
+     * @return the seed, or null for saves that did not record it
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Reads the snapshot field by field, so that shot sets saved as
+     * {@code Set<String>} by older versions can be converted.
+     *
+     * @param in stream to read from
+     * @throws IOException            if the stream cannot be read
+     * @throws ClassNotFoundException if a saved class is missing
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        playerName = (String) fields.get("playerName", null);
+        humanBoard = (IBoard) fields.get("humanBoard", null);
+        machineBoard = (IBoard) fields.get("machineBoard", null);
+        humanFleet = castFleet(fields.get("humanFleet", null));
+        machineFleet = castFleet(fields.get("machineFleet", null));
+        currentPlayerIndex = fields.get("currentPlayerIndex", 0);
+        gamePhase = (Game.GameState) fields.get("gamePhase", null);
+        gameOver = fields.get("gameOver", false);
+        seed = (Long) fields.get("seed", null);
+
+        // Human shots land on the machine board and vice versa
+        humanShots = toCellBitSet(fields.get("humanShots", null), machineBoard);
+        machineShots = toCellBitSet(fields.get("machineShots", null), humanBoard);
+    }
+
+    /**
+     * Casts a deserialized fleet list.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<IShip> castFleet(Object fleet) {
+        return (List<IShip>) fleet;
+    }
+
+    /**
+     * Converts a saved shot collection to a {@link CellBitSet}.
+     *
+     * @param shots  a {@link CellBitSet}, a legacy collection of {@code "row,col"} keys, or null
+     * @param target board the shots were fired at, used for its dimensions
+     * @return the shots as a bitset; empty if none were saved
+     */
+    private static CellBitSet toCellBitSet(Object shots, IBoard target) {
+        if (shots instanceof CellBitSet bits) {
+            return bits;
+        }
+        BoardGeometry geometry = target != null ? target.getGeometry() : BoardGeometry.STANDARD;
+        if (shots instanceof Collection<?> keys) {
+            return CellBitSet.fromKeys(geometry, keys);
+        }
+        return new CellBitSet(geometry);
+    }
+
+    /**
+     * Migrates boards of legacy saves to {@link BitBoard} after deserialization.
+     *
+     * @return this snapshot, with both boards stored as bit boards
+     */
+    private Object readResolve() {
+        if (humanBoard != null && !(humanBoard instanceof BitBoard)) {
+            humanBoard = BitBoard.copyOf(humanBoard);
+        }
+        if (machineBoard != null && !(machineBoard instanceof BitBoard)) {
+            machineBoard = BitBoard.copyOf(machineBoard);
+        }
+        return this;
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.battleship.Model.Game;
 import com.example.battleship.Model.AI.SmartAI;
-import com.example.battleship.Model.Board.Board;
+import com.example.battleship.Model.Board.IBoard;
 import com.example.battleship.Model.Exceptions.InvalidPositionException;
 import com.example.battleship.Model.Exceptions.InvalidShotException;
 import com.example.battleship.Model.Player.Human;
@@ -39,7 +39,7 @@ public interface IGame {
      * @throws InvalidShotException if the shot is repeated or invalid
      */
 
-    boolean playTurn(Board board, Human player, int row, int col) throws InvalidShotException;
+    boolean playTurn(IBoard board, Human player, int row, int col) throws InvalidShotException;
 
     /**
      * Advances the turn to the next player.
@@ -58,7 +58,7 @@ public interface IGame {
      *
      * @return the board instance
      */
-    Board getMachineBoard();
+    IBoard getMachineBoard();
 
     /**
      * Returns the player whose turn is currently active.
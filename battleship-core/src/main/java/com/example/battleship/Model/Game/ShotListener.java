@@ -0,0 +1,28 @@
+package com.example.battleship.Model.Game;
+
+/**
+ * Receives every shot a {@link Game} resolves.
+ * <p>
+ * The listener is called right after the boards are updated and before any
+ * strategy is told the result, so it still sees what the shooter knew when it
+ * chose the cell. Shots rejected as {@link Game.ShotResult#INVALID} or
+ * {@link Game.ShotResult#ALREADY_SHOT} are not reported.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see Game#setShotListener(ShotListener)
+ */
+@FunctionalInterface
+public interface ShotListener {
+
+    /**
+     * Called for each resolved shot.
+     *
+     * @param human  true if the human seat fired
+     * @param row    target row
+     * @param col    target column
+     * @param result MISS, HIT or SUNK
+     */
+    void onShot(boolean human, int row, int col, Game.ShotResult result);
+}
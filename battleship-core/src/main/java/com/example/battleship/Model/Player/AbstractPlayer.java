@@ -0,0 +1,106 @@
+package com.example.battleship.Model.Player;
+
+import java.util.List;
+
+/**
+ * Base class holding the state shared by {@link Human} and {@link Machine}:
+ * the display name, the elimination flag and the {@link ShotHistory}.
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see PlayerAdapter
+ */
+public abstract class AbstractPlayer extends PlayerAdapter {
+
+    /** Display name of the player */
+    private final String name;
+
+    /** Whether the player has been eliminated */
+    private boolean eliminated;
+
+    /** Shots fired, in order, with constant-time lookup */
+    private final ShotHistory shotHistory = new ShotHistory();
+
+    /**
+     * Creates a player with the given name.
+     *
+     * @param name display name
+     */
+    protected AbstractPlayer(String name) {
+        this.name = name;
+        this.eliminated = false;
+    }
+
+    /**
+     * Records a shot; repeated shots are ignored.
+     *
+     * @param positionX column coordinate
+     * @param positionY row coordinate
+     */
+    @Override
+    public void shoot(int positionX, int positionY) {
+        shotHistory.add(positionX, positionY);
+    }
+
+    /**
+     * Checks whether the player already shot at the given coordinate, in constant time.
+     *
+     * @param x column coordinate
+     * @param y row coordinate
+     * @return true if a matching shot exists
+     */
+    @Override
+    public boolean alreadyShot(int x, int y) {
+        return shotHistory.contains(x, y);
+    }
+
+    /**
+     * Indicates whether this player has been eliminated.
+     *
+     * @return elimination state
+     */
+    @Override
+    public boolean isEliminated() {
+        return eliminated;
+    }
+
+    /**
+     * Returns the player's name.
+     *
+     * @return the stored name string
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the shots in firing order. Each element is an int[] representing {x, y}.
+     *
+     * @return read-only view of the shot history
+     */
+    @Override
+    public List<int[]> getShots() {
+        return shotHistory.asList();
+    }
+
+    /**
+     * Returns the ordered shot history.
+     *
+     * @return the shot history
+     */
+    @Override
+    public ShotHistory getShotHistory() {
+        return shotHistory;
+    }
+
+    /**
+     * Returns this player; there is no wrapped instance.
+     *
+     * @return this player
+     */
+    @Override
+    protected IPlayer getPlayer() {
+        return this;
+    }
+}
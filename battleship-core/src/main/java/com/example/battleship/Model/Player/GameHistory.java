@@ -0,0 +1,674 @@
+package com.example.battleship.Model.Player;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Append-only log of finished games with daily and weekly totals kept alongside.
+ * <p>
+ * Every {@link #append(GameRecord)} adds one length-prefixed record to the log
+ * ("data/game_history.log") and adds the game to the buckets of its day and ISO
+ * week (weeks start on Monday), both for its player and for all players. Stats
+ * screens read the buckets and never scan the log.
+ * </p>
+ *
+ * <p>
+ * The buckets are saved to a second file ("data/game_rollups.dat") every
+ * {@value #ROLLUP_SAVE_INTERVAL} games and on {@link #close()}, together with
+ * the log length they cover. On opening, only the records written after that
+ * point are read; the whole log is read again only if the rollup file is
+ * missing, unreadable or was computed in another time zone. A record cut short
+ * by a crash is dropped and the log is truncated to the last whole record.
+ * </p>
+ *
+ * <p>All methods are synchronized.</p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see GameRecord
+ */
+public final class GameHistory implements Closeable {
+
+    /** First bytes of the log: "BSGH" */
+    private static final int LOG_MAGIC = 0x42534748;
+
+    /** First bytes of the rollup file: "BSGR" */
+    private static final int ROLLUP_MAGIC = 0x42534752;
+
+    /** Current version of both files */
+    private static final short VERSION = 1;
+
+    /** Bytes taken by the log header: magic and version */
+    private static final int LOG_HEADER_BYTES = 6;
+
+    /** Games appended between two saves of the rollups */
+    private static final int ROLLUP_SAVE_INTERVAL = 50;
+
+    /** Key of the buckets that add up every player */
+    private static final String ALL_PLAYERS = "";
+
+    /** Default location of the log */
+    private static final Path DEFAULT_LOG = Paths.get("data", "game_history.log");
+
+    /** Default location of the rollups */
+    private static final Path DEFAULT_ROLLUPS = Paths.get("data", "game_rollups.dat");
+
+    /**
+     * Totals of the games finished in one day or week.
+     */
+    public static final class Bucket {
+
+        /** Games finished */
+        private int games;
+
+        /** Games won */
+        private int wins;
+
+        /** Shots fired by the player */
+        private long shots;
+
+        /** Player shots that hit */
+        private long hits;
+
+        /** Enemy ships sunk */
+        private long shipsSunk;
+
+        /** Player ships lost */
+        private long shipsLost;
+
+        /** Time played, in milliseconds */
+        private long durationMillis;
+
+        /**
+         * Creates an empty bucket.
+         */
+        public Bucket() {
+        }
+
+        /**
+         * Copies a bucket.
+         */
+        private Bucket(Bucket other) {
+            this.games = other.games;
+            this.wins = other.wins;
+            this.shots = other.shots;
+            this.hits = other.hits;
+            this.shipsSunk = other.shipsSunk;
+            this.shipsLost = other.shipsLost;
+            this.durationMillis = other.durationMillis;
+        }
+
+        /**
+         * Adds a game to the totals.
+         */
+        private void add(GameRecord record) {
+            games++;
+            if (record.isWon()) wins++;
+            shots += record.getShots();
+            hits += record.getHits();
+            shipsSunk += record.getShipsSunk();
+            shipsLost += record.getShipsLost();
+            durationMillis += record.getDurationMillis();
+        }
+
+        /**
+         * Adds another bucket to the totals.
+         */
+        private void add(Bucket other) {
+            games += other.games;
+            wins += other.wins;
+            shots += other.shots;
+            hits += other.hits;
+            shipsSunk += other.shipsSunk;
+            shipsLost += other.shipsLost;
+            durationMillis += other.durationMillis;
+        }
+
+        /**
+         * Gets the games finished.
+         *
+         * @return number of games
+         */
+        public int getGames() { return games; }
+
+        /**
+         * Gets the games won.
+         *
+         * @return number of wins
+         */
+        public int getWins() { return wins; }
+
+        /**
+         * Gets the shots fired.
+         *
+         * @return total shots
+         */
+        public long getShots() { return shots; }
+
+        /**
+         * Gets the shots that hit.
+         *
+         * @return total hits
+         */
+        public long getHits() { return hits; }
+
+        /**
+         * Gets the enemy ships sunk.
+         *
+         * @return ships sunk
+         */
+        public long getShipsSunk() { return shipsSunk; }
+
+        /**
+         * Gets the player ships lost.
+         *
+         * @return ships lost
+         */
+        public long getShipsLost() { return shipsLost; }
+
+        /**
+         * Gets the time played.
+         *
+         * @return total duration in milliseconds
+         */
+        public long getDurationMillis() { return durationMillis; }
+
+        /**
+         * Calculates the accuracy as a percentage.
+         *
+         * @return accuracy percentage (0-100), or 0 if no shots were fired
+         */
+        public double getAccuracy() {
+            return shots > 0 ? (hits * 100.0 / shots) : 0;
+        }
+
+        /**
+         * Calculates the share of games won as a percentage.
+         *
+         * @return win rate (0-100), or 0 if no games were played
+         */
+        public double getWinRate() {
+            return games > 0 ? (wins * 100.0 / games) : 0;
+        }
+
+        /**
+         * Writes the totals.
+         */
+        private void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(games);
+            out.writeInt(wins);
+            out.writeLong(shots);
+            out.writeLong(hits);
+            out.writeLong(shipsSunk);
+            out.writeLong(shipsLost);
+            out.writeLong(durationMillis);
+        }
+
+        /**
+         * Reads totals written by {@link #writeTo}.
+         */
+        private static Bucket readFrom(DataInputStream in) throws IOException {
+            Bucket bucket = new Bucket();
+            bucket.games = in.readInt();
+            bucket.wins = in.readInt();
+            bucket.shots = in.readLong();
+            bucket.hits = in.readLong();
+            bucket.shipsSunk = in.readLong();
+            bucket.shipsLost = in.readLong();
+            bucket.durationMillis = in.readLong();
+            return bucket;
+        }
+    }
+
+    /** Open log file */
+    private final FileChannel log;
+
+    /** Rollup file */
+    private final Path rollupFile;
+
+    /** Time zone that decides where days start */
+    private final ZoneId zone;
+
+    /** Daily buckets by lowercase player name, then epoch day */
+    private final Map<String, TreeMap<Long, Bucket>> daily = new HashMap<>();
+
+    /** Weekly buckets by lowercase player name, then epoch day of the week's Monday */
+    private final Map<String, TreeMap<Long, Bucket>> weekly = new HashMap<>();
+
+    /** Log length covered by the buckets */
+    private long logBytes;
+
+    /** Games in the log */
+    private long recordCount;
+
+    /** Games appended since the rollups were last saved */
+    private int unsavedGames;
+
+    /**
+     * Opens a history, creating its files if needed.
+     *
+     * @param logFile    log of games
+     * @param rollupFile saved daily and weekly totals
+     * @param zone       time zone that decides where days start
+     * @throws IOException if the log cannot be opened or read
+     */
+    public GameHistory(Path logFile, Path rollupFile, ZoneId zone) throws IOException {
+        this.rollupFile = rollupFile;
+        this.zone = zone;
+        if (logFile.getParent() != null) {
+            Files.createDirectories(logFile.getParent());
+        }
+        this.log = FileChannel.open(logFile,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            open();
+        } catch (IOException e) {
+            log.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Holder class for the lazily created shared instance.
+     */
+    private static class Holder {
+        private static final GameHistory INSTANCE = create();
+
+        /**
+         * Opens the shared history in the system time zone.
+         */
+        private static GameHistory create() {
+            try {
+                return new GameHistory(DEFAULT_LOG, DEFAULT_ROLLUPS, ZoneId.systemDefault());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the history shared by the application.
+     *
+     * @return the shared instance
+     * @throws UncheckedIOException if the history cannot be opened
+     */
+    public static GameHistory getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Records a finished game.
+     *
+     * @param record the game
+     * @throws IOException if the log cannot be written
+     */
+    public synchronized void append(GameRecord record) throws IOException {
+        byte[] payload = encode(record);
+        ByteBuffer buffer = ByteBuffer.allocate(4 + payload.length);
+        buffer.putInt(payload.length).put(payload).flip();
+        while (buffer.hasRemaining()) {
+            log.write(buffer, logBytes + buffer.position());
+        }
+        logBytes += buffer.limit();
+        recordCount++;
+        addToBuckets(record);
+
+        if (++unsavedGames >= ROLLUP_SAVE_INTERVAL) {
+            saveRollups();
+        }
+    }
+
+    /**
+     * Returns the totals of one day.
+     *
+     * @param playerName the player's username (case-insensitive), or null for all players
+     * @param day        the day
+     * @return copy of the totals; empty if no game finished that day
+     */
+    public synchronized Bucket getDaily(String playerName, LocalDate day) {
+        return find(daily, playerName, day.toEpochDay());
+    }
+
+    /**
+     * Returns the totals of the week (Monday to Sunday) containing a day.
+     *
+     * @param playerName the player's username (case-insensitive), or null for all players
+     * @param day        any day of the week
+     * @return copy of the totals; empty if no game finished that week
+     */
+    public synchronized Bucket getWeekly(String playerName, LocalDate day) {
+        return find(weekly, playerName, weekOf(day.toEpochDay()));
+    }
+
+    /**
+     * Returns the daily totals of a range of days, skipping days without games.
+     *
+     * @param playerName the player's username (case-insensitive), or null for all players
+     * @param from       first day
+     * @param to         last day, included
+     * @return copies of the totals by day, in order
+     */
+    public synchronized SortedMap<LocalDate, Bucket> getDailyRange(String playerName, LocalDate from, LocalDate to) {
+        SortedMap<LocalDate, Bucket> range = new TreeMap<>();
+        TreeMap<Long, Bucket> days = daily.get(keyOf(playerName));
+        if (days != null) {
+            days.subMap(from.toEpochDay(), true, to.toEpochDay(), true)
+                    .forEach((day, bucket) -> range.put(LocalDate.ofEpochDay(day), new Bucket(bucket)));
+        }
+        return range;
+    }
+
+    /**
+     * Returns the totals of a range of days, added from the daily buckets.
+     *
+     * @param playerName the player's username (case-insensitive), or null for all players
+     * @param from       first day
+     * @param to         last day, included
+     * @return totals of the range
+     */
+    public synchronized Bucket getTotal(String playerName, LocalDate from, LocalDate to) {
+        Bucket total = new Bucket();
+        TreeMap<Long, Bucket> days = daily.get(keyOf(playerName));
+        if (days != null) {
+            days.subMap(from.toEpochDay(), true, to.toEpochDay(), true).values().forEach(total::add);
+        }
+        return total;
+    }
+
+    /**
+     * Reads every game of the log, oldest first. This scans the whole log and
+     * is meant for exports and reports; totals should come from the buckets.
+     *
+     * @return all recorded games
+     * @throws IOException if the log cannot be read
+     */
+    public synchronized List<GameRecord> readAll() throws IOException {
+        List<GameRecord> records = new ArrayList<>();
+        scan(LOG_HEADER_BYTES, records);
+        return records;
+    }
+
+    /**
+     * Returns the number of games recorded.
+     *
+     * @return game count
+     */
+    public synchronized long size() {
+        return recordCount;
+    }
+
+    /**
+     * Saves the rollups and closes the log.
+     *
+     * @throws IOException if the rollups cannot be saved
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!log.isOpen()) return;
+        try {
+            if (unsavedGames > 0) {
+                saveRollups();
+            }
+        } finally {
+            log.close();
+        }
+    }
+
+    /**
+     * Checks or writes the log header, loads the saved rollups and reads the
+     * records they do not cover yet.
+     */
+    private void open() throws IOException {
+        if (log.size() < LOG_HEADER_BYTES) {
+            ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_BYTES);
+            header.putInt(LOG_MAGIC).putShort(VERSION).flip();
+            log.truncate(0);
+            log.write(header, 0);
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_BYTES);
+            log.read(header, 0);
+            header.flip();
+            if (header.getInt() != LOG_MAGIC || header.getShort() != VERSION) {
+                throw new IOException("Not a game history log");
+            }
+        }
+
+        boolean loaded = false;
+        try {
+            loaded = loadRollups();
+        } catch (IOException e) {
+            System.err.println("⚠️ Rebuilding game rollups: " + e.getMessage());
+        }
+        if (!loaded) {
+            daily.clear();
+            weekly.clear();
+            logBytes = LOG_HEADER_BYTES;
+            recordCount = 0;
+        }
+
+        long covered = logBytes;
+        long end = scan(logBytes, null);
+        if (end < log.size()) {
+            System.err.println("⚠️ Dropping an incomplete game record");
+            log.truncate(end);
+        }
+        if (!loaded || end != covered) {
+            saveRollups();
+        }
+    }
+
+    /**
+     * Reads the records from an offset to the end of the log. Records past the
+     * buckets' coverage are added to them; if a list is given, every record read
+     * is also added to it.
+     *
+     * @return offset just after the last whole record
+     */
+    private long scan(long from, List<GameRecord> out) throws IOException {
+        long size = log.size();
+        long position = from;
+        DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Channels.newInputStream(log.position(from)), 1 << 16));
+        while (position + 4 <= size) {
+            int length = in.readInt();
+            if (length <= 0 || position + 4 + length > size) break;
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            GameRecord record;
+            try {
+                record = decode(payload);
+            } catch (IOException | IllegalArgumentException e) {
+                break;
+            }
+            position += 4 + length;
+            if (out != null) {
+                out.add(record);
+            }
+            if (position > logBytes) {
+                logBytes = position;
+                recordCount++;
+                addToBuckets(record);
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Adds a game to its day and week, for its player and for all players.
+     */
+    private void addToBuckets(GameRecord record) {
+        long day = LocalDate.ofInstant(Instant.ofEpochMilli(record.getFinishedAt()), zone).toEpochDay();
+        long week = weekOf(day);
+        for (String key : new String[]{record.getPlayerName().toLowerCase(), ALL_PLAYERS}) {
+            daily.computeIfAbsent(key, k -> new TreeMap<>()).computeIfAbsent(day, d -> new Bucket()).add(record);
+            weekly.computeIfAbsent(key, k -> new TreeMap<>()).computeIfAbsent(week, w -> new Bucket()).add(record);
+        }
+    }
+
+    /**
+     * Returns a copy of a bucket, or an empty bucket.
+     */
+    private static Bucket find(Map<String, TreeMap<Long, Bucket>> buckets, String playerName, long key) {
+        TreeMap<Long, Bucket> byPeriod = buckets.get(keyOf(playerName));
+        Bucket bucket = byPeriod == null ? null : byPeriod.get(key);
+        return bucket == null ? new Bucket() : new Bucket(bucket);
+    }
+
+    /**
+     * Returns the bucket key of a player.
+     */
+    private static String keyOf(String playerName) {
+        return playerName == null ? ALL_PLAYERS : playerName.toLowerCase();
+    }
+
+    /**
+     * Returns the epoch day of the Monday starting the week of an epoch day.
+     */
+    private static long weekOf(long epochDay) {
+        return LocalDate.ofEpochDay(epochDay).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toEpochDay();
+    }
+
+    /**
+     * Writes the buckets and the log length they cover, replacing the file atomically.
+     */
+    private void saveRollups() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(ROLLUP_MAGIC);
+            out.writeShort(VERSION);
+            out.writeUTF(zone.getId());
+            out.writeLong(logBytes);
+            out.writeLong(recordCount);
+            writeBuckets(out, daily);
+            writeBuckets(out, weekly);
+        }
+
+        Path absolute = rollupFile.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        Files.write(temp, bytes.toByteArray());
+        try {
+            Files.move(temp, absolute, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+        }
+        unsavedGames = 0;
+    }
+
+    /**
+     * Reads saved buckets if they match this history's zone and log.
+     *
+     * @return false if there is nothing usable to load
+     */
+    private boolean loadRollups() throws IOException {
+        if (!Files.exists(rollupFile)) return false;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(rollupFile)))) {
+            if (in.readInt() != ROLLUP_MAGIC || in.readShort() != VERSION) {
+                throw new IOException("Not a game rollup file");
+            }
+            if (!in.readUTF().equals(zone.getId())) {
+                return false;
+            }
+            long covered = in.readLong();
+            long count = in.readLong();
+            if (covered < LOG_HEADER_BYTES || covered > log.size()) {
+                return false;
+            }
+            readBuckets(in, daily);
+            readBuckets(in, weekly);
+            logBytes = covered;
+            recordCount = count;
+            return true;
+        } catch (EOFException e) {
+            daily.clear();
+            weekly.clear();
+            throw new IOException("Truncated game rollup file", e);
+        }
+    }
+
+    /**
+     * Writes one set of buckets.
+     */
+    private static void writeBuckets(DataOutputStream out, Map<String, TreeMap<Long, Bucket>> buckets) throws IOException {
+        out.writeInt(buckets.size());
+        for (Map.Entry<String, TreeMap<Long, Bucket>> player : buckets.entrySet()) {
+            out.writeUTF(player.getKey());
+            out.writeInt(player.getValue().size());
+            for (Map.Entry<Long, Bucket> period : player.getValue().entrySet()) {
+                out.writeLong(period.getKey());
+                period.getValue().writeTo(out);
+            }
+        }
+    }
+
+    /**
+     * Reads one set of buckets written by {@link #writeBuckets}.
+     */
+    private static void readBuckets(DataInputStream in, Map<String, TreeMap<Long, Bucket>> buckets) throws IOException {
+        int players = in.readInt();
+        for (int p = 0; p < players; p++) {
+            String key = in.readUTF();
+            int periods = in.readInt();
+            TreeMap<Long, Bucket> byPeriod = new TreeMap<>();
+            for (int i = 0; i < periods; i++) {
+                byPeriod.put(in.readLong(), Bucket.readFrom(in));
+            }
+            buckets.put(key, byPeriod);
+        }
+    }
+
+    /**
+     * Encodes the fields of a game.
+     */
+    private static byte[] encode(GameRecord record) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(record.getPlayerName());
+            out.writeLong(record.getFinishedAt());
+            out.writeLong(record.getDurationMillis());
+            out.writeByte(record.getAiMode().ordinal());
+            out.writeBoolean(record.isWon());
+            out.writeShort(record.getShipsSunk());
+            out.writeShort(record.getShipsLost());
+            out.writeInt(record.getShots());
+            out.writeInt(record.getHits());
+            out.writeInt(record.getMachineMisses());
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes the fields written by {@link #encode}.
+     */
+    private static GameRecord decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        String playerName = in.readUTF();
+        long finishedAt = in.readLong();
+        long durationMillis = in.readLong();
+        int mode = in.readUnsignedByte();
+        GameRecord.AiMode[] modes = GameRecord.AiMode.values();
+        if (mode >= modes.length) {
+            throw new IOException("Unknown AI mode: " + mode);
+        }
+        return new GameRecord(playerName, finishedAt, durationMillis, modes[mode], in.readBoolean(),
+                in.readShort(), in.readShort(), in.readInt(), in.readInt(), in.readInt());
+    }
+}
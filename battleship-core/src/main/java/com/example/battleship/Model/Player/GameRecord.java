@@ -0,0 +1,175 @@
+package com.example.battleship.Model.Player;
+
+/**
+ * Summary of one finished game, as kept by {@link GameHistory}.
+ * <p>
+ * Holds what the statistics screen shows at the end of a game, plus when the
+ * game finished, how long it was played and which kind of AI the player faced.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see GameHistory
+ */
+public final class GameRecord {
+
+    /**
+     * Kind of AI behind a game or a shot.
+     */
+    public enum AiMode {
+        /** {@link com.example.battleship.Model.AI.SmartAI} with its heat map heuristics */
+        HEURISTIC,
+        /** {@link com.example.battleship.Model.AI.SmartAI} targeting by Monte Carlo sampling */
+        MONTE_CARLO,
+        /** {@link com.example.battleship.Model.AI.RandomAI} */
+        RANDOM,
+        /** No AI: a person fired; used when exporting shots of played games */
+        HUMAN
+    }
+
+    /** Player's username */
+    private final String playerName;
+
+    /** When the game finished, in epoch milliseconds */
+    private final long finishedAt;
+
+    /** Time played, in milliseconds */
+    private final long durationMillis;
+
+    /** Kind of AI faced */
+    private final AiMode aiMode;
+
+    /** Whether the player won */
+    private final boolean won;
+
+    /** Enemy ships sunk by the player */
+    private final int shipsSunk;
+
+    /** Player ships sunk by the machine */
+    private final int shipsLost;
+
+    /** Shots fired by the player */
+    private final int shots;
+
+    /** Player shots that hit a ship */
+    private final int hits;
+
+    /** Shots missed by the machine */
+    private final int machineMisses;
+
+    /**
+     * Creates a game record.
+     *
+     * @param playerName     player's username
+     * @param finishedAt     when the game finished, in epoch milliseconds
+     * @param durationMillis time played, in milliseconds
+     * @param aiMode         kind of AI faced
+     * @param won            true if the player won
+     * @param shipsSunk      enemy ships sunk by the player
+     * @param shipsLost      player ships sunk by the machine
+     * @param shots          shots fired by the player
+     * @param hits           player shots that hit a ship
+     * @param machineMisses  shots missed by the machine
+     */
+    public GameRecord(String playerName, long finishedAt, long durationMillis, AiMode aiMode, boolean won,
+                      int shipsSunk, int shipsLost, int shots, int hits, int machineMisses) {
+        this.playerName = playerName;
+        this.finishedAt = finishedAt;
+        this.durationMillis = durationMillis;
+        this.aiMode = aiMode;
+        this.won = won;
+        this.shipsSunk = shipsSunk;
+        this.shipsLost = shipsLost;
+        this.shots = shots;
+        this.hits = hits;
+        this.machineMisses = machineMisses;
+    }
+
+    /**
+     * Gets the player's username.
+     *
+     * @return player name
+     */
+    public String getPlayerName() { return playerName; }
+
+    /**
+     * Gets when the game finished.
+     *
+     * @return epoch milliseconds
+     */
+    public long getFinishedAt() { return finishedAt; }
+
+    /**
+     * Gets the time played.
+     *
+     * @return duration in milliseconds
+     */
+    public long getDurationMillis() { return durationMillis; }
+
+    /**
+     * Gets the kind of AI faced.
+     *
+     * @return AI mode
+     */
+    public AiMode getAiMode() { return aiMode; }
+
+    /**
+     * Indicates whether the player won.
+     *
+     * @return true for a victory
+     */
+    public boolean isWon() { return won; }
+
+    /**
+     * Gets the enemy ships sunk by the player.
+     *
+     * @return ships sunk
+     */
+    public int getShipsSunk() { return shipsSunk; }
+
+    /**
+     * Gets the player ships sunk by the machine.
+     *
+     * @return ships lost
+     */
+    public int getShipsLost() { return shipsLost; }
+
+    /**
+     * Gets the shots fired by the player.
+     *
+     * @return shots fired
+     */
+    public int getShots() { return shots; }
+
+    /**
+     * Gets the player shots that hit a ship.
+     *
+     * @return hits
+     */
+    public int getHits() { return hits; }
+
+    /**
+     * Gets the player shots that missed.
+     *
+     * @return misses
+     */
+    public int getMisses() { return shots - hits; }
+
+    /**
+     * Gets the shots missed by the machine.
+     *
+     * @return machine misses
+     */
+    public int getMachineMisses() { return machineMisses; }
+
+    /**
+     * Returns a formatted summary of the game.
+     *
+     * @return string with player, outcome, shots and hits
+     */
+    @Override
+    public String toString() {
+        return String.format("Game: %s | %s | Shots: %d | Hits: %d | %s | %ds",
+                playerName, won ? "Won" : "Lost", shots, hits, aiMode, durationMillis / 1000);
+    }
+}
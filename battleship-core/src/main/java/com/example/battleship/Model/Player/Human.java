@@ -0,0 +1,17 @@
+package com.example.battleship.Model.Player;
+
+/**
+ * Human player implementation. The name, elimination state and
+ * shot history are kept by {@link AbstractPlayer}.
+ */
+public class Human extends AbstractPlayer {
+
+    /**
+     * Constructs a Human player with the given name.
+     *
+     * @param name player's display name
+     */
+    public Human(String name){
+        super(name);
+    }
+}
@@ -40,10 +40,17 @@ public interface IPlayer {
     String getName();
 
     /**
-     * Returns the list of shots this player has made.
+     * Returns the list of shots this player has made, in firing order.
      * Each shot is represented as an int[] of length 2: {x, y}.
      *
-     * @return mutable list of shot coordinates
+     * @return read-only list of shot coordinates
      */
     List<int[]> getShots();
+
+    /**
+     * Returns the ordered shot history, which answers {@link #alreadyShot} in constant time.
+     *
+     * @return the shot history
+     */
+    ShotHistory getShotHistory();
 }
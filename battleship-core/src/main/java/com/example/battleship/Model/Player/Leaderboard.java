@@ -0,0 +1,426 @@
+package com.example.battleship.Model.Player;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Players ranked by wins, then accuracy, kept in order as their stats change.
+ * <p>
+ * The ranking is a treap (a binary search tree balanced by random priorities)
+ * where every node also counts the nodes below it. Updating a player, finding
+ * a player's rank and reaching the N-th player all take O(log n); listing the
+ * top N players takes O(N + log n). Players with the same wins and accuracy are
+ * ordered by name so the ranking is stable.
+ * </p>
+ *
+ * <p>
+ * {@link #save(Path)} writes the players in rank order. {@link #load(Path)}
+ * rebuilds the tree from that order in linear time, without sorting.
+ * </p>
+ *
+ * <p>All methods are synchronized.</p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see PlayerStatsCache
+ */
+public final class Leaderboard {
+
+    /** First bytes of a saved leaderboard: "BSLB" */
+    private static final int MAGIC = 0x42534C42;
+
+    /** Current file version */
+    private static final short VERSION = 1;
+
+    /** Ranking order: more wins first, then higher accuracy, then name */
+    static final Comparator<PlayerData> ORDER = Comparator
+            .comparingInt(PlayerData::getGamesWon).reversed()
+            .thenComparing(Comparator.comparingDouble(PlayerData::getAccuracy).reversed())
+            .thenComparing(player -> player.getName().toLowerCase());
+
+    /**
+     * A ranked player.
+     */
+    private static final class Node {
+
+        /** Player's statistics; replaced, never modified */
+        private final PlayerData player;
+
+        /** Heap priority that keeps the tree balanced */
+        private final int priority;
+
+        /** Number of nodes in this subtree */
+        private int size = 1;
+
+        /** Better-ranked players */
+        private Node left;
+
+        /** Worse-ranked players */
+        private Node right;
+
+        /**
+         * Creates a leaf.
+         */
+        private Node(PlayerData player, int priority) {
+            this.player = player;
+            this.priority = priority;
+        }
+    }
+
+    /** Root of the treap */
+    private Node root;
+
+    /** Current statistics of every ranked player, by lowercase name */
+    private final Map<String, PlayerData> byName = new HashMap<>();
+
+    /**
+     * Creates an empty leaderboard.
+     */
+    public Leaderboard() {
+    }
+
+    /**
+     * Creates a leaderboard of the given players, sorting them once.
+     *
+     * @param players players to rank
+     * @return the leaderboard
+     */
+    public static Leaderboard of(Collection<PlayerData> players) {
+        Map<String, PlayerData> latest = new HashMap<>();
+        for (PlayerData player : players) {
+            latest.put(player.getName().toLowerCase(), copyOf(player));
+        }
+        List<PlayerData> sorted = new ArrayList<>(latest.values());
+        sorted.sort(ORDER);
+        Leaderboard board = new Leaderboard();
+        board.buildSorted(sorted);
+        return board;
+    }
+
+    /**
+     * Adds a player or moves it to the rank of its new statistics.
+     *
+     * @param player player's current statistics
+     */
+    public synchronized void update(PlayerData player) {
+        PlayerData copy = copyOf(player);
+        PlayerData previous = byName.put(player.getName().toLowerCase(), copy);
+        if (previous != null) {
+            root = delete(root, previous);
+        }
+        root = insert(root, new Node(copy, ThreadLocalRandom.current().nextInt()));
+    }
+
+    /**
+     * Removes a player from the ranking.
+     *
+     * @param playerName the player's username (case-insensitive)
+     * @return true if the player was ranked
+     */
+    public synchronized boolean remove(String playerName) {
+        PlayerData previous = byName.remove(playerName.toLowerCase());
+        if (previous == null) return false;
+        root = delete(root, previous);
+        return true;
+    }
+
+    /**
+     * Returns a player's rank.
+     *
+     * @param playerName the player's username (case-insensitive)
+     * @return rank starting at 1, or -1 if the player is not ranked
+     */
+    public synchronized int getRank(String playerName) {
+        PlayerData player = byName.get(playerName.toLowerCase());
+        if (player == null) return -1;
+
+        int better = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = ORDER.compare(player, node.player);
+            if (cmp == 0) {
+                return better + size(node.left) + 1;
+            }
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                better += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the player at a rank.
+     *
+     * @param rank rank starting at 1
+     * @return copy of the player's statistics, or null if the rank is out of range
+     */
+    public synchronized PlayerData getPlayerAt(int rank) {
+        if (rank < 1 || rank > size(root)) return null;
+        int index = rank - 1;
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return copyOf(node.player);
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the best-ranked players.
+     *
+     * @param limit maximum number of players to return
+     * @return copies of the top players, best first
+     */
+    public synchronized List<PlayerData> getTop(int limit) {
+        List<PlayerData> top = new ArrayList<>(Math.max(0, Math.min(limit, size(root))));
+        collect(root, top, limit);
+        return top;
+    }
+
+    /**
+     * Returns the number of ranked players.
+     *
+     * @return player count
+     */
+    public synchronized int size() {
+        return size(root);
+    }
+
+    /**
+     * Writes the ranking, best first, replacing the file atomically.
+     *
+     * @param file file to write
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void save(Path file) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + 32 * byName.size());
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(size(root));
+            List<PlayerData> all = new ArrayList<>(size(root));
+            collect(root, all, Integer.MAX_VALUE);
+            for (PlayerData player : all) {
+                out.writeUTF(player.getName());
+                out.writeInt(player.getGamesPlayed());
+                out.writeInt(player.getGamesWon());
+                out.writeInt(player.getTotalShots());
+                out.writeInt(player.getTotalHits());
+            }
+        }
+
+        Path absolute = file.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        Files.write(temp, bytes.toByteArray());
+        try {
+            Files.move(temp, absolute, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads a ranking written by {@link #save(Path)}. The players are already in
+     * order, so the tree is rebuilt in linear time; a file found out of order is
+     * sorted instead.
+     *
+     * @param file file to read
+     * @return the leaderboard, or null if the file does not exist
+     * @throws IOException if the file is truncated or not a leaderboard
+     */
+    public static Leaderboard load(Path file) throws IOException {
+        if (!Files.exists(file)) return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a leaderboard file");
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported leaderboard version: " + version);
+            }
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IOException("Invalid leaderboard size: " + count);
+            }
+            List<PlayerData> players = new ArrayList<>(Math.min(count, 1 << 16));
+            boolean sorted = true;
+            for (int i = 0; i < count; i++) {
+                PlayerData player = new PlayerData(in.readUTF(), in.readInt(), in.readInt(), in.readInt(), in.readInt());
+                if (!players.isEmpty() && ORDER.compare(players.get(players.size() - 1), player) >= 0) {
+                    sorted = false;
+                }
+                players.add(player);
+            }
+            if (!sorted) {
+                return of(players);
+            }
+            Leaderboard board = new Leaderboard();
+            board.buildSorted(players);
+            return board;
+        } catch (EOFException e) {
+            throw new IOException("Truncated leaderboard file", e);
+        }
+    }
+
+    /**
+     * Builds the tree from players in strictly increasing {@link #ORDER}, in linear
+     * time: each node is pushed on the right spine, popping the nodes of lower priority
+     * that become its left subtree.
+     */
+    private void buildSorted(List<PlayerData> sorted) {
+        Node[] spine = new Node[sorted.size() + 1];
+        int top = 0;
+        for (PlayerData player : sorted) {
+            byName.put(player.getName().toLowerCase(), player);
+            Node node = new Node(player, ThreadLocalRandom.current().nextInt());
+            Node last = null;
+            while (top > 0 && spine[top - 1].priority < node.priority) {
+                last = spine[--top];
+                last.size = 1 + size(last.left) + size(last.right);
+            }
+            node.left = last;
+            if (top > 0) {
+                spine[top - 1].right = node;
+            }
+            spine[top++] = node;
+        }
+        while (top > 1) {
+            Node node = spine[--top];
+            node.size = 1 + size(node.left) + size(node.right);
+        }
+        if (top == 1) {
+            spine[0].size = 1 + size(spine[0].left) + size(spine[0].right);
+            root = spine[0];
+        }
+    }
+
+    /**
+     * Inserts a node, rotating it up while its priority beats its parent's.
+     */
+    private static Node insert(Node node, Node added) {
+        if (node == null) return added;
+        if (ORDER.compare(added.player, node.player) < 0) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        resize(node);
+        return node;
+    }
+
+    /**
+     * Deletes the node of a player by merging its subtrees.
+     */
+    private static Node delete(Node node, PlayerData player) {
+        if (node == null) return null;
+        int cmp = ORDER.compare(player, node.player);
+        if (cmp < 0) {
+            node.left = delete(node.left, player);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, player);
+        } else {
+            return merge(node.left, node.right);
+        }
+        resize(node);
+        return node;
+    }
+
+    /**
+     * Joins two treaps where every player of the first ranks above the second.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            resize(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        resize(right);
+        return right;
+    }
+
+    /**
+     * Rotates the left child up.
+     */
+    private static Node rotateRight(Node node) {
+        Node child = node.left;
+        node.left = child.right;
+        child.right = node;
+        resize(node);
+        resize(child);
+        return child;
+    }
+
+    /**
+     * Rotates the right child up.
+     */
+    private static Node rotateLeft(Node node) {
+        Node child = node.right;
+        node.right = child.left;
+        child.left = node;
+        resize(node);
+        resize(child);
+        return child;
+    }
+
+    /**
+     * Adds players in rank order until the list holds the limit.
+     */
+    private static void collect(Node node, List<PlayerData> out, int limit) {
+        if (node == null || out.size() >= limit) return;
+        collect(node.left, out, limit);
+        if (out.size() < limit) {
+            out.add(copyOf(node.player));
+            collect(node.right, out, limit);
+        }
+    }
+
+    /**
+     * Recomputes a node's subtree size from its children.
+     */
+    private static void resize(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    /**
+     * Returns the size of a subtree, 0 for none.
+     */
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Copies a player's statistics.
+     */
+    private static PlayerData copyOf(PlayerData player) {
+        return new PlayerData(player.getName(), player.getGamesPlayed(), player.getGamesWon(),
+                player.getTotalShots(), player.getTotalHits());
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.battleship.Model.Player;
+
+/**
+ * Simple machine (CPU) player implementation.
+ * It shares its state handling with {@link Human} through {@link AbstractPlayer}.
+ */
+public class Machine extends AbstractPlayer {
+
+    /**
+     * Constructs a Machine player with the given name.
+     *
+     * @param name CPU display name
+     */
+    public Machine(String name){
+        super(name);
+    }
+}
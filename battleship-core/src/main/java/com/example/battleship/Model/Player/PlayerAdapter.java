@@ -72,13 +72,24 @@ public abstract class PlayerAdapter implements IPlayer {
      * Each shot is represented as an int[] of length 2: {x, y}.
      * <p>Default implementation delegates to the wrapped player.</p>
      *
-     * @return mutable list of shot coordinates
+     * @return read-only list of shot coordinates
      */
     @Override
     public List<int[]> getShots() {
         return null;
     }
 
+    /**
+     * Returns the ordered shot history.
+     * <p>Default implementation delegates to the wrapped player.</p>
+     *
+     * @return the shot history
+     */
+    @Override
+    public ShotHistory getShotHistory() {
+        return null;
+    }
+
     /**
      * Returns the wrapped IPlayer instance.
      * Useful if you need direct access to the underlying Player object.
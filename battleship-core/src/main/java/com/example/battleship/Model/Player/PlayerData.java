@@ -8,9 +8,10 @@ package com.example.battleship.Model.Player;
  * file-based persistence and static methods for managing multiple player profiles.
  * </p>
  *
- * <p>Player data is automatically stored in the {@code data/players.csv} file,
- * with one player record per line. The class uses case-insensitive player names
- * as unique identifiers.</p>
+ * <p>Player data is stored in {@code data/players.db} through {@link PlayerStore},
+ * one fixed-size record per player, imported from the older {@code data/players.csv}
+ * on first use. The static methods go through the shared {@link PlayerStatsCache}.
+ * The class uses case-insensitive player names as unique identifiers.</p>
  *
  * @author Battleship Development Team
  * @version 1.0
@@ -169,96 +170,52 @@ public class PlayerData {
 
     // ==================== PERSISTENCE METHODS ====================
 
-    /** Directory where player data is stored */
-    private static final String DATA_DIR = "data";
-
-    /** Filename for player data CSV */
-    private static final String PLAYERS_FILE = "players.csv";
-
-    /** Full path to player data file */
-    private static final String FILE_PATH = DATA_DIR + java.io.File.separator + PLAYERS_FILE;
-
-    static {
-        createDataDirectory();
-    }
-
-    /**
-     * Creates the data directory if it doesn't exist.
-     */
-    private static void createDataDirectory() {
-        try {
-            java.nio.file.Path path = java.nio.file.Paths.get(DATA_DIR);
-            if (!java.nio.file.Files.exists(path)) {
-                java.nio.file.Files.createDirectories(path);
-            }
-        } catch (java.io.IOException e) {
-            System.err.println("Error creating data directory: " + e.getMessage());
-        }
-    }
-
     /**
-     * Saves or updates a player's data to the CSV file.
+     * Saves or updates a player's data.
      * <p>
      * If a player with the same name (case-insensitive) already exists,
-     * their data is updated. Otherwise, a new entry is created.
+     * their data is replaced. The write to disk is batched by {@link PlayerStatsCache}.
      * </p>
      *
      * @param player the PlayerData object to save
      */
     public static void savePlayerData(PlayerData player) {
-        java.util.Map<String, PlayerData> players = loadAllPlayers();
-        players.put(player.getName().toLowerCase(), player);
-
-        try (java.io.BufferedWriter writer = new java.io.BufferedWriter(new java.io.FileWriter(FILE_PATH))) {
-            for (PlayerData p : players.values()) {
-                writer.write(p.toCSV());
-                writer.newLine();
-            }
-        } catch (java.io.IOException e) {
+        try {
+            PlayerStatsCache.getInstance().put(player);
+        } catch (java.io.UncheckedIOException e) {
             System.err.println("Error saving player data: " + e.getMessage());
         }
     }
 
     /**
-     * Loads a specific player's data from the CSV file.
+     * Loads a specific player's data.
      *
      * @param playerName the player's username (case-insensitive)
      * @return PlayerData object if found, null otherwise
      */
     public static PlayerData loadPlayerData(String playerName) {
-        java.util.Map<String, PlayerData> players = loadAllPlayers();
-        return players.get(playerName.toLowerCase());
+        try {
+            return PlayerStatsCache.getInstance().get(playerName);
+        } catch (java.io.UncheckedIOException e) {
+            System.err.println("Error loading player data: " + e.getMessage());
+            return null;
+        }
     }
 
     /**
-     * Loads all player data from the CSV file.
+     * Loads all player data.
      *
      * @return map of player names (lowercase) to PlayerData objects
      */
     public static java.util.Map<String, PlayerData> loadAllPlayers() {
         java.util.Map<String, PlayerData> players = new java.util.HashMap<>();
-        java.io.File file = new java.io.File(FILE_PATH);
-
-        if (!file.exists()) {
-            return players;
-        }
-
-        try (java.io.BufferedReader reader = new java.io.BufferedReader(new java.io.FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (line.trim().isEmpty()) continue;
-
-                String[] data = line.split(",");
-                PlayerData player = PlayerData.fromCSV(data);
-
-                if (player != null) {
-                    players.put(player.getName().toLowerCase(), player);
-                }
+        try {
+            for (PlayerData player : PlayerStatsCache.getInstance().getAll()) {
+                players.put(player.getName().toLowerCase(), player);
             }
-        } catch (java.io.IOException e) {
+        } catch (java.io.UncheckedIOException e) {
             System.err.println("Error loading player data: " + e.getMessage());
         }
-
         return players;
     }
 
@@ -266,23 +223,35 @@ public class PlayerData {
      * Returns the top players sorted by wins and accuracy.
      * <p>
      * Players are first sorted by number of wins (descending), then by
-     * accuracy percentage (descending) as a tiebreaker.
+     * accuracy percentage (descending) as a tiebreaker. The ranking is kept
+     * up to date by {@link Leaderboard}, so no sorting happens here.
      * </p>
      *
      * @param limit maximum number of players to return
      * @return list of top players, may be smaller than limit if fewer players exist
      */
     public static java.util.List<PlayerData> getTopPlayers(int limit) {
-        java.util.List<PlayerData> allPlayers = new java.util.ArrayList<>(loadAllPlayers().values());
-
-        allPlayers.sort((p1, p2) -> {
-            int winComparison = Integer.compare(p2.getGamesWon(), p1.getGamesWon());
-            if (winComparison != 0) return winComparison;
-
-            return Double.compare(p2.getAccuracy(), p1.getAccuracy());
-        });
+        try {
+            return PlayerStatsCache.getInstance().getLeaderboard().getTop(limit);
+        } catch (java.io.UncheckedIOException e) {
+            System.err.println("Error loading player data: " + e.getMessage());
+            return new java.util.ArrayList<>();
+        }
+    }
 
-        return allPlayers.subList(0, Math.min(limit, allPlayers.size()));
+    /**
+     * Returns a player's position in the ranking of {@link #getTopPlayers(int)}.
+     *
+     * @param playerName the player's username (case-insensitive)
+     * @return rank starting at 1, or -1 if the player has no statistics
+     */
+    public static int getPlayerRank(String playerName) {
+        try {
+            return PlayerStatsCache.getInstance().getLeaderboard().getRank(playerName);
+        } catch (java.io.UncheckedIOException e) {
+            System.err.println("Error loading player data: " + e.getMessage());
+            return -1;
+        }
     }
 
     /**
@@ -292,25 +261,24 @@ public class PlayerData {
      * @return true if player exists, false otherwise
      */
     public static boolean playerExists(String playerName) {
-        return loadPlayerData(playerName) != null;
+        try {
+            return PlayerStatsCache.getInstance().contains(playerName);
+        } catch (java.io.UncheckedIOException e) {
+            System.err.println("Error loading player data: " + e.getMessage());
+            return false;
+        }
     }
 
     /**
-     * Deletes a player's data from the CSV file.
+     * Deletes a player's data.
      *
      * @param playerName the player's username (case-insensitive)
      */
     public static void deletePlayerData(String playerName) {
-        java.util.Map<String, PlayerData> players = loadAllPlayers();
-        players.remove(playerName.toLowerCase());
-
-        try (java.io.BufferedWriter writer = new java.io.BufferedWriter(new java.io.FileWriter(FILE_PATH))) {
-            for (PlayerData p : players.values()) {
-                writer.write(p.toCSV());
-                writer.newLine();
-            }
-        } catch (java.io.IOException e) {
+        try {
+            PlayerStatsCache.getInstance().remove(playerName);
+        } catch (java.io.UncheckedIOException e) {
             System.err.println("Error deleting player data: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
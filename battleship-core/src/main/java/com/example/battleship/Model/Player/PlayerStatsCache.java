@@ -0,0 +1,492 @@
+package com.example.battleship.Model.Player;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide cache of player statistics in front of a {@link PlayerStore}.
+ * <p>
+ * A player is read from the store the first time it is asked for and served
+ * from memory afterwards. Updates are merged into the cached entry and mark it
+ * dirty. The first update after a flush schedules the next one on a single
+ * background thread, so every game finished within the flush delay shares one
+ * batch of writes.
+ * </p>
+ *
+ * <p>
+ * Entries are updated inside {@link ConcurrentHashMap#compute}, so games
+ * finishing at the same time on different threads never lose an update. Callers
+ * get copies and never see an entry change under them.
+ * </p>
+ *
+ * <p>
+ * The cache also keeps the {@link Leaderboard} up to date: every change to an
+ * entry re-ranks that player while the entry is locked, and the batches that
+ * write dirty entries also save the ranking.
+ * </p>
+ *
+ * <p>
+ * The application must {@link #close()} the cache on exit to write the last batch.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see PlayerStore
+ */
+public final class PlayerStatsCache implements AutoCloseable {
+
+    /** Delay between the first pending update and its flush */
+    private static final long DEFAULT_FLUSH_DELAY_MILLIS = 2000;
+
+    /** Default location of the saved ranking */
+    private static final Path DEFAULT_LEADERBOARD_PATH = Paths.get("data", "leaderboard.dat");
+
+    /** Backing store; only the writer thread writes to it */
+    private final PlayerStore store;
+
+    /** Delay between the first pending update and its flush */
+    private final long flushDelayMillis;
+
+    /** Cached players by lowercase name */
+    private final ConcurrentHashMap<String, PlayerData> entries = new ConcurrentHashMap<>();
+
+    /** Names of the entries changed since they were last written */
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    /** Names of the players removed but maybe still in the store; reads skip them */
+    private final Set<String> removed = ConcurrentHashMap.newKeySet();
+
+    /** Whether a flush is already scheduled */
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    /** Whether every stored player has been loaded into the cache */
+    private volatile boolean fullyLoaded;
+
+    /** File of the saved ranking, or null to keep it in memory only */
+    private final Path leaderboardFile;
+
+    /** Ranking of all players; built on first use */
+    private volatile Leaderboard leaderboard;
+
+    /** Whether the ranking changed since it was last saved */
+    private final AtomicBoolean leaderboardChanged = new AtomicBoolean();
+
+    /** Single writer thread */
+    private final ScheduledExecutorService writer;
+
+    /** Records written to the store */
+    private final AtomicInteger writes = new AtomicInteger();
+
+    /**
+     * Creates a cache over a store, with a ranking kept in memory only.
+     *
+     * @param store            backing store
+     * @param flushDelayMillis delay between the first pending update and its flush
+     */
+    public PlayerStatsCache(PlayerStore store, long flushDelayMillis) {
+        this(store, null, flushDelayMillis);
+    }
+
+    /**
+     * Creates a cache over a store.
+     *
+     * @param store            backing store
+     * @param leaderboardFile  file of the saved ranking, or null to keep it in memory only
+     * @param flushDelayMillis delay between the first pending update and its flush
+     */
+    public PlayerStatsCache(PlayerStore store, Path leaderboardFile, long flushDelayMillis) {
+        this.store = store;
+        this.leaderboardFile = leaderboardFile;
+        this.flushDelayMillis = flushDelayMillis;
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "player-stats-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // close() flushes first, so a batch still waiting for its delay has nothing left to write
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.writer = executor;
+    }
+
+    /**
+     * Holder class for the lazily created shared instance.
+     */
+    private static class Holder {
+        private static final PlayerStatsCache INSTANCE = create();
+
+        /**
+         * Creates the shared cache over the shared store.
+         */
+        private static PlayerStatsCache create() {
+            try {
+                return new PlayerStatsCache(PlayerStore.getInstance(), DEFAULT_LEADERBOARD_PATH,
+                        DEFAULT_FLUSH_DELAY_MILLIS);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the cache shared by the application, over {@link PlayerStore#getInstance()}.
+     *
+     * @return the shared instance
+     * @throws UncheckedIOException if the player store cannot be opened
+     */
+    public static PlayerStatsCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns a player's statistics.
+     *
+     * @param playerName the player's username (case-insensitive)
+     * @return a copy of the statistics, or null if the player is unknown
+     */
+    public PlayerData get(String playerName) {
+        String key = playerName.toLowerCase();
+        return load(key) ? snapshot(key) : null;
+    }
+
+    /**
+     * Checks whether a player has statistics.
+     *
+     * @param playerName the player's username (case-insensitive)
+     * @return true if the player is known
+     */
+    public boolean contains(String playerName) {
+        String key = playerName.toLowerCase();
+        return entries.containsKey(key) || (!removed.contains(key) && store.contains(playerName));
+    }
+
+    /**
+     * Adds the outcome of one game to a player's statistics, creating the player if needed.
+     *
+     * @param playerName the player's username
+     * @param won        true if the player won
+     * @param shots      shots fired in the game
+     * @param hits       shots that hit a ship
+     * @return a copy of the updated statistics
+     */
+    public PlayerData recordGame(String playerName, boolean won, int shots, int hits) {
+        String key = playerName.toLowerCase();
+        PlayerData[] updated = new PlayerData[1];
+        entries.compute(key, (k, entry) -> {
+            if (entry == null) {
+                // A removed player starts over instead of reading the record about to be deleted
+                entry = removed.remove(k) ? null : readStored(playerName);
+                if (entry == null) {
+                    entry = new PlayerData(playerName);
+                }
+            }
+            entry.incrementGamesPlayed();
+            if (won) {
+                entry.incrementGamesWon();
+            }
+            entry.addShots(shots);
+            entry.addHits(hits);
+            updated[0] = copyOf(entry);
+            rank(entry);
+            return entry;
+        });
+        markDirty(key);
+        return updated[0];
+    }
+
+    /**
+     * Replaces a player's statistics.
+     *
+     * @param player statistics to keep
+     */
+    public void put(PlayerData player) {
+        String key = player.getName().toLowerCase();
+        entries.compute(key, (k, entry) -> {
+            removed.remove(k);
+            PlayerData copy = copyOf(player);
+            rank(copy);
+            return copy;
+        });
+        markDirty(key);
+    }
+
+    /**
+     * Removes a player. The store record is removed by the writer thread,
+     * after any write of the same player queued before; until then reads
+     * treat the player as unknown.
+     *
+     * @param playerName the player's username (case-insensitive)
+     */
+    public void remove(String playerName) {
+        String key = playerName.toLowerCase();
+        entries.compute(key, (k, entry) -> {
+            Leaderboard board = leaderboard;
+            if (board != null && board.remove(key)) {
+                leaderboardChanged.set(true);
+            }
+            removed.add(k);
+            return null;
+        });
+        dirty.remove(key);
+        writer.execute(() -> {
+            try {
+                store.remove(key);
+            } catch (IOException e) {
+                System.err.println("❌ Error deleting player data: " + e.getMessage());
+            } finally {
+                removed.remove(key);
+            }
+        });
+    }
+
+    /**
+     * Returns every player's statistics. The store is read once, the first
+     * time this is called; later calls are served from memory.
+     *
+     * @return copies of all players' statistics
+     */
+    public List<PlayerData> getAll() {
+        if (!fullyLoaded) {
+            try {
+                for (PlayerData stored : store.getAll()) {
+                    String key = stored.getName().toLowerCase();
+                    if (!removed.contains(key)) {
+                        entries.putIfAbsent(key, stored);
+                    }
+                }
+                fullyLoaded = true;
+            } catch (IOException e) {
+                System.err.println("❌ Error loading player data: " + e.getMessage());
+            }
+        }
+        List<PlayerData> players = new ArrayList<>(entries.size());
+        for (String key : entries.keySet()) {
+            PlayerData copy = snapshot(key);
+            if (copy != null) {
+                players.add(copy);
+            }
+        }
+        return players;
+    }
+
+    /**
+     * Returns the ranking of all players. The first call loads the saved
+     * ranking, or ranks the stored players if there is none or it does not
+     * match the store; later calls return the same, continuously updated, instance.
+     *
+     * @return the leaderboard
+     */
+    public Leaderboard getLeaderboard() {
+        Leaderboard board = leaderboard;
+        if (board != null) {
+            return board;
+        }
+        synchronized (this) {
+            if (leaderboard == null) {
+                leaderboard = loadLeaderboard();
+                // Entries changed in memory but not written yet
+                for (String key : entries.keySet()) {
+                    entries.computeIfPresent(key, (k, entry) -> {
+                        rank(entry);
+                        return entry;
+                    });
+                }
+            }
+            return leaderboard;
+        }
+    }
+
+    /**
+     * Writes every dirty entry now and waits until it is in the store.
+     */
+    public void flush() {
+        try {
+            writer.submit(this::writeDirty).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("❌ Player stats flush error: " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Flushes dirty entries and stops the writer thread. The store stays open.
+     */
+    @Override
+    public void close() {
+        if (writer.isShutdown()) return;
+        flush();
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of records written to the store.
+     *
+     * @return records written
+     */
+    public int getWriteCount() {
+        return writes.get();
+    }
+
+    /**
+     * Makes sure a player is cached, reading it from the store on first use.
+     *
+     * @return false if the player is unknown
+     */
+    private boolean load(String key) {
+        if (entries.containsKey(key)) {
+            return true;
+        }
+        if (fullyLoaded || removed.contains(key)) {
+            return false;
+        }
+        PlayerData stored = readStored(key);
+        if (stored == null) {
+            return false;
+        }
+        entries.computeIfAbsent(key, k -> {
+            // Also repairs a ranking saved before this record
+            rank(stored);
+            return stored;
+        });
+        return true;
+    }
+
+    /**
+     * Reads the saved ranking, or ranks the stored players if it is missing,
+     * unreadable or not of the same players as the store. Players removed
+     * but still in the store are left out.
+     */
+    private Leaderboard loadLeaderboard() {
+        Leaderboard board = null;
+        if (leaderboardFile != null) {
+            try {
+                Leaderboard saved = Leaderboard.load(leaderboardFile);
+                if (saved != null && saved.size() == store.size()) {
+                    board = saved;
+                }
+            } catch (IOException e) {
+                System.err.println("⚠️ Rebuilding leaderboard: " + e.getMessage());
+            }
+        }
+        if (board == null) {
+            try {
+                leaderboardChanged.set(true);
+                board = Leaderboard.of(store.getAll());
+            } catch (IOException e) {
+                System.err.println("❌ Error loading player data: " + e.getMessage());
+                board = new Leaderboard();
+            }
+        }
+        for (String key : removed) {
+            if (board.remove(key)) {
+                leaderboardChanged.set(true);
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Re-ranks a player, if the ranking is built. Called with the player's entry locked.
+     */
+    private void rank(PlayerData entry) {
+        Leaderboard board = leaderboard;
+        if (board != null) {
+            board.update(entry);
+            leaderboardChanged.set(true);
+        }
+    }
+
+    /**
+     * Copies a cached entry while no update runs on it.
+     *
+     * @return the copy, or null if the entry is not cached
+     */
+    private PlayerData snapshot(String key) {
+        PlayerData[] copy = new PlayerData[1];
+        entries.computeIfPresent(key, (k, entry) -> {
+            copy[0] = copyOf(entry);
+            return entry;
+        });
+        return copy[0];
+    }
+
+    /**
+     * Reads a player from the store, or null if it is not stored or cannot be read.
+     */
+    private PlayerData readStored(String playerName) {
+        try {
+            return store.get(playerName);
+        } catch (IOException e) {
+            System.err.println("❌ Error loading player data: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Marks an entry for the next batch, scheduling the batch if none is pending.
+     */
+    private void markDirty(String key) {
+        dirty.add(key);
+        if (flushScheduled.compareAndSet(false, true)) {
+            writer.schedule(this::writeDirty, flushDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the dirty entries to the store, on the writer thread.
+     * An entry updated while the batch runs is marked dirty again and written by the next one.
+     */
+    private void writeDirty() {
+        flushScheduled.set(false);
+        int written = 0;
+        for (String key : dirty) {
+            dirty.remove(key);
+            PlayerData player = snapshot(key);
+            if (player == null) continue;
+            try {
+                store.put(player);
+                written++;
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("❌ Error saving player data: " + e.getMessage());
+            }
+        }
+        if (written > 0) {
+            writes.addAndGet(written);
+            System.out.println("💾 Player stats saved: " + written + " players");
+        }
+        Leaderboard board = leaderboard;
+        if (board != null && leaderboardFile != null && leaderboardChanged.getAndSet(false)) {
+            try {
+                board.save(leaderboardFile);
+            } catch (IOException e) {
+                leaderboardChanged.set(true);
+                System.err.println("❌ Error saving leaderboard: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Copies a player's statistics.
+     */
+    private static PlayerData copyOf(PlayerData player) {
+        return new PlayerData(player.getName(), player.getGamesPlayed(), player.getGamesWon(),
+                player.getTotalShots(), player.getTotalHits());
+    }
+}
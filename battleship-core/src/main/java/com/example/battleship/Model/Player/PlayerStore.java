@@ -0,0 +1,405 @@
+package com.example.battleship.Model.Player;
+
+import com.example.battleship.Model.TextFile.PlaneTextFileHandler;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * File of player statistics with fixed-size records and an in-memory index.
+ * <p>
+ * The file starts with a 16-byte header (magic {@code "BSPS"}, version, record
+ * size) followed by 128-byte records: a used flag, the length of the name, the
+ * name in UTF-8 (up to {@value #MAX_NAME_BYTES} bytes, zero padded), then games
+ * played, games won, total shots and total hits as ints.
+ * </p>
+ *
+ * <p>
+ * Opening the store scans the records once to build a map from lowercase name
+ * to record offset. After that a lookup reads one record and an update
+ * overwrites one record in place, whatever the number of players. Deleted
+ * records are marked unused and their slots are reused by the next new player.
+ * </p>
+ *
+ * <p>
+ * When the store file does not exist yet and the legacy {@code players.csv} is
+ * found, its players are imported once. The CSV file is left untouched.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see PlayerData
+ */
+public final class PlayerStore implements Closeable {
+
+    /** First bytes of the store: "BSPS" */
+    private static final int MAGIC = 0x42535053;
+
+    /** Current store version */
+    private static final short VERSION = 1;
+
+    /** Bytes taken by the file header */
+    private static final int HEADER_BYTES = 16;
+
+    /** Bytes taken by one player */
+    private static final int RECORD_BYTES = 128;
+
+    /** Longest name accepted, in UTF-8 bytes */
+    public static final int MAX_NAME_BYTES = 110;
+
+    /** Offset of the counters inside a record */
+    private static final int STATS_OFFSET = 2 + MAX_NAME_BYTES;
+
+    /** Default location of the store */
+    private static final Path DEFAULT_PATH = Paths.get("data", "players.db");
+
+    /** Default location of the CSV file the store replaces */
+    private static final Path LEGACY_CSV = Paths.get("data", "players.csv");
+
+    /** Shared store, opened on first use */
+    private static PlayerStore instance;
+
+    /** Open store file */
+    private final FileChannel channel;
+
+    /** Record offset by lowercase player name */
+    private final Map<String, Long> index = new HashMap<>();
+
+    /** Offsets of deleted records, reused first */
+    private final Deque<Long> freeSlots = new ArrayDeque<>();
+
+    /** Offset where the next appended record goes */
+    private long end;
+
+    /**
+     * Opens a store, creating it if needed.
+     *
+     * @param storeFile store file
+     * @throws IOException if the file cannot be opened or is not a player store
+     */
+    public PlayerStore(Path storeFile) throws IOException {
+        this(storeFile, null);
+    }
+
+    /**
+     * Opens a store, creating it from a legacy CSV file if the store does not exist yet.
+     *
+     * @param storeFile store file
+     * @param legacyCsv CSV file in the {@link PlayerData#toCSV()} format, or null
+     * @throws IOException if a file cannot be read or the store is corrupt
+     */
+    public PlayerStore(Path storeFile, Path legacyCsv) throws IOException {
+        boolean created = !Files.exists(storeFile);
+        if (created && storeFile.getParent() != null) {
+            Files.createDirectories(storeFile.getParent());
+        }
+        this.channel = FileChannel.open(storeFile,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (created || channel.size() == 0) {
+                writeHeader();
+                end = HEADER_BYTES;
+                if (legacyCsv != null && Files.exists(legacyCsv)) {
+                    importCsv(legacyCsv);
+                }
+            } else {
+                readHeader();
+                buildIndex();
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the store shared by the application, "data/players.db",
+     * importing "data/players.csv" the first time.
+     *
+     * @return the shared store
+     * @throws IOException if the store cannot be opened
+     */
+    public static synchronized PlayerStore getInstance() throws IOException {
+        if (instance == null) {
+            instance = new PlayerStore(DEFAULT_PATH, LEGACY_CSV);
+        }
+        return instance;
+    }
+
+    /**
+     * Closes the shared store if it was opened. A later {@link #getInstance()} reopens it.
+     */
+    public static synchronized void shutdown() {
+        if (instance == null) return;
+        try {
+            instance.close();
+        } catch (IOException e) {
+            System.err.println("❌ Error closing player store: " + e.getMessage());
+        }
+        instance = null;
+    }
+
+    /**
+     * Reads a player.
+     *
+     * @param playerName the player's username (case-insensitive)
+     * @return the player's data, or null if the player is not stored
+     * @throws IOException if the record cannot be read
+     */
+    public synchronized PlayerData get(String playerName) throws IOException {
+        Long offset = index.get(playerName.toLowerCase());
+        return offset == null ? null : readRecord(offset);
+    }
+
+    /**
+     * Checks whether a player is stored. No I/O is done.
+     *
+     * @param playerName the player's username (case-insensitive)
+     * @return true if the player is stored
+     */
+    public synchronized boolean contains(String playerName) {
+        return index.containsKey(playerName.toLowerCase());
+    }
+
+    /**
+     * Writes a player, overwriting its record if the name is already stored.
+     *
+     * @param player player to write
+     * @throws IOException if the record cannot be written
+     * @throws IllegalArgumentException if the name is longer than {@value #MAX_NAME_BYTES} UTF-8 bytes
+     */
+    public synchronized void put(PlayerData player) throws IOException {
+        String key = player.getName().toLowerCase();
+        Long offset = index.get(key);
+        if (offset == null) {
+            if (player.getName().getBytes(StandardCharsets.UTF_8).length > MAX_NAME_BYTES) {
+                throw new IllegalArgumentException("Player name too long: " + player.getName());
+            }
+            offset = freeSlots.isEmpty() ? end : freeSlots.pop();
+        }
+        writeRecord(offset, player);
+        if (offset == end) {
+            end += RECORD_BYTES;
+        }
+        index.put(key, offset);
+    }
+
+    /**
+     * Removes a player. Its record is marked unused and reused later.
+     *
+     * @param playerName the player's username (case-insensitive)
+     * @return true if the player was stored
+     * @throws IOException if the record cannot be written
+     */
+    public synchronized boolean remove(String playerName) throws IOException {
+        Long offset = index.remove(playerName.toLowerCase());
+        if (offset == null) return false;
+        channel.write(ByteBuffer.wrap(new byte[]{0}), offset);
+        freeSlots.push(offset);
+        return true;
+    }
+
+    /**
+     * Returns the number of players stored.
+     *
+     * @return player count
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Reads every player, in file order.
+     *
+     * @return all stored players
+     * @throws IOException if the file cannot be read
+     */
+    public synchronized List<PlayerData> getAll() throws IOException {
+        List<PlayerData> players = new ArrayList<>(index.size());
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES * 64);
+        long position = HEADER_BYTES;
+        while (position < end) {
+            buffer.clear();
+            readFully(buffer, position, (int) Math.min(buffer.capacity(), end - position));
+            buffer.flip();
+            while (buffer.remaining() >= RECORD_BYTES) {
+                PlayerData player = decode(buffer);
+                if (player != null) {
+                    players.add(player);
+                }
+            }
+            position += buffer.limit();
+        }
+        return players;
+    }
+
+    /**
+     * Forces written records to the disk.
+     *
+     * @throws IOException if the file cannot be synced
+     */
+    public synchronized void flush() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * Closes the store file.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Writes the file header.
+     */
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_BYTES);
+        header.rewind();
+        channel.write(header, 0);
+    }
+
+    /**
+     * Checks the file header.
+     */
+    private void readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(header, 0, HEADER_BYTES);
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a player store");
+        }
+        short version = header.getShort();
+        if (version != VERSION || header.getShort() != RECORD_BYTES) {
+            throw new IOException("Unsupported player store version: " + version);
+        }
+    }
+
+    /**
+     * Scans all records once to fill the index and the free slots.
+     * A record cut short at the end of the file is ignored and overwritten later.
+     */
+    private void buildIndex() throws IOException {
+        long records = (channel.size() - HEADER_BYTES) / RECORD_BYTES;
+        end = HEADER_BYTES + records * RECORD_BYTES;
+
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES * 64);
+        long position = HEADER_BYTES;
+        while (position < end) {
+            buffer.clear();
+            readFully(buffer, position, (int) Math.min(buffer.capacity(), end - position));
+            buffer.flip();
+            for (int at = 0; at + RECORD_BYTES <= buffer.limit(); at += RECORD_BYTES) {
+                long offset = position + at;
+                if (buffer.get(at) == 0) {
+                    freeSlots.push(offset);
+                    continue;
+                }
+                int length = buffer.get(at + 1) & 0xFF;
+                String name = new String(buffer.array(), at + 2, Math.min(length, MAX_NAME_BYTES), StandardCharsets.UTF_8);
+                index.put(name.toLowerCase(), offset);
+            }
+            position += buffer.limit();
+        }
+    }
+
+    /**
+     * Imports the players of a CSV file.
+     */
+    private void importCsv(Path csv) throws IOException {
+        int[] imported = {0};
+        try {
+            new PlaneTextFileHandler().forEachRecord(csv.toString(), ',', fields -> {
+                try {
+                    PlayerData player = PlayerData.fromCSV(fields);
+                    if (player != null) {
+                        put(player);
+                        imported[0]++;
+                    }
+                } catch (IllegalArgumentException e) {
+                    System.err.println("⚠️ Skipping player record: " + String.join(",", fields));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        System.out.println("📦 Imported " + imported[0] + " players from " + csv);
+    }
+
+    /**
+     * Reads one record.
+     */
+    private PlayerData readRecord(long offset) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES);
+        readFully(buffer, offset, RECORD_BYTES);
+        buffer.flip();
+        return decode(buffer);
+    }
+
+    /**
+     * Writes one record.
+     */
+    private void writeRecord(long offset, PlayerData player) throws IOException {
+        byte[] name = player.getName().getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Player name too long: " + player.getName());
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES);
+        buffer.put((byte) 1).put((byte) name.length).put(name);
+        buffer.position(STATS_OFFSET);
+        buffer.putInt(player.getGamesPlayed()).putInt(player.getGamesWon())
+                .putInt(player.getTotalShots()).putInt(player.getTotalHits());
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, offset + buffer.position());
+        }
+    }
+
+    /**
+     * Decodes the record at the buffer position and moves past it.
+     *
+     * @return the player, or null for an unused record
+     */
+    private static PlayerData decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.position(start + RECORD_BYTES);
+        if (buffer.get(start) == 0) {
+            return null;
+        }
+        int length = Math.min(buffer.get(start + 1) & 0xFF, MAX_NAME_BYTES);
+        byte[] name = new byte[length];
+        buffer.get(start + 2, name);
+        return new PlayerData(new String(name, StandardCharsets.UTF_8),
+                buffer.getInt(start + STATS_OFFSET), buffer.getInt(start + STATS_OFFSET + 4),
+                buffer.getInt(start + STATS_OFFSET + 8), buffer.getInt(start + STATS_OFFSET + 12));
+    }
+
+    /**
+     * Reads bytes at a position until the buffer holds the requested count.
+     */
+    private void readFully(ByteBuffer buffer, long position, int length) throws IOException {
+        buffer.limit(buffer.position() + length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Player store truncated");
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.battleship.Model.Player;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ordered record of the shots fired by a player.
+ *
+ * <p>Shots are kept in firing order (for replays and statistics) in two
+ * parallel {@code int} arrays, and indexed by an open-addressing hash table
+ * that stores positions into those arrays. Checking for a repeated shot is
+ * therefore O(1) on any board size, and no shot is boxed.</p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+public final class ShotHistory {
+
+    /** Initial capacity of the order arrays */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** X (column) coordinate of each shot, in firing order */
+    private int[] xs = new int[INITIAL_CAPACITY];
+
+    /** Y (row) coordinate of each shot, in firing order */
+    private int[] ys = new int[INITIAL_CAPACITY];
+
+    /** Hash table of {@code position + 1} into the order arrays; 0 marks an empty slot */
+    private int[] table = new int[INITIAL_CAPACITY * 2];
+
+    /** Number of shots recorded */
+    private int size;
+
+    /**
+     * Records a shot unless it was already fired.
+     *
+     * @param x column coordinate
+     * @param y row coordinate
+     * @return true if the shot is new, false if it repeats an earlier one
+     */
+    public boolean add(int x, int y) {
+        int mask = table.length - 1;
+        int slot = hash(x, y) & mask;
+        while (table[slot] != 0) {
+            int position = table[slot] - 1;
+            if (xs[position] == x && ys[position] == y) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == xs.length) {
+            xs = Arrays.copyOf(xs, size * 2);
+            ys = Arrays.copyOf(ys, size * 2);
+        }
+        xs[size] = x;
+        ys[size] = y;
+        table[slot] = ++size;
+
+        // Keep the table at most half full
+        if (size * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a shot was already fired.
+     *
+     * @param x column coordinate
+     * @param y row coordinate
+     * @return true if the shot is in the history
+     */
+    public boolean contains(int x, int y) {
+        int mask = table.length - 1;
+        int slot = hash(x, y) & mask;
+        while (table[slot] != 0) {
+            int position = table[slot] - 1;
+            if (xs[position] == x && ys[position] == y) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of shots fired.
+     *
+     * @return shot count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the x (column) coordinate of the shot fired in a given order.
+     *
+     * @param index 0 for the first shot
+     * @return column coordinate
+     * @throws IndexOutOfBoundsException if no such shot exists
+     */
+    public int getX(int index) {
+        return xs[checkIndex(index)];
+    }
+
+    /**
+     * Returns the y (row) coordinate of the shot fired in a given order.
+     *
+     * @param index 0 for the first shot
+     * @return row coordinate
+     * @throws IndexOutOfBoundsException if no such shot exists
+     */
+    public int getY(int index) {
+        return ys[checkIndex(index)];
+    }
+
+    /**
+     * Returns a read-only list view of the shots in firing order.
+     * Each element is a new {x, y} array.
+     *
+     * @return list view backed by this history
+     */
+    public List<int[]> asList() {
+        return new AbstractList<>() {
+            @Override
+            public int[] get(int index) {
+                return new int[]{getX(index), getY(index)};
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Removes every shot.
+     */
+    public void clear() {
+        Arrays.fill(table, 0);
+        size = 0;
+    }
+
+    /**
+     * Validates a shot position.
+     */
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Shot " + index + " of " + size);
+        }
+        return index;
+    }
+
+    /**
+     * Rebuilds the hash table with a new power-of-two capacity.
+     */
+    private void rehash(int capacity) {
+        table = new int[capacity];
+        int mask = capacity - 1;
+        for (int position = 0; position < size; position++) {
+            int slot = hash(xs[position], ys[position]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = position + 1;
+        }
+    }
+
+    /**
+     * Mixes both coordinates into a well-spread hash.
+     */
+    private static int hash(int x, int y) {
+        long h = (((long) x << 32) | (y & 0xFFFFFFFFL)) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
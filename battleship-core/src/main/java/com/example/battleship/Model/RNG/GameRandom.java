@@ -0,0 +1,116 @@
+package com.example.battleship.Model.RNG;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Seeded random source for a game or a simulation worker.
+ *
+ * <p>Backed by a {@link SplittableRandom}, so it is fast and has no shared
+ * state to contend on. Every instance remembers the seed it was created
+ * with: logging {@link #getSeed()} is enough to replay a game exactly.</p>
+ *
+ * <p>{@link #split()} derives an independent generator with its own
+ * (reproducible) seed. Components of one game, or the workers of a parallel
+ * run, each take a split instead of sharing one generator.</p>
+ *
+ * <p>Instances are not thread-safe; give each thread its own split.</p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+public final class GameRandom implements RandomGenerator {
+
+    /** Source of seeds for generators created without one */
+    private static final SecureRandom SEEDER = new SecureRandom();
+
+    /** Seed this generator was created with */
+    private final long seed;
+
+    /** Underlying generator */
+    private final SplittableRandom delegate;
+
+    /**
+     * Creates a generator with a fresh random seed.
+     */
+    public GameRandom() {
+        this(SEEDER.nextLong());
+    }
+
+    /**
+     * Creates a generator with the given seed.
+     *
+     * @param seed seed; the same seed always yields the same sequence
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.delegate = new SplittableRandom(seed);
+    }
+
+    /**
+     * Returns the seed this generator was created with.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Derives an independent generator. The child's seed is drawn from this
+     * generator, so a split made at the same point of a replay is identical.
+     *
+     * @return a new generator
+     */
+    public GameRandom split() {
+        return new GameRandom(delegate.nextLong());
+    }
+
+    /**
+     * Returns an independent generator for a component that was handed
+     * {@code random}: a split if it is a {@link GameRandom}, or the same
+     * instance otherwise.
+     *
+     * @param random generator owned by the caller
+     * @return the generator the component should use
+     */
+    public static RandomGenerator splitOf(RandomGenerator random) {
+        return random instanceof GameRandom gameRandom ? gameRandom.split() : random;
+    }
+
+    @Override
+    public long nextLong() {
+        return delegate.nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return delegate.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return delegate.nextInt(bound);
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+        return delegate.nextInt(origin, bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return delegate.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return delegate.nextBoolean();
+    }
+
+    @Override
+    public String toString() {
+        return "GameRandom[seed=" + seed + "]";
+    }
+}
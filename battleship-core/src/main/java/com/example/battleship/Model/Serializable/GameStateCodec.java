@@ -0,0 +1,301 @@
+package com.example.battleship.Model.Serializable;
+
+import com.example.battleship.Model.Board.BitBoard;
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.Board.CellBitSet;
+import com.example.battleship.Model.Board.IBoard;
+import com.example.battleship.Model.Game.Game;
+import com.example.battleship.Model.Game.GameState;
+import com.example.battleship.Model.Ship.IShip;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Versioned binary format for {@link GameState} snapshots.
+ *
+ * <p>Layout (big-endian, as written by {@link DataOutputStream}):</p>
+ * <ol>
+ *   <li>header: magic {@code "BSGS"}, format version (short), player name (UTF),
+ *       current player index (byte), game phase (byte), game over (boolean),
+ *       whether the seed is known (boolean) and the game's seed (long);</li>
+ *   <li>human board, then machine board: rows and columns (short each), then
+ *       the ship, miss and hit bitplanes as {@code long} words;</li>
+ *   <li>human fleet, then machine fleet: ship count (short), then one record
+ *       per ship: a packed byte ({@code size << 5 | hits << 2 | direction})
+ *       and the anchor cell index (int);</li>
+ *   <li>human shots (on the machine board), then machine shots (on the human
+ *       board): one bit per cell, {@code ceil(cells / 8)} bytes;</li>
+ *   <li>CRC32 of everything above (int).</li>
+ * </ol>
+ *
+ * <p>A standard 10x10 game takes about 200 bytes, with no class metadata, so
+ * saves survive refactorings of the model classes. Files written with Java
+ * serialization are told apart by {@link #isEncoded(byte[])} and read by
+ * {@link SerializableFileHandler}.</p>
+ *
+ * <p>The header comes first so that {@link SaveHeader} can summarize a save
+ * by reading a few dozen bytes. Version 1 files have no seed fields and are
+ * read as games whose seed is unknown.</p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see GameStateFileHandler
+ */
+public final class GameStateCodec {
+
+    /** First bytes of every encoded state: "BSGS" */
+    private static final int MAGIC = 0x42534753;
+
+    /** Current format version */
+    static final short VERSION = 2;
+
+    /** Last format version without the seed */
+    static final short VERSION_WITHOUT_SEED = 1;
+
+    /** Bytes taken by the CRC at the end of the data */
+    private static final int CRC_BYTES = 4;
+
+    /**
+     * Not instantiable.
+     */
+    private GameStateCodec() {
+    }
+
+    /**
+     * Checks whether data starts with the header of this format.
+     *
+     * @param data file contents
+     * @return true if the data was written by {@link #encode(GameState)}
+     */
+    public static boolean isEncoded(byte[] data) {
+        return data.length >= 4
+                && ((data[0] & 0xFF) << 24 | (data[1] & 0xFF) << 16 | (data[2] & 0xFF) << 8 | (data[3] & 0xFF)) == MAGIC;
+    }
+
+    /**
+     * Encodes a snapshot.
+     *
+     * @param state snapshot to encode
+     * @return encoded bytes, CRC included
+     * @throws IllegalArgumentException if the snapshot has no boards
+     */
+    public static byte[] encode(GameState state) {
+        if (state.getHumanBoard() == null || state.getMachineBoard() == null) {
+            throw new IllegalArgumentException("Game state without boards");
+        }
+        BitBoard humanBoard = toBitBoard(state.getHumanBoard());
+        BitBoard machineBoard = toBitBoard(state.getMachineBoard());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeUTF(state.getPlayerName() != null ? state.getPlayerName() : "");
+            out.writeByte(state.getCurrentPlayerIndex());
+            out.writeByte(state.getGamePhase() != null ? state.getGamePhase().ordinal() : -1);
+            out.writeBoolean(state.isGameOver());
+            out.writeBoolean(state.getSeed() != null);
+            out.writeLong(state.getSeed() != null ? state.getSeed() : 0L);
+
+            writeBoard(out, humanBoard);
+            writeBoard(out, machineBoard);
+            writeFleet(out, state.getHumanFleet(), humanBoard.getGeometry());
+            writeFleet(out, state.getMachineFleet(), machineBoard.getGeometry());
+            writeShots(out, state.getHumanShots(), machineBoard.getGeometry());
+            writeShots(out, state.getMachineShots(), humanBoard.getGeometry());
+
+            CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeInt((int) crc.getValue());
+        } catch (IOException e) {
+            // A ByteArrayOutputStream never fails
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a snapshot.
+     *
+     * @param data bytes written by {@link #encode(GameState)}
+     * @return the snapshot; boards are {@link BitBoard}s
+     * @throws IOException if the data is truncated, corrupted or of an unknown version
+     */
+    public static GameState decode(byte[] data) throws IOException {
+        if (!isEncoded(data) || data.length < 4 + CRC_BYTES) {
+            throw new IOException("Not a binary game state");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - CRC_BYTES);
+        DataInputStream tail = new DataInputStream(
+                new ByteArrayInputStream(data, data.length - CRC_BYTES, CRC_BYTES));
+        if (tail.readInt() != (int) crc.getValue()) {
+            throw new IOException("Game state checksum mismatch");
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(data, 0, data.length - CRC_BYTES))) {
+            in.readInt();
+            short version = in.readShort();
+            if (!isSupported(version)) {
+                throw new IOException("Unsupported game state version: " + version);
+            }
+            String playerName = in.readUTF();
+            int currentPlayerIndex = in.readByte();
+            int phase = in.readByte();
+            boolean gameOver = in.readBoolean();
+            Long seed = readSeed(in, version);
+
+            BitBoard humanBoard = readBoard(in);
+            BitBoard machineBoard = readBoard(in);
+            List<IShip> humanFleet = readFleet(in, humanBoard.getGeometry());
+            List<IShip> machineFleet = readFleet(in, machineBoard.getGeometry());
+            CellBitSet humanShots = readShots(in, machineBoard.getGeometry());
+            CellBitSet machineShots = readShots(in, humanBoard.getGeometry());
+
+            Game.GameState[] phases = Game.GameState.values();
+            if (phase >= phases.length) {
+                throw new IOException("Unknown game phase: " + phase);
+            }
+            return new GameState(playerName, humanBoard, machineBoard, humanFleet, machineFleet,
+                    humanShots, machineShots, currentPlayerIndex,
+                    phase < 0 ? null : phases[phase], gameOver, seed);
+        } catch (EOFException e) {
+            throw new IOException("Truncated game state", e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid game state: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Checks whether a format version can be read.
+     *
+     * @param version version read from a header
+     * @return true for this version and older ones
+     */
+    static boolean isSupported(short version) {
+        return version >= VERSION_WITHOUT_SEED && version <= VERSION;
+    }
+
+    /**
+     * Reads the seed fields of the header, which version 1 files do not have.
+     *
+     * @param in      stream positioned after the game over flag
+     * @param version version of the data
+     * @return the seed, or null if unknown
+     * @throws IOException if the stream cannot be read
+     */
+    static Long readSeed(DataInputStream in, short version) throws IOException {
+        if (version == VERSION_WITHOUT_SEED) {
+            return null;
+        }
+        boolean known = in.readBoolean();
+        long seed = in.readLong();
+        return known ? seed : null;
+    }
+
+    /**
+     * Returns a board as a {@link BitBoard}, copying legacy boards.
+     */
+    private static BitBoard toBitBoard(IBoard board) {
+        return board instanceof BitBoard bitBoard ? bitBoard : BitBoard.copyOf(board);
+    }
+
+    /**
+     * Writes the dimensions and the three bitplanes of a board.
+     */
+    private static void writeBoard(DataOutputStream out, BitBoard board) throws IOException {
+        BoardGeometry geometry = board.getGeometry();
+        out.writeShort(geometry.getRows());
+        out.writeShort(geometry.getCols());
+        for (long[] plane : new long[][]{board.getShipCells(), board.getMissCells(), board.getHitCells()}) {
+            for (long word : plane) {
+                out.writeLong(word);
+            }
+        }
+    }
+
+    /**
+     * Reads a board written by {@link #writeBoard}.
+     */
+    private static BitBoard readBoard(DataInputStream in) throws IOException {
+        BoardGeometry geometry = BoardGeometry.of(in.readUnsignedShort(), in.readUnsignedShort());
+        long[][] planes = new long[3][geometry.getWordCount()];
+        for (long[] plane : planes) {
+            for (int w = 0; w < plane.length; w++) {
+                plane[w] = in.readLong();
+            }
+        }
+        return BitBoard.fromPlanes(geometry, planes[0], planes[1], planes[2]);
+    }
+
+    /**
+     * Writes one packed record per ship.
+     */
+    private static void writeFleet(DataOutputStream out, List<IShip> fleet, BoardGeometry geometry) throws IOException {
+        if (fleet == null) {
+            out.writeShort(0);
+            return;
+        }
+        out.writeShort(fleet.size());
+        for (IShip ship : fleet) {
+            int hits = Math.min(ship.getHitCount(), ship.getShipSize());
+            out.writeByte(ship.getShipSize() << 5 | hits << 2 | ship.getDirection().ordinal());
+            out.writeInt(geometry.index(ship.getRow(), ship.getCol()));
+        }
+    }
+
+    /**
+     * Reads the ships written by {@link #writeFleet} and replays their hits.
+     */
+    private static List<IShip> readFleet(DataInputStream in, BoardGeometry geometry) throws IOException {
+        int count = in.readUnsignedShort();
+        List<IShip> fleet = new ArrayList<>(count);
+        IShip.Direction[] directions = IShip.Direction.values();
+        for (int i = 0; i < count; i++) {
+            int packed = in.readUnsignedByte();
+            int anchor = in.readInt();
+            if (anchor < 0 || anchor >= geometry.getCellCount()) {
+                throw new IOException("Ship outside the board: " + anchor);
+            }
+            IShip ship = IShip.of(packed >>> 5, geometry.colOf(anchor), geometry.rowOf(anchor),
+                    directions[packed & 0b11]);
+            for (int hit = (packed >>> 2) & 0b111; hit > 0; hit--) {
+                ship.registerHit();
+            }
+            fleet.add(ship);
+        }
+        return fleet;
+    }
+
+    /**
+     * Writes a shot set as one bit per cell.
+     */
+    private static void writeShots(DataOutputStream out, CellBitSet shots, BoardGeometry geometry) throws IOException {
+        byte[] bits = new byte[(geometry.getCellCount() + 7) >>> 3];
+        if (shots != null) {
+            for (int cell = shots.nextCell(0); cell >= 0; cell = shots.nextCell(cell + 1)) {
+                bits[cell >>> 3] |= (byte) (1 << (cell & 7));
+            }
+        }
+        out.write(bits);
+    }
+
+    /**
+     * Reads a shot set written by {@link #writeShots}.
+     */
+    private static CellBitSet readShots(DataInputStream in, BoardGeometry geometry) throws IOException {
+        byte[] bits = new byte[(geometry.getCellCount() + 7) >>> 3];
+        in.readFully(bits);
+        CellBitSet shots = new CellBitSet(geometry);
+        for (int cell = 0; cell < geometry.getCellCount(); cell++) {
+            if ((bits[cell >>> 3] & (1 << (cell & 7))) != 0) {
+                shots.add(geometry.rowOf(cell), geometry.colOf(cell));
+            }
+        }
+        return shots;
+    }
+}
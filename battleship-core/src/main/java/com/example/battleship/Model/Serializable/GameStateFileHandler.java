@@ -0,0 +1,115 @@
+package com.example.battleship.Model.Serializable;
+
+import com.example.battleship.Model.Game.GameState;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Saves and loads game states in the binary format of {@link GameStateCodec}.
+ * <p>
+ * {@link GameState} objects are written with the codec; any other object is
+ * passed on to {@link SerializableFileHandler}. When reading, files that do
+ * not start with the codec header are treated as Java-serialized, so
+ * "game_save_[username].dat" files written by earlier versions keep loading.
+ * The next save of such a game rewrites it in the binary format.
+ * </p>
+ *
+ * <p>Files are written to a temporary file and renamed over the target, so
+ * a crash mid-save leaves the previous save intact.</p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see ISerializableFileHandler
+ * @see GameStateCodec
+ */
+public class GameStateFileHandler implements ISerializableFileHandler {
+
+    /** Handler for objects other than game states and for legacy files */
+    private final SerializableFileHandler legacyHandler = new SerializableFileHandler();
+
+    /**
+     * Writes an object to a file: game states in the binary format,
+     * anything else with Java serialization.
+     *
+     * @param fileName name of the file where the object will be stored
+     * @param object   object to store
+     */
+    @Override
+    public void serialize(String fileName, Object object) {
+        if (!(object instanceof GameState state)) {
+            legacyHandler.serialize(fileName, object);
+            return;
+        }
+        try {
+            writeAtomically(new File(fileName).toPath(), GameStateCodec.encode(state));
+            System.out.println("✅ Game state saved: " + fileName);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("❌ Save error: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Reads an object from a file, whichever format it was written in.
+     *
+     * @param fileName name of the file to read from
+     * @return the game state or other object, or null if the file is missing or unreadable
+     */
+    @Override
+    public Object deserialize(String fileName) {
+        byte[] data;
+        try {
+            data = Files.readAllBytes(new File(fileName).toPath());
+        } catch (IOException e) {
+            System.err.println("❌ Load error: " + e.getMessage());
+            return null;
+        }
+
+        if (!GameStateCodec.isEncoded(data)) {
+            return legacyHandler.deserialize(fileName);
+        }
+        try {
+            GameState state = GameStateCodec.decode(data);
+            System.out.println("✅ Game state loaded: " + fileName);
+            return state;
+        } catch (IOException e) {
+            System.err.println("❌ Load error: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Deletes a saved file.
+     *
+     * @param fileName name of the file to delete
+     * @return true if the file was deleted
+     */
+    @Override
+    public boolean delete(String fileName) {
+        return legacyHandler.delete(fileName);
+    }
+
+    /**
+     * Replaces a file with new contents in one step: the data goes to a
+     * temporary file in the same directory, which is then renamed over the target.
+     *
+     * @param target file to replace
+     * @param data   new contents
+     * @throws IOException if the data cannot be written
+     */
+    static void writeAtomically(Path target, byte[] data) throws IOException {
+        Path absolute = target.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        Files.write(temp, data);
+        try {
+            Files.move(temp, absolute, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
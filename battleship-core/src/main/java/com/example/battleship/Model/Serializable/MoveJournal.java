@@ -0,0 +1,368 @@
+package com.example.battleship.Model.Serializable;
+
+import com.example.battleship.Model.Exceptions.InvalidGameStateException;
+import com.example.battleship.Model.Game.Game;
+import com.example.battleship.Model.Game.GameState;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Append-only journal of shots for one save slot, on top of a snapshot.
+ *
+ * <p>The slot is two files: the snapshot ("game_save_[username].dat", in the
+ * {@link GameStateCodec} format) and the journal next to it (same name plus
+ * ".journal"). Each shot adds one 3-byte record to the journal: a byte with the
+ * shooter ({@code 0x80} for the human) and the {@link Game.ShotResult}, then the
+ * target row and column (one unsigned byte each). Every {@link #getCheckpointInterval()}
+ * moves the caller writes a new snapshot with {@link #checkpoint}, which also
+ * restarts the journal.</p>
+ *
+ * <p>The journal header holds the CRC of the snapshot it continues. A journal
+ * left behind by a crash between the two files of a checkpoint, or next to a
+ * legacy snapshot, does not match and is ignored; a record cut short by a crash
+ * is dropped. {@link #recover()} rebuilds a {@link Game} from the snapshot and
+ * replays the moves through it.</p>
+ *
+ * <p>File operations are not thread-safe; {@link SaveService} runs them on its
+ * writer thread.</p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see SaveService
+ */
+public final class MoveJournal {
+
+    /** First bytes of every journal: "BSGJ" */
+    private static final int MAGIC = 0x4253474A;
+
+    /** Current journal version */
+    private static final short VERSION = 1;
+
+    /** Bytes taken by the header: magic, version, snapshot CRC */
+    private static final int HEADER_BYTES = 10;
+
+    /** Bytes taken by one move */
+    private static final int RECORD_BYTES = 3;
+
+    /** Shooter bit of a record's first byte */
+    private static final int HUMAN_FLAG = 0x80;
+
+    /** Moves between snapshots when none is given */
+    private static final int DEFAULT_CHECKPOINT_INTERVAL = 20;
+
+    /** Snapshot file */
+    private final Path snapshotFile;
+
+    /** Journal file */
+    private final Path journalFile;
+
+    /** Moves recorded between two snapshots */
+    private final int checkpointInterval;
+
+    /** Moves queued since the last checkpoint was queued; updated by {@link SaveService} */
+    private final AtomicInteger movesSinceCheckpoint = new AtomicInteger();
+
+    /**
+     * A shot read back from the journal.
+     */
+    public static final class Move {
+
+        /** Whether the human fired the shot */
+        private final boolean human;
+
+        /** Target row */
+        private final int row;
+
+        /** Target column */
+        private final int col;
+
+        /** Outcome of the shot */
+        private final Game.ShotResult result;
+
+        /**
+         * Creates a move.
+         *
+         * @param human  true if the human fired
+         * @param row    target row
+         * @param col    target column
+         * @param result outcome
+         */
+        public Move(boolean human, int row, int col, Game.ShotResult result) {
+            this.human = human;
+            this.row = row;
+            this.col = col;
+            this.result = result;
+        }
+
+        /**
+         * Indicates who fired.
+         *
+         * @return true for the human, false for the machine
+         */
+        public boolean isHuman() {
+            return human;
+        }
+
+        /**
+         * Returns the target row.
+         *
+         * @return row index
+         */
+        public int getRow() {
+            return row;
+        }
+
+        /**
+         * Returns the target column.
+         *
+         * @return column index
+         */
+        public int getCol() {
+            return col;
+        }
+
+        /**
+         * Returns the outcome of the shot.
+         *
+         * @return shot result
+         */
+        public Game.ShotResult getResult() {
+            return result;
+        }
+    }
+
+    /**
+     * Creates the journal of a save slot, checkpointing every 20 moves.
+     *
+     * @param snapshotFileName snapshot file of the slot, e.g. "game_save_ana.dat"
+     */
+    public MoveJournal(String snapshotFileName) {
+        this(snapshotFileName, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates the journal of a save slot.
+     *
+     * @param snapshotFileName   snapshot file of the slot
+     * @param checkpointInterval moves between two snapshots (at least 1)
+     */
+    public MoveJournal(String snapshotFileName, int checkpointInterval) {
+        this.snapshotFile = new File(snapshotFileName).toPath();
+        this.journalFile = new File(snapshotFileName + ".journal").toPath();
+        this.checkpointInterval = Math.max(1, checkpointInterval);
+    }
+
+    /**
+     * Returns the name of the snapshot file.
+     *
+     * @return snapshot file name
+     */
+    public String getSnapshotFileName() {
+        return snapshotFile.toString();
+    }
+
+    /**
+     * Returns the name of the journal file.
+     *
+     * @return journal file name
+     */
+    public String getJournalFileName() {
+        return journalFile.toString();
+    }
+
+    /**
+     * Returns the number of moves between two snapshots.
+     *
+     * @return checkpoint interval
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    /**
+     * Writes a snapshot and starts an empty journal continuing it.
+     *
+     * @param state state to save
+     * @throws IOException if a file cannot be written
+     */
+    public void checkpoint(GameState state) throws IOException {
+        checkpoint(GameStateCodec.encode(state));
+    }
+
+    /**
+     * Writes an encoded snapshot and starts an empty journal continuing it.
+     *
+     * @param snapshot bytes from {@link GameStateCodec#encode(GameState)}
+     * @throws IOException if a file cannot be written
+     */
+    void checkpoint(byte[] snapshot) throws IOException {
+        GameStateFileHandler.writeAtomically(snapshotFile, snapshot);
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream(HEADER_BYTES);
+        DataOutputStream out = new DataOutputStream(header);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeInt(crcOf(snapshot));
+        GameStateFileHandler.writeAtomically(journalFile, header.toByteArray());
+    }
+
+    /**
+     * Appends a shot to the journal.
+     *
+     * @param human  true if the human fired
+     * @param row    target row
+     * @param col    target column
+     * @param result outcome of the shot
+     * @throws IOException if the journal cannot be written
+     * @throws IllegalArgumentException if the row or column is above 255
+     */
+    public void append(boolean human, int row, int col, Game.ShotResult result) throws IOException {
+        if (row < 0 || row > 0xFF || col < 0 || col > 0xFF) {
+            throw new IllegalArgumentException("Cell outside journal range: (" + row + "," + col + ")");
+        }
+        byte[] record = {(byte) ((human ? HUMAN_FLAG : 0) | result.ordinal()), (byte) row, (byte) col};
+        Files.write(journalFile, record, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Counts a move queued for this journal.
+     *
+     * @return true if a checkpoint is due
+     */
+    boolean countMove() {
+        return movesSinceCheckpoint.incrementAndGet() >= checkpointInterval;
+    }
+
+    /**
+     * Restarts the move count when a checkpoint is queued.
+     */
+    void resetMoveCount() {
+        movesSinceCheckpoint.set(0);
+    }
+
+    /**
+     * Loads the slot: the snapshot, with the moves journaled since replayed on it.
+     *
+     * @return the recovered state, or null if the slot has no snapshot
+     * @throws IOException if the snapshot cannot be read
+     */
+    public GameState recover() throws IOException {
+        byte[] snapshot;
+        try {
+            snapshot = Files.readAllBytes(snapshotFile);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        if (!GameStateCodec.isEncoded(snapshot)) {
+            // Legacy saves have no journal
+            return (GameState) new SerializableFileHandler().deserialize(snapshotFile.toString());
+        }
+
+        GameState state = GameStateCodec.decode(snapshot);
+        List<Move> moves = readMoves(crcOf(snapshot));
+        return moves.isEmpty() ? state : replay(state, moves);
+    }
+
+    /**
+     * Reads the moves journaled since the current snapshot, e.g. to show a replay.
+     *
+     * @return the moves in order; empty if there is no matching journal
+     * @throws IOException if a file cannot be read
+     */
+    public List<Move> readMoves() throws IOException {
+        try {
+            return readMoves(crcOf(Files.readAllBytes(snapshotFile)));
+        } catch (NoSuchFileException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Deletes the snapshot and the journal.
+     *
+     * @throws IOException if a file exists but cannot be deleted
+     */
+    public void delete() throws IOException {
+        Files.deleteIfExists(journalFile);
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    /**
+     * Reads the journal if it continues the snapshot with the given CRC.
+     */
+    private List<Move> readMoves(int snapshotCrc) throws IOException {
+        byte[] data;
+        try {
+            data = Files.readAllBytes(journalFile);
+        } catch (NoSuchFileException e) {
+            return Collections.emptyList();
+        }
+        if (data.length < HEADER_BYTES) {
+            return Collections.emptyList();
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        if (in.readInt() != MAGIC || in.readShort() != VERSION || in.readInt() != snapshotCrc) {
+            return Collections.emptyList();
+        }
+
+        Game.ShotResult[] results = Game.ShotResult.values();
+        int count = (data.length - HEADER_BYTES) / RECORD_BYTES;
+        List<Move> moves = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int flags = in.readUnsignedByte();
+            int row = in.readUnsignedByte();
+            int col = in.readUnsignedByte();
+            int result = flags & ~HUMAN_FLAG;
+            if (result >= results.length) break;
+            moves.add(new Move((flags & HUMAN_FLAG) != 0, row, col, results[result]));
+        }
+        return moves;
+    }
+
+    /**
+     * Replays moves on a game rebuilt from a snapshot, as the game screen plays them.
+     * Replay stops at the first move that does not reproduce its recorded result.
+     */
+    private static GameState replay(GameState state, List<Move> moves) {
+        Game game = Game.fromSnapshot(state.getPlayerName(), state);
+        game.setVerbose(false);
+
+        for (Move move : moves) {
+            Game.ShotResult result;
+            try {
+                result = move.isHuman()
+                        ? game.executeHumanShot(move.getRow(), move.getCol())
+                        : game.executeMachineShot(move.getRow(), move.getCol());
+            } catch (InvalidGameStateException e) {
+                break;
+            }
+            if (result != move.getResult()) {
+                System.err.println("❌ Journal replay diverged at (" + move.getRow() + "," + move.getCol() + ")");
+                break;
+            }
+            if (result == Game.ShotResult.MISS) {
+                game.advanceTurn();
+            }
+        }
+        return game.toGameState();
+    }
+
+    /**
+     * Returns the CRC stored at the end of an encoded snapshot.
+     */
+    private static int crcOf(byte[] snapshot) {
+        int n = snapshot.length;
+        if (n < 4) return 0;
+        return (snapshot[n - 4] & 0xFF) << 24 | (snapshot[n - 3] & 0xFF) << 16
+                | (snapshot[n - 2] & 0xFF) << 8 | (snapshot[n - 1] & 0xFF);
+    }
+}
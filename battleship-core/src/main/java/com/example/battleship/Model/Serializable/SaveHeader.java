@@ -0,0 +1,204 @@
+package com.example.battleship.Model.Serializable;
+
+import com.example.battleship.Model.Game.Game;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+/**
+ * Summary of a save slot, read from the first bytes of its snapshot.
+ * <p>
+ * The {@link GameStateCodec} format starts with the player name, turn, phase
+ * and game-over flag, so this summary is available without decoding boards or
+ * fleets. Together with the size and modification time of the slot's files,
+ * it lets the menu decide whether "Continue" applies without loading the game.
+ * </p>
+ *
+ * <p>
+ * Snapshots written with Java serialization have no such header; they are
+ * reported as {@linkplain #isLegacy() legacy} with only the file facts filled in.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see GameStateCodec
+ * @see MoveJournal
+ */
+public final class SaveHeader {
+
+    /** Name of the human player; null for legacy saves */
+    private final String playerName;
+
+    /** Game phase; null for legacy saves */
+    private final Game.GameState phase;
+
+    /** Index of the player to move */
+    private final int currentPlayerIndex;
+
+    /** Whether the game had ended */
+    private final boolean gameOver;
+
+    /** Seed the game can be replayed from; null if unknown */
+    private final Long seed;
+
+    /** Last modification of the slot, in epoch milliseconds */
+    private final long savedAt;
+
+    /** Bytes taken by the snapshot and its journal */
+    private final long size;
+
+    /** Whether the snapshot uses Java serialization */
+    private final boolean legacy;
+
+    /**
+     * Creates a summary.
+     */
+    private SaveHeader(String playerName, Game.GameState phase, int currentPlayerIndex,
+                       boolean gameOver, Long seed, long savedAt, long size, boolean legacy) {
+        this.playerName = playerName;
+        this.phase = phase;
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.gameOver = gameOver;
+        this.seed = seed;
+        this.savedAt = savedAt;
+        this.size = size;
+        this.legacy = legacy;
+    }
+
+    /**
+     * Reads the summary of a save slot. Only the header bytes of the snapshot are read.
+     *
+     * @param snapshotFileName snapshot file of the slot, e.g. "game_save_ana.dat"
+     * @return the summary, or null if the slot has no snapshot
+     * @throws IOException if the snapshot cannot be read or has an unknown version
+     */
+    public static SaveHeader read(String snapshotFileName) throws IOException {
+        Path snapshot = new File(snapshotFileName).toPath();
+        Path journal = new File(snapshotFileName + ".journal").toPath();
+
+        long size;
+        long savedAt;
+        try {
+            size = Files.size(snapshot);
+            savedAt = Files.getLastModifiedTime(snapshot).toMillis();
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        if (Files.exists(journal)) {
+            size += Files.size(journal);
+            savedAt = Math.max(savedAt, Files.getLastModifiedTime(journal).toMillis());
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot), 128))) {
+            byte[] magic = new byte[4];
+            if (in.readNBytes(magic, 0, magic.length) < magic.length || !GameStateCodec.isEncoded(magic)) {
+                return new SaveHeader(null, null, 0, false, null, savedAt, size, true);
+            }
+            short version = in.readShort();
+            if (!GameStateCodec.isSupported(version)) {
+                throw new IOException("Unsupported game state version: " + version);
+            }
+            String playerName = in.readUTF();
+            int currentPlayerIndex = in.readByte();
+            int phase = in.readByte();
+            boolean gameOver = in.readBoolean();
+            Long seed = GameStateCodec.readSeed(in, version);
+
+            Game.GameState[] phases = Game.GameState.values();
+            return new SaveHeader(playerName, phase >= 0 && phase < phases.length ? phases[phase] : null,
+                    currentPlayerIndex, gameOver, seed, savedAt, size, false);
+        }
+    }
+
+    /**
+     * Indicates whether the saved game can be resumed: it has not ended.
+     * Legacy saves are assumed resumable.
+     *
+     * @return true if "Continue" should be offered
+     */
+    public boolean isResumable() {
+        return !gameOver;
+    }
+
+    /**
+     * Returns the name of the human player.
+     *
+     * @return player name, or null for a legacy save
+     */
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    /**
+     * Returns the saved game phase.
+     *
+     * @return phase, or null for a legacy save
+     */
+    public Game.GameState getPhase() {
+        return phase;
+    }
+
+    /**
+     * Returns the seed the saved game can be replayed from.
+     *
+     * @return the seed, or null for legacy saves and saves that did not record it
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the index of the player to move.
+     *
+     * @return current player index
+     */
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    /**
+     * Indicates whether the saved game had ended.
+     *
+     * @return true if the game was over
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Returns when the slot was last written.
+     *
+     * @return epoch milliseconds
+     */
+    public long getSavedAt() {
+        return savedAt;
+    }
+
+    /**
+     * Returns the bytes taken by the snapshot and its journal.
+     *
+     * @return size in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Indicates whether the snapshot was written with Java serialization.
+     *
+     * @return true for a legacy save
+     */
+    public boolean isLegacy() {
+        return legacy;
+    }
+
+    @Override
+    public String toString() {
+        return legacy
+                ? "SaveHeader[legacy, " + size + " bytes]"
+                : "SaveHeader[" + playerName + ", " + phase + ", turn " + currentPlayerIndex
+                  + (gameOver ? ", over" : "") + ", " + size + " bytes]";
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.battleship.Model.Serializable;
+
+import com.example.battleship.Model.Game.Game;
+import com.example.battleship.Model.Game.GameState;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes game saves on a background thread.
+ * <p>
+ * {@link #save} encodes the state with {@link GameStateCodec} on the calling
+ * thread (a few hundred bytes, so the snapshot is consistent and cheap) and
+ * returns immediately. A single writer thread then replaces the file
+ * atomically through a temporary file.
+ * </p>
+ *
+ * <p>
+ * Saves are coalesced per file: while a write is queued, newer saves of the
+ * same file only replace the bytes to be written, so a burst of shots costs
+ * one or two writes. Deletes go through the same queue, so a save requested
+ * before a delete can never recreate the file afterwards.
+ * </p>
+ *
+ * <p>
+ * Games with a {@link MoveJournal} record each shot with {@link #record} (a
+ * few bytes appended) and only write a full snapshot with {@link #checkpoint}
+ * when the journal asks for one. Journal operations share the writer queue,
+ * so they reach the disk in the order they were requested.
+ * </p>
+ *
+ * <p>
+ * Callers must {@link #flush()} before reading a save back (e.g. when
+ * returning to the menu) and {@link #close()} the service on exit.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see GameStateFileHandler
+ */
+public final class SaveService implements AutoCloseable {
+
+    /**
+     * Save waiting to be written. Each queued write task owns one entry and only
+     * writes it while the entry is still the pending one for its file, so a task
+     * queued before a delete cannot write data saved after that delete.
+     */
+    private static final class PendingSave {
+        /** Latest encoded state for the file */
+        volatile byte[] data;
+
+        PendingSave(byte[] data) {
+            this.data = data;
+        }
+    }
+
+    /** Save waiting to be written, by file name */
+    private final ConcurrentHashMap<String, PendingSave> pending = new ConcurrentHashMap<>();
+
+    /** Single writer thread; tasks run in submission order */
+    private final ExecutorService writer;
+
+    /** Saves requested */
+    private final AtomicInteger requests = new AtomicInteger();
+
+    /** Files actually written */
+    private final AtomicInteger writes = new AtomicInteger();
+
+    /**
+     * Creates a service with its own writer thread.
+     */
+    public SaveService() {
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "save-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Holder class for the lazily created shared instance.
+     */
+    private static class Holder {
+        private static final SaveService INSTANCE = new SaveService();
+    }
+
+    /**
+     * Returns the service shared by the application.
+     *
+     * @return the shared instance
+     */
+    public static SaveService getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Queues a save of a game state.
+     *
+     * @param fileName file to replace
+     * @param state    state to save; encoded before this method returns
+     */
+    public void save(String fileName, GameState state) {
+        byte[] data = GameStateCodec.encode(state);
+        requests.incrementAndGet();
+
+        // Only the first save of a burst schedules a write; later ones replace its data
+        PendingSave[] created = {null};
+        pending.compute(fileName, (name, entry) -> {
+            if (entry == null) {
+                return created[0] = new PendingSave(data);
+            }
+            entry.data = data;
+            return entry;
+        });
+        if (created[0] != null) {
+            PendingSave entry = created[0];
+            writer.execute(() -> writePending(fileName, entry));
+        }
+    }
+
+    /**
+     * Queues the deletion of a save. Saves of the same file requested
+     * earlier are dropped if they have not been written yet.
+     *
+     * @param fileName file to delete
+     */
+    public void delete(String fileName) {
+        pending.remove(fileName);
+        writer.execute(() -> {
+            try {
+                if (Files.deleteIfExists(new File(fileName).toPath())) {
+                    System.out.println("🗑️ File deleted: " + fileName);
+                }
+            } catch (IOException e) {
+                System.err.println("❌ Error deleting file: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Queues a snapshot of a journaled game, which also restarts its journal.
+     * A coalesced {@link #save} of the same file still waiting is dropped.
+     *
+     * @param journal journal of the save slot
+     * @param state   state to save; encoded before this method returns
+     */
+    public void checkpoint(MoveJournal journal, GameState state) {
+        byte[] data = GameStateCodec.encode(state);
+        requests.incrementAndGet();
+        journal.resetMoveCount();
+        pending.remove(journal.getSnapshotFileName());
+        writer.execute(() -> {
+            try {
+                journal.checkpoint(data);
+                writes.incrementAndGet();
+            } catch (IOException e) {
+                System.err.println("❌ Checkpoint error: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Queues a shot to be appended to a journal.
+     *
+     * @param journal journal of the save slot
+     * @param human   true if the human fired
+     * @param row     target row
+     * @param col     target column
+     * @param result  outcome of the shot
+     * @return true if enough moves were recorded for a {@link #checkpoint} to be due
+     */
+    public boolean record(MoveJournal journal, boolean human, int row, int col, Game.ShotResult result) {
+        writer.execute(() -> {
+            try {
+                journal.append(human, row, col, result);
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("❌ Journal error: " + e.getMessage());
+            }
+        });
+        return journal.countMove();
+    }
+
+    /**
+     * Queues the deletion of a journaled save slot, snapshot and journal.
+     *
+     * @param journal journal of the save slot
+     */
+    public void delete(MoveJournal journal) {
+        pending.remove(journal.getSnapshotFileName());
+        writer.execute(() -> {
+            try {
+                journal.delete();
+                System.out.println("🗑️ Save slot deleted: " + journal.getSnapshotFileName());
+            } catch (IOException e) {
+                System.err.println("❌ Error deleting file: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Waits until every save and delete queued so far is on disk.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("❌ Save flush error: " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Flushes pending saves and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        if (writer.isShutdown()) return;
+        flush();
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of saves requested.
+     *
+     * @return save requests
+     */
+    public int getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Returns the number of files written; lower than
+     * {@link #getRequestCount()} when saves were coalesced.
+     *
+     * @return writes performed
+     */
+    public int getWriteCount() {
+        return writes.get();
+    }
+
+    /**
+     * Writes the latest data of a pending save, unless a delete or checkpoint
+     * dropped it; a save requested after that has its own task, queued later.
+     */
+    private void writePending(String fileName, PendingSave entry) {
+        if (!pending.remove(fileName, entry)) return;
+        try {
+            GameStateFileHandler.writeAtomically(new File(fileName).toPath(), entry.data);
+            writes.incrementAndGet();
+        } catch (IOException e) {
+            System.err.println("❌ Save error: " + e.getMessage());
+        }
+    }
+}
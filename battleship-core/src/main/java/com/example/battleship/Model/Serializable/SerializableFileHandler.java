@@ -20,12 +20,25 @@ import java.io.*;
  */
 public class SerializableFileHandler implements ISerializableFileHandler {
 
+    /** Whether successful operations are traced to the console. */
+    private boolean verbose = true;
+
+    /**
+     * Enables or disables the console trace of successful operations.
+     * Errors are always reported.
+     *
+     * @param verbose false to keep quiet, e.g. in benchmarks
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
     /**
      * Serializes an object and writes it to a file.
      * <p>
      * Uses Java's ObjectOutputStream to write the object in binary format.
      * If the file already exists, it will be overwritten. The method prints
-     * a success message to console upon completion.
+     * a success message to console upon completion, unless it was made quiet.
      * </p>
      *
      * @param fileName name of the file where the object will be stored
@@ -36,7 +49,7 @@ public class SerializableFileHandler implements ISerializableFileHandler {
         try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(fileName))) {
             oos.writeObject(object);
             oos.flush();
-            System.out.println("✅ Object serialized: " + fileName);
+            if (verbose) System.out.println("✅ Object serialized: " + fileName);
         } catch (IOException e) {
             System.err.println("❌ Serialization error: " + e.getMessage());
             e.printStackTrace();
@@ -61,7 +74,7 @@ public class SerializableFileHandler implements ISerializableFileHandler {
             if (file.exists()) {
                 boolean deleted = file.delete();
                 if (deleted) {
-                    System.out.println("🗑️ File deleted: " + fileName);
+                    if (verbose) System.out.println("🗑️ File deleted: " + fileName);
                 }
                 return deleted;
             }
@@ -87,7 +100,7 @@ public class SerializableFileHandler implements ISerializableFileHandler {
     public Object deserialize(String fileName) {
         try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(fileName))) {
             Object object = ois.readObject();
-            System.out.println("✅ Object deserialized: " + fileName);
+            if (verbose) System.out.println("✅ Object deserialized: " + fileName);
             return object;
         } catch (IOException | ClassNotFoundException e) {
             System.err.println("❌ Deserialization error: " + e.getMessage());
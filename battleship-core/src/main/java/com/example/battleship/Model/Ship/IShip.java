@@ -0,0 +1,112 @@
+package com.example.battleship.Model.Ship;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Interface describing a ship placed on the board.
+ * Implementations expose position, direction, size and hit tracking.
+ */
+public interface IShip extends Serializable {
+/**
+ * Cardinal directions used for ship placement and iteration.
+ */
+    enum Direction {
+        RIGHT,
+        LEFT,
+        UP,
+        DOWN;
+
+    /**
+     * Returns a random direction value.
+     *
+     * @return a random Direction
+     */
+        static Direction getRandomDirection() {
+            return getRandomDirection(ThreadLocalRandom.current());
+        }
+
+    /**
+     * Returns a random direction drawn from the given source,
+     * so that seeded games place ships reproducibly.
+     *
+     * @param random random source of the caller
+     * @return a random Direction
+     */
+        public static Direction getRandomDirection(RandomGenerator random) {
+            Direction[] values = values();
+            return values[random.nextInt(values.length)];
+        }
+    }
+
+    /**
+     * Creates the ship type of a given size: aircraft carrier (4),
+     * submarine (3), destroyer (2) or frigate (1).
+     *
+     * @param size      ship size
+     * @param positionX column of the anchor cell
+     * @param positionY row of the anchor cell
+     * @param direction placement direction
+     * @return a new ship
+     * @throws IllegalArgumentException if no ship type has that size
+     */
+    static IShip of(int size, int positionX, int positionY, Direction direction) {
+        return switch (size) {
+            case 4 -> new AircraftCarrier(positionX, positionY, direction);
+            case 3 -> new Submarine(positionX, positionY, direction);
+            case 2 -> new Destroyer(positionX, positionY, direction);
+            case 1 -> new Frigate(positionX, positionY, direction);
+            default -> throw new IllegalArgumentException("No ship of size " + size);
+        };
+    }
+
+    /**
+     * Returns whether the ship has been sunk (enough hits recorded).
+     *
+     * @return true if sunken
+     */
+    boolean isSunken();
+    /**
+     * Registers a hit against the ship. Implementations should update internal hit counters.
+     */
+    void registerHit();
+    /**
+     * Returns the base row (y) where the ship was placed. Coordinates are 1-based.
+     *
+     * @return base row (y)
+     */
+    int getRow();
+    /**
+     * Returns the base column (x) where the ship was placed. Coordinates are 1-based.
+     *
+     * @return base column (x)
+     */
+    int getCol();
+    /**
+     * Returns the size (number of cells) occupied by the ship.
+     *
+     * @return ship size in cells
+     */
+    int getShipSize();
+    /**
+     * Returns the placement direction for the ship.
+     *
+     * @return Direction enum value
+     */
+    Direction getDirection();
+    /**
+     * Returns the number of registered hits this ship currently has.
+     *
+     * @return hit count
+     */
+    int getHitCount(); //Cuántos impatos tienen
+    /**
+     * Returns the board cells occupied by the ship as {row, col} pairs,
+     * ordered from the top-left cell to the bottom-right one.
+     *
+     * @return unmodifiable list of occupied cells
+     */
+    List<int[]> getCoordinates();
+}
@@ -1,5 +1,9 @@
 package com.example.battleship.Model.Ship;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Abstract adapter class for {@link IShip} that provides default implementations
  * of all interface methods by delegating to a wrapped IShip instance.
@@ -14,6 +18,12 @@ package com.example.battleship.Model.Ship;
  */
 public abstract class ShipAdapter implements IShip {
 
+    /** Pinned so that saved games stay readable when methods are added. */
+    private static final long serialVersionUID = -2099153809842738869L;
+
+    /** Cells occupied by the ship, computed on first use; never serialized */
+    private transient List<int[]> coordinates;
+
     /**
      * Returns whether the ship has been sunk.
      * <p>Default implementation delegates to the wrapped ship.</p>
@@ -98,4 +108,33 @@ public abstract class ShipAdapter implements IShip {
     protected IShip getShip() {
         return null;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the board cells occupied by the ship as {row, col} pairs,
+     * ordered from the top-left cell to the bottom-right one.
+     * <p>The list is computed once from the position, direction and size,
+     * which never change after construction, and then reused. It is
+     * unmodifiable and callers must not change the arrays it holds.</p>
+     *
+     * @return the occupied cells
+     */
+    @Override
+    public List<int[]> getCoordinates() {
+        if (coordinates == null) {
+            Direction direction = getDirection();
+            int dr = direction == Direction.DOWN ? 1 : direction == Direction.UP ? -1 : 0;
+            int dc = direction == Direction.RIGHT ? 1 : direction == Direction.LEFT ? -1 : 0;
+            int size = getShipSize();
+
+            // Start from the top-left end so that sprites can be drawn in order
+            int row = dr < 0 ? getRow() - (size - 1) : getRow();
+            int col = dc < 0 ? getCol() - (size - 1) : getCol();
+            List<int[]> cells = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                cells.add(new int[]{row + Math.abs(dr) * i, col + Math.abs(dc) * i});
+            }
+            coordinates = Collections.unmodifiableList(cells);
+        }
+        return coordinates;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.battleship.Model.Simulation;
+
+import com.example.battleship.Model.AI.ShotStrategy;
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.Game.Game;
+import com.example.battleship.Model.RNG.GameRandom;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays complete games between two {@link ShotStrategy} instances without any UI.
+ * <p>
+ * The engine drives a regular {@link Game} with both fleets generated at random:
+ * the first strategy takes the human seat and the second the machine seat.
+ * Turn rules are the same as in the JavaFX game (a hit or a sunk ship keeps the
+ * turn, a miss passes it), but there is no console output and no pacing delay,
+ * so games run as fast as the model allows.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see MatchRunner
+ */
+public class GameEngine {
+
+    /** Dimensions of the boards used for every game. */
+    private final BoardGeometry geometry;
+
+    /** Random source for fleet placement. */
+    private final RandomGenerator random;
+
+    /** Where the shots of every game are exported, or null. */
+    private ShotColumnWriter shotWriter;
+
+    /**
+     * Creates an engine for the standard 10x10 board.
+     */
+    public GameEngine() {
+        this(BoardGeometry.STANDARD);
+    }
+
+    /**
+     * Creates an engine for boards with the given dimensions.
+     *
+     * @param geometry board dimensions
+     */
+    public GameEngine(BoardGeometry geometry) {
+        this(geometry, new GameRandom());
+    }
+
+    /**
+     * Creates an engine that places fleets with the given random source.
+     * An engine is not thread-safe; parallel workers each create their own.
+     *
+     * @param geometry board dimensions
+     * @param random   random source for fleet placement
+     */
+    public GameEngine(BoardGeometry geometry, RandomGenerator random) {
+        this.geometry = geometry;
+        this.random = random;
+    }
+
+    /**
+     * Plays one game until a fleet is sunk.
+     * Both strategies are reset before the first shot.
+     *
+     * @param first  strategy in the human seat, fires first
+     * @param second strategy in the machine seat
+     * @return winner and shot counts of the game
+     * @throws IllegalStateException if a strategy keeps firing without finishing the game
+     */
+    public MatchResult play(ShotStrategy first, ShotStrategy second) {
+        Game game = new Game("SIM", geometry, random);
+        game.setVerbose(false);
+        if (shotWriter != null) {
+            game.setShotListener(shotWriter.listenerFor(first, second));
+        }
+        game.generateFleet();
+        game.generateHumanFleet();
+        game.startGame();
+
+        first.reset();
+        second.reset();
+
+        int maxShots = geometry.getCellCount() * 2;
+        int firstShots = 0;
+        int secondShots = 0;
+
+        while (!game.isGameOver()) {
+            boolean firstTurn = game.isHumanTurn();
+            ShotStrategy shooter = firstTurn ? first : second;
+
+            int[] shot = shooter.getNextShot();
+            Game.ShotResult result = firstTurn
+                    ? game.executeHumanShot(shot[0], shot[1])
+                    : game.executeMachineShot(shot[0], shot[1]);
+
+            int fired = firstTurn ? ++firstShots : ++secondShots;
+            if (fired > maxShots) {
+                throw new IllegalStateException("Strategy " + shooter.getClass().getSimpleName()
+                        + " fired " + fired + " shots without finishing the game");
+            }
+
+            switch (result) {
+                case MISS -> {
+                    shooter.registerResult(shot[0], shot[1], false, false);
+                    game.advanceTurn();
+                }
+                case HIT -> shooter.registerResult(shot[0], shot[1], true, false);
+                case SUNK -> shooter.registerResult(shot[0], shot[1], true, true);
+                case ALREADY_SHOT, INVALID -> { }
+            }
+        }
+
+        MatchResult.Side winner = game.hasHumanWon() ? MatchResult.Side.FIRST : MatchResult.Side.SECOND;
+        return new MatchResult(winner, firstShots, secondShots);
+    }
+
+    /**
+     * Exports the shots of every game played from now on.
+     * The writer may be shared by engines running on several threads.
+     *
+     * @param shotWriter destination, or null to stop exporting
+     */
+    public void setShotWriter(ShotColumnWriter shotWriter) {
+        this.shotWriter = shotWriter;
+    }
+
+    /**
+     * Returns the board dimensions used by this engine.
+     *
+     * @return the geometry
+     */
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.battleship.Model.Simulation;
+
+/**
+ * Aggregated statistics of a batch of headless games.
+ * <p>
+ * Per-game shot counts are kept as histograms indexed by number of shots,
+ * so memory stays constant no matter how many games are recorded. The
+ * histogram of a side only counts the games that side won, which gives the
+ * "shots needed to sink the whole fleet" distribution used to compare AIs.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+public class MatchReport {
+
+    /** Games recorded. */
+    private long games;
+
+    /** Games won by the first strategy. */
+    private long firstWins;
+
+    /** Games won by the second strategy. */
+    private long secondWins;
+
+    /** Shots fired by both strategies in all games. */
+    private long totalShots;
+
+    /** Shots-to-win histogram of the first strategy. */
+    private final long[] firstHistogram;
+
+    /** Shots-to-win histogram of the second strategy. */
+    private final long[] secondHistogram;
+
+    /** Wall-clock time spent playing, in nanoseconds. */
+    private long elapsedNanos;
+
+    /**
+     * Creates an empty report.
+     *
+     * @param maxShots highest shot count a single side can reach in one game
+     */
+    public MatchReport(int maxShots) {
+        this.firstHistogram = new long[maxShots + 1];
+        this.secondHistogram = new long[maxShots + 1];
+    }
+
+    /**
+     * Adds one game to the report.
+     *
+     * @param result result of the game
+     */
+    public void record(MatchResult result) {
+        games++;
+        totalShots += result.getFirstShots() + result.getSecondShots();
+        if (result.getWinner() == MatchResult.Side.FIRST) {
+            firstWins++;
+            firstHistogram[result.getFirstShots()]++;
+        } else {
+            secondWins++;
+            secondHistogram[result.getSecondShots()]++;
+        }
+    }
+
+    /**
+     * Adds every game of another report to this one.
+     *
+     * @param other report to merge; must use the same shot limit
+     */
+    public void merge(MatchReport other) {
+        games += other.games;
+        firstWins += other.firstWins;
+        secondWins += other.secondWins;
+        totalShots += other.totalShots;
+        for (int i = 0; i < firstHistogram.length; i++) {
+            firstHistogram[i] += other.firstHistogram[i];
+            secondHistogram[i] += other.secondHistogram[i];
+        }
+    }
+
+    /**
+     * Sets the wall-clock time spent playing the recorded games.
+     *
+     * @param elapsedNanos elapsed time in nanoseconds
+     */
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the wall-clock time spent playing.
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of recorded games.
+     *
+     * @return games played
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the games won by the first strategy.
+     *
+     * @return wins of the first strategy
+     */
+    public long getFirstWins() {
+        return firstWins;
+    }
+
+    /**
+     * Returns the games won by the second strategy.
+     *
+     * @return wins of the second strategy
+     */
+    public long getSecondWins() {
+        return secondWins;
+    }
+
+    /**
+     * Returns the shots fired by both strategies in all games.
+     *
+     * @return total shots
+     */
+    public long getTotalShots() {
+        return totalShots;
+    }
+
+    /**
+     * Returns a copy of the shots-to-win histogram of a side.
+     *
+     * @param side strategy side
+     * @return array where index {@code n} holds the games won with exactly {@code n} shots
+     */
+    public long[] getShotHistogram(MatchResult.Side side) {
+        return (side == MatchResult.Side.FIRST ? firstHistogram : secondHistogram).clone();
+    }
+
+    /**
+     * Returns the average number of shots a side needed to win.
+     *
+     * @param side strategy side
+     * @return mean shots to win, or 0 if the side never won
+     */
+    public double getAverageShotsToWin(MatchResult.Side side) {
+        long[] histogram = side == MatchResult.Side.FIRST ? firstHistogram : secondHistogram;
+        long count = 0;
+        long sum = 0;
+        for (int shots = 0; shots < histogram.length; shots++) {
+            count += histogram[shots];
+            sum += histogram[shots] * shots;
+        }
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns the throughput of the batch.
+     *
+     * @return games per second, or 0 if no time was recorded
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "Games: %d | First wins: %d (%.1f shots) | Second wins: %d (%.1f shots) | %.0f games/s",
+                games,
+                firstWins, getAverageShotsToWin(MatchResult.Side.FIRST),
+                secondWins, getAverageShotsToWin(MatchResult.Side.SECOND),
+                getGamesPerSecond());
+    }
+}
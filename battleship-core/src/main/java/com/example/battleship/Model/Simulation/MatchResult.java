@@ -0,0 +1,83 @@
+package com.example.battleship.Model.Simulation;
+
+/**
+ * Outcome of one headless game played by {@link GameEngine}.
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+public final class MatchResult {
+
+    /**
+     * Side of the match, in the order the strategies are given to the engine.
+     */
+    public enum Side {
+        /** Strategy that fires first (plays the human seat). */
+        FIRST,
+        /** Strategy that fires second (plays the machine seat). */
+        SECOND
+    }
+
+    /** Side that sunk the whole enemy fleet. */
+    private final Side winner;
+
+    /** Shots fired by the first strategy. */
+    private final int firstShots;
+
+    /** Shots fired by the second strategy. */
+    private final int secondShots;
+
+    /**
+     * Creates a match result.
+     *
+     * @param winner      side that won the game
+     * @param firstShots  shots fired by the first strategy
+     * @param secondShots shots fired by the second strategy
+     */
+    public MatchResult(Side winner, int firstShots, int secondShots) {
+        this.winner = winner;
+        this.firstShots = firstShots;
+        this.secondShots = secondShots;
+    }
+
+    /**
+     * Returns the side that won.
+     *
+     * @return the winner
+     */
+    public Side getWinner() {
+        return winner;
+    }
+
+    /**
+     * Returns the shots fired by the first strategy.
+     *
+     * @return number of shots
+     */
+    public int getFirstShots() {
+        return firstShots;
+    }
+
+    /**
+     * Returns the shots fired by the second strategy.
+     *
+     * @return number of shots
+     */
+    public int getSecondShots() {
+        return secondShots;
+    }
+
+    /**
+     * Returns the shots the winner needed to sink the enemy fleet.
+     *
+     * @return number of shots fired by the winner
+     */
+    public int getWinnerShots() {
+        return winner == Side.FIRST ? firstShots : secondShots;
+    }
+
+    @Override
+    public String toString() {
+        return winner + " won (" + firstShots + " vs " + secondShots + " shots)";
+    }
+}
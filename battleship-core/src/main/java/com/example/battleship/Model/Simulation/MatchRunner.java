@@ -0,0 +1,84 @@
+package com.example.battleship.Model.Simulation;
+
+import com.example.battleship.Model.AI.RandomAI;
+import com.example.battleship.Model.AI.ShotStrategy;
+import com.example.battleship.Model.AI.SmartAI;
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.RNG.GameRandom;
+
+
+/**
+ * Plays batches of headless games between two strategies and measures them.
+ * <p>
+ * The same two strategy instances are reused for every game (the engine resets
+ * them), so a batch allocates little beyond the games themselves. The result
+ * is a {@link MatchReport} with wins, shots-to-win histograms and games/second.
+ * </p>
+ *
+ * <p>Usage from the command line:</p>
+ * <pre>
+ * java -cp target/classes com.example.battleship.Model.Simulation.MatchRunner [games] [boardSize]
+ * </pre>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+public class MatchRunner {
+
+    /** Engine that plays each game. */
+    private final GameEngine engine;
+
+    /** Strategy in the first seat. */
+    private final ShotStrategy first;
+
+    /** Strategy in the second seat. */
+    private final ShotStrategy second;
+
+    /**
+     * Creates a runner for two strategies.
+     *
+     * @param engine engine used to play the games
+     * @param first  strategy that fires first
+     * @param second strategy that fires second
+     */
+    public MatchRunner(GameEngine engine, ShotStrategy first, ShotStrategy second) {
+        this.engine = engine;
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Plays the given number of games and returns their statistics.
+     *
+     * @param games number of games to play
+     * @return aggregated report, including elapsed time
+     */
+    public MatchReport run(int games) {
+        MatchReport report = new MatchReport(engine.getGeometry().getCellCount() * 2);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < games; i++) {
+            report.record(engine.play(first, second));
+        }
+
+        report.setElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * Runs {@link SmartAI} against the {@link RandomAI} baseline and prints the report.
+     *
+     * @param args optional number of games (default 10000) and board size (default 10)
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int size = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        BoardGeometry geometry = BoardGeometry.square(size);
+        SmartAI smartAI = new SmartAI(geometry);
+        smartAI.setVerbose(false);
+
+        MatchRunner runner = new MatchRunner(new GameEngine(geometry), smartAI, new RandomAI(geometry, new GameRandom()));
+        System.out.println("SmartAI vs RandomAI on " + geometry + ": " + runner.run(games));
+    }
+}
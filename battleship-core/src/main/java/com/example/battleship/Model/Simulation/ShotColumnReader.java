@@ -0,0 +1,275 @@
+package com.example.battleship.Model.Simulation;
+
+import com.example.battleship.Model.Game.Game;
+import com.example.battleship.Model.Player.GameRecord;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streams the shots of a file written by {@link ShotColumnWriter}.
+ * <p>
+ * Only one block is held in memory at a time, so files of millions of shots
+ * can be scanned with a constant footprint:
+ * </p>
+ * <pre>
+ * try (ShotColumnReader reader = new ShotColumnReader(path)) {
+ *     while (reader.next()) {
+ *         if (reader.getResult() == Game.ShotResult.HIT) { ... }
+ *     }
+ * }
+ * </pre>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see ShotColumnWriter
+ */
+public final class ShotColumnReader implements Closeable {
+
+    /** Cached enum values, indexed by ordinal */
+    private static final Game.ShotResult[] RESULTS = Game.ShotResult.values();
+
+    /** Cached enum values, indexed by ordinal */
+    private static final GameRecord.AiMode[] MODES = GameRecord.AiMode.values();
+
+    /** Source */
+    private final DataInputStream in;
+
+    /** Game id column of the current block */
+    private final long[] gameIds = new long[ShotColumns.BLOCK_ROWS];
+
+    /** Turn column of the current block */
+    private final long[] turns = new long[ShotColumns.BLOCK_ROWS];
+
+    /** Shooter column of the current block */
+    private final long[] shooters = new long[ShotColumns.BLOCK_ROWS];
+
+    /** Row column of the current block */
+    private final byte[] rows = new byte[ShotColumns.BLOCK_ROWS];
+
+    /** Column column of the current block */
+    private final byte[] cols = new byte[ShotColumns.BLOCK_ROWS];
+
+    /** Result column of the current block */
+    private final long[] results = new long[ShotColumns.BLOCK_ROWS];
+
+    /** AI mode column of the current block */
+    private final long[] modes = new long[ShotColumns.BLOCK_ROWS];
+
+    /** Heat column of the current block */
+    private final int[] heats = new int[ShotColumns.BLOCK_ROWS];
+
+    /** Shots in the current block */
+    private int blockRows;
+
+    /** Index of the current shot in the block, -1 before the first */
+    private int index = -1;
+
+    /** Shots read so far */
+    private long shotsRead;
+
+    /**
+     * Opens a shot file.
+     *
+     * @param file file to read
+     * @throws IOException if the file cannot be opened or is not a shot file
+     */
+    public ShotColumnReader(Path file) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16));
+        try {
+            if (in.readInt() != ShotColumns.MAGIC) {
+                throw new IOException("Not a shot file: " + file);
+            }
+            short version = in.readShort();
+            if (version != ShotColumns.VERSION) {
+                throw new IOException("Unsupported shot file version: " + version);
+            }
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Moves to the next shot, reading the next block when the current one is done.
+     *
+     * @return true if there is a shot, false at the end of the file
+     * @throws IOException if the file is corrupt or cannot be read
+     */
+    public boolean next() throws IOException {
+        if (index + 1 < blockRows) {
+            index++;
+            shotsRead++;
+            return true;
+        }
+        if (!readBlock()) {
+            return false;
+        }
+        index = 0;
+        shotsRead++;
+        return true;
+    }
+
+    /**
+     * Reads and decodes the next block.
+     *
+     * @return false at the end of the file
+     */
+    private boolean readBlock() throws IOException {
+        int count;
+        try {
+            count = in.readInt();
+        } catch (EOFException e) {
+            blockRows = 0;
+            return false;
+        }
+        int blockBytes = in.readInt();
+        if (count <= 0 || count > ShotColumns.BLOCK_ROWS || blockBytes < 0) {
+            throw new IOException("Corrupt block header: " + count + " shots, " + blockBytes + " bytes");
+        }
+        byte[] block = new byte[blockBytes];
+        in.readFully(block);
+        ByteBuffer buffer = ByteBuffer.wrap(block);
+        ByteBuffer[] sections = new ByteBuffer[ShotColumns.COLUMN_COUNT];
+        for (int i = 0; i < sections.length; i++) {
+            sections[i] = section(buffer);
+        }
+        if (buffer.hasRemaining()) {
+            throw new IOException("Unexpected data after " + ShotColumns.COLUMN_COUNT + " column sections");
+        }
+
+        ShotColumns.decodeRuns(sections[0], gameIds, count, true);
+        ShotColumns.decodeRuns(sections[1], turns, count, true);
+        ShotColumns.decodeRuns(sections[2], shooters, count, false);
+        bytes(sections[3], rows, count);
+        bytes(sections[4], cols, count);
+        ShotColumns.decodeRuns(sections[5], results, count, false);
+        ShotColumns.decodeRuns(sections[6], modes, count, false);
+        ShotColumns.decodeVarints(sections[7], heats, count);
+        blockRows = count;
+        return true;
+    }
+
+    /**
+     * Copies a column stored as one byte per shot.
+     */
+    private static void bytes(ByteBuffer section, byte[] values, int count) throws IOException {
+        if (section.remaining() != count) {
+            throw new IOException("Invalid byte column length: " + section.remaining());
+        }
+        section.get(values, 0, count);
+    }
+
+    /**
+     * Returns a view of the next length-prefixed section and skips past it.
+     */
+    private static ByteBuffer section(ByteBuffer block) throws IOException {
+        if (block.remaining() < 4) {
+            throw new IOException("Missing column section");
+        }
+        int length = block.getInt();
+        if (length < 0 || length > block.remaining()) {
+            throw new IOException("Invalid column length: " + length);
+        }
+        ByteBuffer section = block.slice(block.position(), length);
+        block.position(block.position() + length);
+        return section;
+    }
+
+    /**
+     * Gets the game of the current shot.
+     *
+     * @return game id
+     */
+    public long getGameId() {
+        return gameIds[index];
+    }
+
+    /**
+     * Gets the index of the current shot within its game.
+     *
+     * @return turn, starting at 0
+     */
+    public int getTurn() {
+        return (int) turns[index];
+    }
+
+    /**
+     * Indicates whether the human seat fired the current shot.
+     *
+     * @return true for the human seat, false for the machine seat
+     */
+    public boolean isHuman() {
+        return shooters[index] != 0;
+    }
+
+    /**
+     * Gets the target row of the current shot.
+     *
+     * @return row index
+     */
+    public int getRow() {
+        return rows[index] & 0xFF;
+    }
+
+    /**
+     * Gets the target column of the current shot.
+     *
+     * @return column index
+     */
+    public int getCol() {
+        return cols[index] & 0xFF;
+    }
+
+    /**
+     * Gets the outcome of the current shot.
+     *
+     * @return shot result
+     */
+    public Game.ShotResult getResult() {
+        return RESULTS[(int) results[index]];
+    }
+
+    /**
+     * Gets the kind of AI that chose the current shot.
+     *
+     * @return AI mode
+     */
+    public GameRecord.AiMode getAiMode() {
+        return MODES[(int) modes[index]];
+    }
+
+    /**
+     * Gets the heat the shooter gave the target cell, 0 if unknown.
+     *
+     * @return heat value
+     */
+    public int getHeat() {
+        return heats[index];
+    }
+
+    /**
+     * Gets the number of shots read so far.
+     *
+     * @return shot count
+     */
+    public long getShotsRead() {
+        return shotsRead;
+    }
+
+    /**
+     * Closes the file.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
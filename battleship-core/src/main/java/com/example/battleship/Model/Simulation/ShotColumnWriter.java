@@ -0,0 +1,248 @@
+package com.example.battleship.Model.Simulation;
+
+import com.example.battleship.Model.AI.RandomAI;
+import com.example.battleship.Model.AI.ShotStrategy;
+import com.example.battleship.Model.AI.SmartAI;
+import com.example.battleship.Model.Game.Game;
+import com.example.battleship.Model.Game.ShotListener;
+import com.example.battleship.Model.Player.GameRecord;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Writes shots to a columnar file for offline analysis of the AIs.
+ * <p>
+ * Shots are buffered in one primitive array per column and written as a block
+ * every {@value ShotColumns#BLOCK_ROWS} shots, each column compressed on its own
+ * (see {@link ShotColumns} for the layout). Game ids, turns, shooters, results
+ * and AI modes repeat or step by one, so they shrink to a few bytes per game;
+ * a shot costs about four bytes on disk.
+ * </p>
+ *
+ * <p>
+ * {@link #listenerFor} returns a {@link ShotListener} to plug into a
+ * {@link Game}, so shots are exported straight from the game's shot path.
+ * Appends are synchronized; games played on several threads may share a
+ * writer.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see ShotColumnReader
+ */
+public final class ShotColumnWriter implements Closeable {
+
+    /** Destination */
+    private final DataOutputStream out;
+
+    /** Game id column of the current block */
+    private final long[] gameIds = new long[ShotColumns.BLOCK_ROWS];
+
+    /** Turn column of the current block */
+    private final long[] turns = new long[ShotColumns.BLOCK_ROWS];
+
+    /** Shooter column of the current block: 1 for the human seat */
+    private final long[] shooters = new long[ShotColumns.BLOCK_ROWS];
+
+    /** Row column of the current block */
+    private final byte[] rows = new byte[ShotColumns.BLOCK_ROWS];
+
+    /** Column column of the current block */
+    private final byte[] cols = new byte[ShotColumns.BLOCK_ROWS];
+
+    /** Result column of the current block */
+    private final long[] results = new long[ShotColumns.BLOCK_ROWS];
+
+    /** AI mode column of the current block */
+    private final long[] modes = new long[ShotColumns.BLOCK_ROWS];
+
+    /** Heat column of the current block */
+    private final int[] heats = new int[ShotColumns.BLOCK_ROWS];
+
+    /** Shots buffered in the current block */
+    private int buffered;
+
+    /** Shots appended */
+    private long shotCount;
+
+    /** Next id handed out by {@link #nextGameId()} */
+    private long nextGameId;
+
+    /**
+     * Creates a shot file, replacing any file with the same name.
+     *
+     * @param file file to write
+     * @throws IOException if the file cannot be created
+     */
+    public ShotColumnWriter(Path file) throws IOException {
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        out.writeInt(ShotColumns.MAGIC);
+        out.writeShort(ShotColumns.VERSION);
+    }
+
+    /**
+     * Returns a new game id, unique within this file.
+     *
+     * @return game id
+     */
+    public synchronized long nextGameId() {
+        return nextGameId++;
+    }
+
+    /**
+     * Appends a shot.
+     *
+     * @param gameId game the shot belongs to
+     * @param turn   index of the shot within its game
+     * @param human  true if the human seat fired
+     * @param row    target row (0-255)
+     * @param col    target column (0-255)
+     * @param result outcome of the shot
+     * @param mode   kind of AI that chose the shot
+     * @param heat   heat of the cell for the shooter when it chose it, 0 if unknown
+     * @throws UncheckedIOException if a full block cannot be written
+     */
+    public synchronized void append(long gameId, int turn, boolean human, int row, int col,
+                                    Game.ShotResult result, GameRecord.AiMode mode, int heat) {
+        gameIds[buffered] = gameId;
+        turns[buffered] = turn;
+        shooters[buffered] = human ? 1 : 0;
+        rows[buffered] = (byte) row;
+        cols[buffered] = (byte) col;
+        results[buffered] = result.ordinal();
+        modes[buffered] = mode.ordinal();
+        heats[buffered] = heat;
+        buffered++;
+        shotCount++;
+        if (buffered == ShotColumns.BLOCK_ROWS) {
+            try {
+                writeBlock();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Creates a listener that exports the shots of one game under a new game id.
+     * The AI mode and heat of each shot come from the strategy in the shooter's seat.
+     *
+     * @param humanSeat   strategy in the human seat, or null when a person fires
+     * @param machineSeat strategy in the machine seat, or null when a person fires
+     * @return listener to pass to {@link Game#setShotListener(ShotListener)}
+     */
+    public ShotListener listenerFor(ShotStrategy humanSeat, ShotStrategy machineSeat) {
+        return listenerFor(nextGameId(), 0, humanSeat, machineSeat);
+    }
+
+    /**
+     * Creates a listener that exports the shots of a game under a known id,
+     * e.g. to carry on a resumed game where its previous listener stopped.
+     *
+     * @param gameId      id from {@link #nextGameId()}
+     * @param firstTurn   turn of the next shot, the number of shots already exported
+     * @param humanSeat   strategy in the human seat, or null when a person fires
+     * @param machineSeat strategy in the machine seat, or null when a person fires
+     * @return listener to pass to {@link Game#setShotListener(ShotListener)}
+     */
+    public ShotListener listenerFor(long gameId, int firstTurn, ShotStrategy humanSeat, ShotStrategy machineSeat) {
+        GameRecord.AiMode humanMode = modeOf(humanSeat);
+        GameRecord.AiMode machineMode = modeOf(machineSeat);
+        int[] turn = {firstTurn};
+        return (human, row, col, result) -> {
+            ShotStrategy shooter = human ? humanSeat : machineSeat;
+            int heat = shooter instanceof SmartAI ai ? ai.getHeat(row, col) : 0;
+            append(gameId, turn[0]++, human, row, col, result, human ? humanMode : machineMode, heat);
+        };
+    }
+
+    /**
+     * Returns the kind of AI a strategy is.
+     *
+     * @param strategy the strategy, or null for a person
+     * @return AI mode
+     */
+    public static GameRecord.AiMode modeOf(ShotStrategy strategy) {
+        if (strategy == null) return GameRecord.AiMode.HUMAN;
+        if (strategy instanceof RandomAI) return GameRecord.AiMode.RANDOM;
+        if (strategy instanceof SmartAI ai && ai.isMonteCarlo()) return GameRecord.AiMode.MONTE_CARLO;
+        return GameRecord.AiMode.HEURISTIC;
+    }
+
+    /**
+     * Returns the number of shots appended.
+     *
+     * @return shot count
+     */
+    public synchronized long getShotCount() {
+        return shotCount;
+    }
+
+    /**
+     * Writes the buffered shots as a short block and pushes them to the file,
+     * so they survive a crash. Readers see the same shots as with one big block;
+     * only compression suffers if this is called after every few shots.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void flush() throws IOException {
+        if (buffered > 0) {
+            writeBlock();
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes the last block and closes the file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (buffered > 0) {
+                writeBlock();
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Encodes the buffered shots as one block.
+     */
+    private void writeBlock() throws IOException {
+        int n = buffered;
+        byte[][] sections = {
+                ShotColumns.encodeRuns(gameIds, n, true),
+                ShotColumns.encodeRuns(turns, n, true),
+                ShotColumns.encodeRuns(shooters, n, false),
+                Arrays.copyOf(rows, n),
+                Arrays.copyOf(cols, n),
+                ShotColumns.encodeRuns(results, n, false),
+                ShotColumns.encodeRuns(modes, n, false),
+                ShotColumns.encodeVarints(heats, n)
+        };
+        int blockBytes = 0;
+        for (byte[] section : sections) {
+            blockBytes += 4 + section.length;
+        }
+        out.writeInt(n);
+        out.writeInt(blockBytes);
+        for (byte[] section : sections) {
+            out.writeInt(section.length);
+            out.write(section);
+        }
+        buffered = 0;
+    }
+}
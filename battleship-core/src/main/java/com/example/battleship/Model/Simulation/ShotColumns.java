@@ -0,0 +1,183 @@
+package com.example.battleship.Model.Simulation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Layout and column codecs shared by {@link ShotColumnWriter} and {@link ShotColumnReader}.
+ * <p>
+ * A shot file is a header (magic {@code "BSSC"}, version) followed by blocks of
+ * up to {@link #BLOCK_ROWS} shots. A block starts with its shot count and its
+ * size in bytes, then holds one section per column, in this order:
+ * </p>
+ * <ol>
+ *   <li>game id: delta from the previous shot, then run-length encoded;</li>
+ *   <li>turn: delta, then run-length encoded (runs of +1 within a game);</li>
+ *   <li>shooter: 1 for the human seat, run-length encoded;</li>
+ *   <li>row and column: one unsigned byte per shot;</li>
+ *   <li>{@code ShotResult} ordinal: run-length encoded;</li>
+ *   <li>AI mode ordinal: run-length encoded;</li>
+ *   <li>heat: one zigzag varint per shot.</li>
+ * </ol>
+ * <p>
+ * Runs are pairs of varints (zigzag value, run length). Every section is
+ * prefixed by its length, so readers can skip columns they do not need.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+final class ShotColumns {
+
+    /** First bytes of a shot file: "BSSC" */
+    static final int MAGIC = 0x42535343;
+
+    /** Current format version */
+    static final short VERSION = 1;
+
+    /** Shots per block */
+    static final int BLOCK_ROWS = 1 << 16;
+
+    /** Number of column sections in a block */
+    static final int COLUMN_COUNT = 8;
+
+    /**
+     * Not instantiable.
+     */
+    private ShotColumns() {
+    }
+
+    /**
+     * Encodes values as runs of equal values, or of equal deltas.
+     *
+     * @param values values to encode
+     * @param count  number of values used
+     * @param delta  true to encode the difference with the previous value
+     * @return encoded bytes
+     */
+    static byte[] encodeRuns(long[] values, int count, boolean delta) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        long previous = 0;
+        long runValue = 0;
+        int runLength = 0;
+        for (int i = 0; i < count; i++) {
+            long value = delta ? values[i] - previous : values[i];
+            previous = values[i];
+            if (runLength > 0 && value == runValue) {
+                runLength++;
+                continue;
+            }
+            if (runLength > 0) {
+                writeVarLong(out, zigzag(runValue));
+                writeVarLong(out, runLength);
+            }
+            runValue = value;
+            runLength = 1;
+        }
+        if (runLength > 0) {
+            writeVarLong(out, zigzag(runValue));
+            writeVarLong(out, runLength);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes values written by {@link #encodeRuns}.
+     *
+     * @param in     encoded bytes, positioned at the section
+     * @param values array receiving the values
+     * @param count  number of values to decode
+     * @param delta  true if the values were delta encoded
+     * @throws IOException if the section is corrupt
+     */
+    static void decodeRuns(ByteBuffer in, long[] values, int count, boolean delta) throws IOException {
+        long previous = 0;
+        int i = 0;
+        while (i < count) {
+            long value = unzigzag(readVarLong(in));
+            long runLength = readVarLong(in);
+            if (runLength <= 0 || runLength > count - i) {
+                throw new IOException("Invalid run length: " + runLength);
+            }
+            for (long r = 0; r < runLength; r++) {
+                previous = delta ? previous + value : value;
+                values[i++] = previous;
+            }
+        }
+    }
+
+    /**
+     * Encodes values as one zigzag varint each.
+     *
+     * @param values values to encode
+     * @param count  number of values used
+     * @return encoded bytes
+     */
+    static byte[] encodeVarints(int[] values, int count) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(count * 2);
+        for (int i = 0; i < count; i++) {
+            writeVarLong(out, zigzag(values[i]));
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes values written by {@link #encodeVarints}.
+     *
+     * @param in     encoded bytes, positioned at the section
+     * @param values array receiving the values
+     * @param count  number of values to decode
+     * @throws IOException if the section is corrupt
+     */
+    static void decodeVarints(ByteBuffer in, int[] values, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            values[i] = (int) unzigzag(readVarLong(in));
+        }
+    }
+
+    /**
+     * Writes an unsigned LEB128 varint.
+     */
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * Reads an unsigned LEB128 varint.
+     */
+    private static long readVarLong(ByteBuffer in) throws IOException {
+        long value = 0;
+        try {
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = in.get();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated column", e);
+        }
+        throw new IOException("Varint too long");
+    }
+
+    /**
+     * Maps signed values to unsigned ones so small negatives stay short.
+     */
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Reverses {@link #zigzag}.
+     */
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.battleship.Model.Simulation;
+
+import com.example.battleship.Model.AI.MonteCarloSampler;
+import com.example.battleship.Model.AI.RandomAI;
+import com.example.battleship.Model.AI.ShotStrategy;
+import com.example.battleship.Model.AI.SmartAI;
+import com.example.battleship.Model.Board.BoardGeometry;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Creates shot strategies for parallel workers.
+ * <p>
+ * Strategies keep per-game state and are not thread-safe, so a
+ * {@link Tournament} asks the factory for a fresh instance per worker,
+ * together with that worker's own seeded random source.
+ * </p>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface StrategyFactory {
+
+    /**
+     * Creates a strategy for one worker.
+     *
+     * @param geometry dimensions of the enemy board
+     * @param random   random source owned by the worker
+     * @return a new strategy instance
+     */
+    ShotStrategy create(BoardGeometry geometry, RandomGenerator random);
+
+    /**
+     * Factory for a silent {@link SmartAI}.
+     *
+     * @return the factory
+     */
+    static StrategyFactory smartAI() {
+        return (geometry, random) -> {
+            SmartAI ai = new SmartAI(geometry, random);
+            ai.setVerbose(false);
+            return ai;
+        };
+    }
+
+    /**
+     * Factory for a silent {@link SmartAI} that targets by Monte Carlo sampling.
+     * Each AI samples on its own thread, since a {@link Tournament} already
+     * keeps every core busy.
+     *
+     * @param samplesPerMove accepted layouts wanted per move
+     * @param budgetNanos    time budget per move in nanoseconds
+     * @return the factory
+     */
+    static StrategyFactory monteCarloAI(int samplesPerMove, long budgetNanos) {
+        return (geometry, random) -> {
+            SmartAI ai = new SmartAI(geometry, random);
+            ai.setVerbose(false);
+            ai.setMonteCarloSampler(new MonteCarloSampler(geometry, random, samplesPerMove, budgetNanos, 1));
+            return ai;
+        };
+    }
+
+    /**
+     * Factory for the {@link RandomAI} baseline.
+     *
+     * @return the factory
+     */
+    static StrategyFactory randomAI() {
+        return RandomAI::new;
+    }
+}
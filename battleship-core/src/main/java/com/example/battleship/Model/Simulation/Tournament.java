@@ -0,0 +1,184 @@
+package com.example.battleship.Model.Simulation;
+
+import com.example.battleship.Model.AI.ShotStrategy;
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.RNG.GameRandom;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays a large number of headless games in parallel on a {@link ForkJoinPool}.
+ * <p>
+ * The game range is split recursively into batches. Each batch builds its own
+ * {@link GameEngine} and strategies from a {@link GameRandom} seeded with
+ * the tournament seed and the batch start, so:
+ * </p>
+ * <ul>
+ *   <li>workers never share mutable state or a random source;</li>
+ *   <li>the same seed, game count and batch size give the same results,
+ *       whatever the number of threads;</li>
+ *   <li>every batch fills a private {@link MatchReport}, and reports are
+ *       merged pairwise while joining, so there is no lock or atomic counter.</li>
+ * </ul>
+ *
+ * @author Battleship Development Team
+ * @version 1.0
+ * @see MatchRunner
+ */
+public class Tournament {
+
+    /** Default number of games played sequentially by one batch. */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /** Dimensions of the boards used for every game. */
+    private final BoardGeometry geometry;
+
+    /** Factory of the strategy in the first seat. */
+    private final StrategyFactory first;
+
+    /** Factory of the strategy in the second seat. */
+    private final StrategyFactory second;
+
+    /** Root seed of the tournament. */
+    private final long seed;
+
+    /** Number of games played sequentially by one batch. */
+    private final int batchSize;
+
+    /**
+     * Creates a tournament with the default batch size.
+     *
+     * @param geometry board dimensions
+     * @param first    factory of the strategy that fires first
+     * @param second   factory of the strategy that fires second
+     * @param seed     root seed
+     */
+    public Tournament(BoardGeometry geometry, StrategyFactory first, StrategyFactory second, long seed) {
+        this(geometry, first, second, seed, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a tournament.
+     *
+     * @param geometry  board dimensions
+     * @param first     factory of the strategy that fires first
+     * @param second    factory of the strategy that fires second
+     * @param seed      root seed
+     * @param batchSize games played sequentially by one batch
+     * @throws IllegalArgumentException if the batch size is not positive
+     */
+    public Tournament(BoardGeometry geometry, StrategyFactory first, StrategyFactory second,
+                      long seed, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Invalid batch size: " + batchSize);
+        }
+        this.geometry = geometry;
+        this.first = first;
+        this.second = second;
+        this.seed = seed;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Plays the given number of games on the common fork/join pool.
+     *
+     * @param games number of games
+     * @return merged report, including elapsed time
+     */
+    public MatchReport run(int games) {
+        return run(games, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays the given number of games on a specific pool.
+     *
+     * @param games number of games
+     * @param pool  pool that executes the batches
+     * @return merged report, including elapsed time
+     */
+    public MatchReport run(int games, ForkJoinPool pool) {
+        long start = System.nanoTime();
+        MatchReport report = pool.invoke(new Batch(0, games));
+        report.setElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * Plays the games {@code [from, to)} on the calling thread.
+     */
+    private MatchReport playBatch(int from, int to) {
+        GameRandom random = new GameRandom(seed ^ (from * 0x9E3779B97F4A7C15L));
+        GameEngine engine = new GameEngine(geometry, random.split());
+        ShotStrategy firstStrategy = first.create(geometry, random.split());
+        ShotStrategy secondStrategy = second.create(geometry, random.split());
+
+        MatchReport report = newReport();
+        for (int i = from; i < to; i++) {
+            report.record(engine.play(firstStrategy, secondStrategy));
+        }
+        return report;
+    }
+
+    /**
+     * Creates an empty report sized for this tournament's board.
+     */
+    private MatchReport newReport() {
+        return new MatchReport(geometry.getCellCount() * 2);
+    }
+
+    /**
+     * Fork/join task covering a range of games.
+     */
+    private class Batch extends RecursiveTask<MatchReport> {
+
+        /** First game of the range (inclusive). */
+        private final int from;
+
+        /** End of the range (exclusive). */
+        private final int to;
+
+        /**
+         * Creates a task for the games {@code [from, to)}.
+         */
+        Batch(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected MatchReport compute() {
+            if (to - from <= batchSize) {
+                return playBatch(from, to);
+            }
+
+            // Split on a batch boundary so results do not depend on the split order
+            int batches = (to - from + batchSize - 1) / batchSize;
+            int middle = from + (batches / 2) * batchSize;
+
+            Batch left = new Batch(from, middle);
+            left.fork();
+            MatchReport report = new Batch(middle, to).compute();
+            report.merge(left.join());
+            return report;
+        }
+    }
+
+    /**
+     * Runs {@link com.example.battleship.Model.AI.SmartAI} against the random
+     * baseline on every core and prints the report.
+     *
+     * @param args optional number of games (default 100000), board size (default 10) and seed
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int size = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+        BoardGeometry geometry = BoardGeometry.square(size);
+        Tournament tournament = new Tournament(geometry, StrategyFactory.smartAI(), StrategyFactory.randomAI(), seed);
+
+        System.out.println("SmartAI vs RandomAI on " + geometry + " (seed " + seed + ", "
+                + ForkJoinPool.commonPool().getParallelism() + " workers): " + tournament.run(games));
+    }
+}
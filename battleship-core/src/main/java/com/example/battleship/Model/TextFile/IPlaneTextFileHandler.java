@@ -0,0 +1,78 @@
+package com.example.battleship.Model.TextFile;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Defines a contract for plain text file input and output operations.
+ * <p>
+ * Implementations of this interface are responsible for writing textual
+ * data to files and reading it back using a defined format.
+ * </p>
+ *
+ * <p>
+ * {@link #forEachLine} and {@link #forEachRecord} stream a file one line at a
+ * time, so large files are processed in constant memory; {@link #writeLines}
+ * and {@link #writeRecords} replace a file atomically.
+ * </p>
+ */
+public interface IPlaneTextFileHandler {
+
+    /**
+     * Writes text content to a file.
+     *
+     * @param fileName name of the file to write to
+     * @param content  text content to be stored
+     */
+    void writeToFile(String fileName, String content);
+
+    /**
+     * Reads text content from a file and returns it as an array of strings.
+     *
+     * @param fileName name of the file to read from
+     * @return an array of strings read from the file
+     */
+    String[] readFromFile(String fileName);
+
+    /**
+     * Reads a file line by line, passing each line to the action as it is read.
+     *
+     * @param fileName name of the file to read from
+     * @param action   receives each line, without its line terminator
+     * @throws IOException if the file cannot be read
+     */
+    void forEachLine(String fileName, Consumer<String> action) throws IOException;
+
+    /**
+     * Reads a file of delimited records, one record per line.
+     * Blank lines are skipped and fields are trimmed, so a line keeps its own
+     * fields instead of being merged with its neighbours.
+     *
+     * @param fileName  name of the file to read from
+     * @param delimiter character separating the fields of a line
+     * @param action    receives the fields of each record
+     * @throws IOException if the file cannot be read
+     */
+    void forEachRecord(String fileName, char delimiter, Consumer<String[]> action) throws IOException;
+
+    /**
+     * Replaces a file with the given lines. The lines are written to a temporary
+     * file first, which is then moved over the target, so readers never see a
+     * half-written file.
+     *
+     * @param fileName name of the file to write to
+     * @param lines    lines to write, consumed once
+     * @throws IOException if the file cannot be written
+     */
+    void writeLines(String fileName, Iterable<? extends CharSequence> lines) throws IOException;
+
+    /**
+     * Replaces a file with delimited records, one per line, like {@link #writeLines}.
+     *
+     * @param fileName  name of the file to write to
+     * @param delimiter character separating the fields of a line
+     * @param records   records to write, consumed once
+     * @throws IOException if the file cannot be written
+     */
+    void writeRecords(String fileName, char delimiter, Iterable<String[]> records) throws IOException;
+}
@@ -0,0 +1,176 @@
+package com.example.battleship.Model.TextFile;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Handles plain text file reading and writing operations.
+ * <p>
+ * This class provides basic functionality to persist and retrieve
+ * text-based data using standard Java I/O streams.
+ * </p>
+ *
+ * <p>
+ * It implements the {@link IPlaneTextFileHandler} interface to ensure
+ * consistent file handling behavior. Files are read and written as UTF-8;
+ * every write goes through a temporary file that is moved over the target.
+ * </p>
+ */
+public class PlaneTextFileHandler implements IPlaneTextFileHandler {
+
+    /**
+     * Writes text content to a file, replacing it atomically.
+     *
+     * @param fileName name of the file to write to
+     * @param content  text content to be written
+     */
+    @Override
+    public void writeToFile(String fileName, String content){
+        try {
+            writeAtomically(fileName, writer -> writer.write(content));
+        } catch (IOException e){
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Reads text content from a file and splits it into tokens.
+     *
+     * <p>
+     * Each line is trimmed and concatenated using a comma delimiter,
+     * then split into a string array. Line boundaries are lost and the whole
+     * file is held in memory; prefer {@link #forEachRecord} for records.
+     * </p>
+     *
+     * @param fileName name of the file to read from
+     * @return an array of strings extracted from the file
+     */
+    @Override
+    public String[] readFromFile(String fileName){
+        StringBuilder content = new StringBuilder();
+        try {
+            forEachLine(fileName, line -> content.append(line.trim()).append(","));
+        } catch (IOException e){
+            e.printStackTrace();
+        }
+        return content.toString().split(",");
+    }
+
+    /**
+     * Reads a file line by line.
+     *
+     * @param fileName name of the file to read from
+     * @param action   receives each line
+     * @throws IOException if the file cannot be read
+     */
+    @Override
+    public void forEachLine(String fileName, Consumer<String> action) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(fileName), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                action.accept(line);
+            }
+        }
+    }
+
+    /**
+     * Reads a file of delimited records, one record per line.
+     * Fields are cut by hand rather than with a regular expression.
+     *
+     * @param fileName  name of the file to read from
+     * @param delimiter character separating the fields of a line
+     * @param action    receives the fields of each record
+     * @throws IOException if the file cannot be read
+     */
+    @Override
+    public void forEachRecord(String fileName, char delimiter, Consumer<String[]> action) throws IOException {
+        List<String> fields = new ArrayList<>();
+        forEachLine(fileName, line -> {
+            if (line.isBlank()) return;
+            fields.clear();
+            int start = 0;
+            int end;
+            while ((end = line.indexOf(delimiter, start)) >= 0) {
+                fields.add(line.substring(start, end).trim());
+                start = end + 1;
+            }
+            fields.add(line.substring(start).trim());
+            action.accept(fields.toArray(new String[0]));
+        });
+    }
+
+    /**
+     * Replaces a file with the given lines.
+     *
+     * @param fileName name of the file to write to
+     * @param lines    lines to write
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void writeLines(String fileName, Iterable<? extends CharSequence> lines) throws IOException {
+        writeAtomically(fileName, writer -> {
+            for (CharSequence line : lines) {
+                writer.append(line);
+                writer.newLine();
+            }
+        });
+    }
+
+    /**
+     * Replaces a file with delimited records, one per line.
+     *
+     * @param fileName  name of the file to write to
+     * @param delimiter character separating the fields of a line
+     * @param records   records to write
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void writeRecords(String fileName, char delimiter, Iterable<String[]> records) throws IOException {
+        writeAtomically(fileName, writer -> {
+            for (String[] record : records) {
+                for (int i = 0; i < record.length; i++) {
+                    if (i > 0) writer.write(delimiter);
+                    writer.write(record[i]);
+                }
+                writer.newLine();
+            }
+        });
+    }
+
+    /**
+     * Writes a file through a temporary sibling, then moves it over the target.
+     * The temporary file is removed if writing fails.
+     */
+    private static void writeAtomically(String fileName, TextWriter body) throws IOException {
+        Path target = Path.of(fileName).toAbsolutePath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                body.write(writer);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Writes the body of a file.
+     */
+    @FunctionalInterface
+    private interface TextWriter {
+        void write(BufferedWriter writer) throws IOException;
+    }
+
+}
@@ -0,0 +1,13 @@
+module com.example.battleship.core {
+    exports com.example.battleship.Model.AI;
+    exports com.example.battleship.Model.Board;
+    exports com.example.battleship.Model.Coordinates;
+    exports com.example.battleship.Model.Exceptions;
+    exports com.example.battleship.Model.Game;
+    exports com.example.battleship.Model.Player;
+    exports com.example.battleship.Model.RNG;
+    exports com.example.battleship.Model.Serializable;
+    exports com.example.battleship.Model.Ship;
+    exports com.example.battleship.Model.Simulation;
+    exports com.example.battleship.Model.TextFile;
+}
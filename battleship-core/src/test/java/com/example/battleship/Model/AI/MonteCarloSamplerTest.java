@@ -0,0 +1,56 @@
+package com.example.battleship.Model.AI;
+
+import com.example.battleship.Model.Board.BoardGeometry;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloSamplerTest {
+
+    private static final BoardGeometry GEOMETRY = BoardGeometry.STANDARD;
+
+    //Every accepted layout covers the hit and never a known water cell
+    @Test
+    void testLayoutsRespectKnowledge() {
+        MonteCarloSampler sampler = new MonteCarloSampler(GEOMETRY, new SplittableRandom(7),
+                500, 5_000_000_000L, 1);
+        byte[] known = new byte[GEOMETRY.getCellCount()];
+        known[GEOMETRY.index(4, 4)] = 2;
+        known[GEOMETRY.index(4, 5)] = 1;
+        known[GEOMETRY.index(0, 0)] = 1;
+
+        int[] counts = sampler.sample(known, new int[]{4, 3, 2, 1});
+        int samples = sampler.getLastSampleCount();
+
+        assertEquals(500, samples);
+        assertEquals(samples, counts[GEOMETRY.index(4, 4)]);
+        assertEquals(0, counts[GEOMETRY.index(4, 5)]);
+        assertEquals(0, counts[GEOMETRY.index(0, 0)]);
+        // Diagonal neighbours of a hit can never hold another ship
+        assertEquals(0, counts[GEOMETRY.index(3, 3)]);
+        assertEquals(0, counts[GEOMETRY.index(5, 5)]);
+    }
+
+    //Worker count only changes how the work is split, not the totals
+    @Test
+    void testParallelWorkersFillQuota() {
+        MonteCarloSampler sampler = new MonteCarloSampler(BoardGeometry.of(12, 15), new SplittableRandom(7),
+                1000, 5_000_000_000L, 4);
+        int[] counts = sampler.sample(new byte[12 * 15], new int[]{4, 3, 2, 1});
+
+        assertEquals(1000, sampler.getLastSampleCount());
+        long covered = 0;
+        for (int count : counts) covered += count;
+        assertEquals(1000L * (4 + 3 * 2 + 2 * 3 + 4), covered);
+    }
+
+    //Nothing left to place: no layouts, so SmartAI falls back to its heuristics
+    @Test
+    void testNoShipsLeft() {
+        MonteCarloSampler sampler = new MonteCarloSampler(GEOMETRY, new SplittableRandom(7));
+        sampler.sample(new byte[GEOMETRY.getCellCount()], new int[4]);
+        assertEquals(0, sampler.getLastSampleCount());
+    }
+}
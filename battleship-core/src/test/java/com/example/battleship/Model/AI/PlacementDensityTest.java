@@ -0,0 +1,85 @@
+package com.example.battleship.Model.AI;
+
+import com.example.battleship.Model.Board.BoardGeometry;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlacementDensityTest {
+
+    //Full rescan, same rules as the original SmartAI.updateHeatMap
+    private static int[] rescan(BoardGeometry geometry, boolean[] blocked, int[] shipCounts) {
+        int rows = geometry.getRows();
+        int cols = geometry.getCols();
+        int[] heat = new int[geometry.getCellCount()];
+        for (int size = 1; size <= shipCounts.length; size++) {
+            int count = shipCounts[size - 1];
+            if (count <= 0) continue;
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    boolean horizontal = col + size <= cols;
+                    boolean vertical = row + size <= rows;
+                    for (int i = 0; i < size; i++) {
+                        if (horizontal && blocked[geometry.index(row, col + i)]) horizontal = false;
+                        if (vertical && blocked[geometry.index(row + i, col)]) vertical = false;
+                    }
+                    for (int i = 0; i < size; i++) {
+                        if (horizontal) heat[geometry.index(row, col + i)] += count;
+                        if (vertical) heat[geometry.index(row + i, col)] += count;
+                    }
+                }
+            }
+        }
+        return heat;
+    }
+
+    private static int[] heatOf(PlacementDensity density, BoardGeometry geometry) {
+        int[] heat = new int[geometry.getCellCount()];
+        for (int i = 0; i < heat.length; i++) {
+            heat[i] = density.getHeat(geometry.rowOf(i), geometry.colOf(i));
+        }
+        return heat;
+    }
+
+    @Test
+    void testEmptyBoardMatchesRescan() {
+        BoardGeometry geometry = BoardGeometry.STANDARD;
+        int[] ships = {4, 3, 2, 1};
+        PlacementDensity density = new PlacementDensity(geometry, 4);
+        density.reset(ships);
+
+        assertArrayEquals(rescan(geometry, new boolean[100], ships), heatOf(density, geometry));
+        // Corner: 1-cell ship counted in both orientations, longer ships once per orientation
+        assertEquals(4 * 2 + 3 * 2 + 2 * 2 + 1 * 2, density.getHeat(0, 0));
+    }
+
+    //Random games: the incremental heat must equal the rescan after every change
+    @Test
+    void testIncrementalUpdatesMatchRescan() {
+        SplittableRandom random = new SplittableRandom(2024);
+        for (BoardGeometry geometry : new BoardGeometry[]{BoardGeometry.STANDARD, BoardGeometry.of(13, 17)}) {
+            for (int game = 0; game < 20; game++) {
+                int[] ships = {4, 3, 2, 1};
+                boolean[] blocked = new boolean[geometry.getCellCount()];
+                PlacementDensity density = new PlacementDensity(geometry, 4);
+                density.reset(ships);
+
+                for (int step = 0; step < geometry.getCellCount(); step++) {
+                    if (random.nextInt(8) == 0) {
+                        int size = 1 + random.nextInt(4);
+                        ships[size - 1]--;
+                        density.setShipCount(size, ships[size - 1]);
+                    } else {
+                        int index = random.nextInt(blocked.length);
+                        blocked[index] = true;
+                        density.block(geometry.rowOf(index), geometry.colOf(index));
+                    }
+                    assertArrayEquals(rescan(geometry, blocked, ships), heatOf(density, geometry),
+                            "step " + step + " on " + geometry);
+                }
+            }
+        }
+    }
+}
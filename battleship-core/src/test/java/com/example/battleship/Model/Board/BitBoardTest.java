@@ -0,0 +1,98 @@
+package com.example.battleship.Model.Board;
+
+import com.example.battleship.Model.Exceptions.InvalidPositionException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitBoardTest {
+
+    @Test
+    void testBoardStartsEmpty() {
+        BitBoard board = new BitBoard();
+        assertEquals(0, board.getCell(0, 0));
+        assertEquals(0, board.getCell(9, 9));
+        assertEquals(100, board.countUnshot());
+    }
+
+    //Verifies the same cell states as the HashMap board
+    @Test
+    void testCellStates() {
+        BitBoard board = new BitBoard();
+        board.setCell(0, 0, 0); // Agua vacía
+        board.setCell(1, 1, 1); // Barco
+        board.setCell(2, 2, 2); // Fallo
+        board.setCell(9, 9, 3); // Impacto (bit in the second word)
+
+        assertEquals(0, board.getCell(0, 0));
+        assertEquals(1, board.getCell(1, 1));
+        assertEquals(2, board.getCell(2, 2));
+        assertEquals(3, board.getCell(9, 9));
+    }
+
+    @Test
+    void testOverwriteCell() {
+        BitBoard board = new BitBoard();
+        board.setCell(6, 4, 1);
+        board.setCell(6, 4, 3);
+        assertEquals(3, board.getCell(6, 4));
+
+        board.setCell(6, 4, 0);
+        assertEquals(0, board.getCell(6, 4));
+        assertFalse(board.hasShip(6, 4));
+    }
+
+    @Test
+    void testInvalidCellReturnsDefaultZero() {
+        BitBoard board = new BitBoard();
+        assertEquals(0, board.getCell(99, 99));
+        assertEquals(0, board.getCell(-1, 0));
+        assertThrows(InvalidPositionException.class, () -> board.setCell(10, 0, 1));
+    }
+
+    @Test
+    void testCounters() {
+        BitBoard board = new BitBoard();
+        board.setCell(0, 0, 1);
+        board.setCell(0, 1, 1);
+        board.setCell(0, 2, 3);
+        board.setCell(7, 7, 2);
+
+        assertEquals(2, board.countIntactShipCells());
+        assertEquals(1, board.countHits());
+        assertEquals(1, board.countMisses());
+        assertEquals(98, board.countUnshot());
+
+        long[] unshot = board.getUnshotCells();
+        int bits = Long.bitCount(unshot[0]) + Long.bitCount(unshot[1]);
+        assertEquals(98, bits);
+    }
+
+    @Test
+    void testLargerGeometry() {
+        BitBoard board = new BitBoard(BoardGeometry.square(32));
+        board.setCell(31, 31, 3);
+        board.setCell(0, 31, 1);
+
+        assertEquals(3, board.getCell(31, 31));
+        assertEquals(1, board.getCell(0, 31));
+        assertEquals(1023, board.countUnshot());
+        assertThrows(InvalidPositionException.class, () -> board.setCell(32, 0, 1));
+    }
+
+    @Test
+    void testCopyOfLegacyBoard() {
+        Board legacy = new Board();
+        legacy.setCell(3, 3, 1);
+        legacy.setCell(4, 4, 2);
+        legacy.setCell(8, 1, 3);
+
+        BitBoard copy = BitBoard.copyOf(legacy);
+
+        for (int r = 0; r < 10; r++) {
+            for (int c = 0; c < 10; c++) {
+                assertEquals(legacy.getCell(r, c), copy.getCell(r, c));
+            }
+        }
+    }
+}
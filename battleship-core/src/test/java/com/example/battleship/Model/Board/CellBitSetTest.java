@@ -0,0 +1,68 @@
+package com.example.battleship.Model.Board;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CellBitSetTest {
+
+    //Adding twice reports the duplicate
+    @Test
+    void testAddAndContains() {
+        CellBitSet shots = new CellBitSet(BoardGeometry.STANDARD);
+
+        assertTrue(shots.add(3, 7));
+        assertFalse(shots.add(3, 7));
+        assertTrue(shots.contains(3, 7));
+        assertFalse(shots.contains(7, 3));
+        assertFalse(shots.contains(-1, 0));
+        assertEquals(1, shots.size());
+    }
+
+    //Iteration visits cells in board order, across word boundaries
+    @Test
+    void testNextCell() {
+        BoardGeometry geometry = BoardGeometry.of(13, 17);
+        CellBitSet shots = new CellBitSet(geometry);
+        shots.add(12, 16);
+        shots.add(0, 0);
+        shots.add(3, 13);
+
+        assertEquals(0, shots.nextCell(0));
+        assertEquals(geometry.index(3, 13), shots.nextCell(1));
+        assertEquals(geometry.index(12, 16), shots.nextCell(geometry.index(3, 13) + 1));
+        assertEquals(-1, shots.nextCell(geometry.getCellCount()));
+    }
+
+    //Serialized bits take 13 bytes on 10x10 and read back equal
+    @Test
+    void testSerializationRoundTrip() throws Exception {
+        CellBitSet shots = new CellBitSet(BoardGeometry.STANDARD);
+        shots.add(0, 0);
+        shots.add(9, 9);
+        shots.add(6, 4);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(shots);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            CellBitSet copy = (CellBitSet) in.readObject();
+            assertEquals(shots, copy);
+            assertEquals(3, copy.size());
+        }
+    }
+
+    //Legacy "row,col" keys are converted, corrupted keys skipped
+    @Test
+    void testFromKeys() {
+        CellBitSet shots = CellBitSet.fromKeys(BoardGeometry.STANDARD, Set.of("1,2", "9,9", "x,1", "10,0"));
+
+        assertEquals(2, shots.size());
+        assertTrue(shots.contains(1, 2));
+        assertTrue(shots.contains(9, 9));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.battleship.Model.Board;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlacementTableTest {
+
+    //A 4-cell ship has 7 starts per line in each orientation on 10x10, and tables are shared
+    @Test
+    void testPlacementsAndLookup() {
+        PlacementTable table = PlacementTable.of(BoardGeometry.STANDARD, 4);
+
+        assertEquals(2 * 10 * 7, table.size());
+        assertSame(table, PlacementTable.of(BoardGeometry.square(10), 4));
+        assertEquals(-1, table.find(0, 7, false));
+        assertEquals(-1, table.find(7, 0, true));
+
+        int placement = table.find(6, 9, true);
+        assertTrue(table.isVertical(placement));
+        assertEquals(BoardGeometry.STANDARD.index(9, 9), table.getCell(placement, 3));
+    }
+
+    //Masks spanning two words intersect planes and build halos correctly
+    @Test
+    void testMasksAcrossWords() {
+        BoardGeometry geometry = BoardGeometry.STANDARD;
+        PlacementTable table = PlacementTable.of(geometry, 3);
+        //Cells 62, 63 and 64 straddle the first word boundary
+        int placement = table.find(6, 2, false);
+
+        long[] plane = new long[geometry.getWordCount()];
+        plane[1] = 1L;
+        assertTrue(table.intersects(placement, plane));
+
+        long[] halo = new long[geometry.getWordCount()];
+        table.addHaloTo(placement, halo);
+        assertEquals(15, Long.bitCount(halo[0]) + Long.bitCount(halo[1]));
+        assertEquals(5, table.getCoverCount(geometry.index(0, 0)) + table.getCoverCount(geometry.index(0, 1)));
+    }
+}
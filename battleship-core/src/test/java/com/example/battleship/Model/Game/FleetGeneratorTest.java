@@ -0,0 +1,53 @@
+package com.example.battleship.Model.Game;
+
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.RNG.GameRandom;
+import com.example.battleship.Model.Ship.IShip;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FleetGeneratorTest {
+
+    //With the no-touch rule every fleet is complete and no two ships are neighbours
+    @Test
+    void testNoTouchFleetIsComplete() {
+        FleetGenerator generator = new FleetGenerator(BoardGeometry.STANDARD).withNoTouch(true);
+        GameRandom random = new GameRandom(7L);
+
+        for (int round = 0; round < 200; round++) {
+            List<IShip> fleet = generator.generate(random);
+            assertEquals(10, fleet.size());
+
+            int[][] owner = new int[10][10];
+            for (int i = 0; i < fleet.size(); i++) {
+                for (int[] cell : fleet.get(i).getCoordinates()) {
+                    assertEquals(0, owner[cell[0]][cell[1]]);
+                    owner[cell[0]][cell[1]] = i + 1;
+                }
+            }
+            for (int r = 0; r < 10; r++) {
+                for (int c = 0; c < 10; c++) {
+                    for (int dr = -1; dr <= 1; dr++) {
+                        for (int dc = -1; dc <= 1; dc++) {
+                            int nr = r + dr, nc = c + dc;
+                            if (owner[r][c] != 0 && nr >= 0 && nr < 10 && nc >= 0 && nc < 10 && owner[nr][nc] != 0) {
+                                assertEquals(owner[r][c], owner[nr][nc]);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    //A fleet that cannot fit is reported instead of being placed partially
+    @Test
+    void testFleetThatDoesNotFit() {
+        FleetGenerator generator = new FleetGenerator(BoardGeometry.square(4), new int[]{4, 4, 4, 4, 1}, false);
+        assertThrows(IllegalStateException.class, () -> generator.generate(new GameRandom(1L)));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.battleship.Model.Game;
 
+import com.example.battleship.Model.Board.BoardGeometry;
 import com.example.battleship.Model.Exceptions.InvalidPositionException;
 import com.example.battleship.Model.Ship.AircraftCarrier;
 import com.example.battleship.Model.Ship.Frigate;
@@ -73,6 +74,19 @@ class GameTest {
         assertEquals(3, coords.get(3)[1]);
     }
 
+    // Ships pointing left or up are listed from the top-left cell, and the list is cached
+    @Test
+    void testGetShipCoordinatesReversedDirection() {
+        Game game = new Game("TestPlayer");
+        IShip carrier = new AircraftCarrier(5, 2, IShip.Direction.LEFT);
+
+        var coords = game.getShipCoordinates(carrier);
+
+        assertEquals(2, coords.get(0)[1]);
+        assertEquals(5, coords.get(3)[1]);
+        assertSame(coords, game.getShipCoordinates(carrier));
+    }
+
     @Test
     void testAdvanceTurnChangePlayer() {
         Game game = new Game("TestPlayer");
@@ -108,6 +122,34 @@ class GameTest {
         assertTrue(game.getMachineFleet().stream().allMatch(IShip::isSunken));
     }
 
+    // Fleet counters follow every hit until the whole machine fleet is sunk
+    @Test
+    void testFleetStatusCounters() {
+        Game game = new Game("TestPlayer");
+        game.setVerbose(false);
+        game.generateHumanFleet();
+        game.generateFleet();
+        game.startGame();
+
+        FleetStatus status = game.getMachineFleetStatus();
+        int cells = game.getMachineFleet().stream().mapToInt(IShip::getShipSize).sum();
+        assertEquals(game.getMachineFleet().size(), status.getShipsAfloat());
+        assertEquals(cells, status.getCellsRemaining());
+
+        for (IShip ship : game.getMachineFleet()) {
+            for (int[] cell : game.getShipCoordinates(ship)) {
+                game.executeHumanShot(cell[0], cell[1]);
+                cells--;
+                assertEquals(cells, status.getCellsRemaining());
+            }
+        }
+
+        assertEquals(0, status.getShipsAfloat());
+        assertEquals(1, status.getShipsSunk(4));
+        assertTrue(game.hasHumanWon());
+        assertTrue(game.isGameOver());
+    }
+
     // Test to generate fleet
     @Test
     void testGenerateFleet() {
@@ -130,4 +172,19 @@ class GameTest {
         assertEquals(3, destroyers);
         assertEquals(4, frigates);
     }
+
+    //The same seed places the same fleet
+    @Test
+    void testSeededGameIsReproducible() {
+        Game first = new Game("TestPlayer", BoardGeometry.STANDARD, 42L);
+        Game second = new Game("TestPlayer", BoardGeometry.STANDARD, 42L);
+        first.generateFleet();
+        second.generateFleet();
+
+        for (int row = 0; row < 10; row++) {
+            for (int col = 0; col < 10; col++) {
+                assertEquals(first.getMachineBoard().getCell(row, col), second.getMachineBoard().getCell(row, col));
+            }
+        }
+    }
 }
@@ -0,0 +1,97 @@
+package com.example.battleship.Model.Player;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameHistoryTest {
+
+    private static final ZoneId UTC = ZoneOffset.UTC;
+
+    @TempDir
+    Path tempDir;
+
+    //A game finished at noon UTC on the given day
+    private GameRecord game(String player, LocalDate day, boolean won, int shots, int hits) {
+        long finishedAt = day.atTime(12, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+        return new GameRecord(player, finishedAt, 60_000, GameRecord.AiMode.HEURISTIC,
+                won, won ? 10 : 4, won ? 6 : 10, shots, hits, 30);
+    }
+
+    private GameHistory open() throws IOException {
+        return new GameHistory(tempDir.resolve("history.log"), tempDir.resolve("rollups.dat"), UTC);
+    }
+
+    //Games land in their day and week, per player and for everyone
+    @Test
+    void testDailyAndWeeklyBuckets() throws IOException {
+        LocalDate monday = LocalDate.of(2025, 3, 3);
+        try (GameHistory history = open()) {
+            history.append(game("Ana", monday, true, 40, 20));
+            history.append(game("ana", monday, false, 60, 15));
+            history.append(game("Luis", monday.plusDays(2), true, 50, 25));
+            history.append(game("Ana", monday.plusDays(7), true, 30, 20));
+
+            GameHistory.Bucket day = history.getDaily("ANA", monday);
+            assertEquals(2, day.getGames());
+            assertEquals(1, day.getWins());
+            assertEquals(35, day.getHits());
+            assertEquals(3, history.getWeekly(null, monday.plusDays(6)).getGames());
+            assertEquals(1, history.getWeekly("Ana", monday.plusDays(7)).getGames());
+            assertEquals(0, history.getDaily("Luis", monday).getGames());
+            assertEquals(2, history.getDailyRange(null, monday, monday.plusDays(6)).size());
+            assertEquals(150, history.getTotal(null, monday, monday.plusDays(6)).getShots());
+        }
+    }
+
+    //Reopening reads the saved totals and only the games written after them
+    @Test
+    void testReopenAndRebuild() throws IOException {
+        LocalDate day = LocalDate.of(2025, 5, 20);
+        try (GameHistory history = open()) {
+            for (int i = 0; i < 120; i++) {
+                history.append(game("p" + (i % 4), day.plusDays(i % 3), i % 2 == 0, 40, 10));
+            }
+        }
+        try (GameHistory history = open()) {
+            assertEquals(120, history.size());
+            assertEquals(40, history.getDaily(null, day).getGames());
+            assertEquals(120, history.readAll().size());
+        }
+
+        Files.delete(tempDir.resolve("rollups.dat"));
+        try (GameHistory history = open()) {
+            assertEquals(120, history.size());
+            assertEquals(10, history.getDaily("p0", day).getGames());
+        }
+    }
+
+    //A record cut short by a crash is dropped
+    @Test
+    void testTornRecordDropped() throws IOException {
+        LocalDate day = LocalDate.of(2025, 1, 10);
+        try (GameHistory history = open()) {
+            history.append(game("Ana", day, true, 40, 20));
+            history.append(game("Ana", day, true, 40, 20));
+        }
+        Files.delete(tempDir.resolve("rollups.dat"));
+        try (RandomAccessFile file = new RandomAccessFile(tempDir.resolve("history.log").toFile(), "rw")) {
+            file.setLength(file.length() - 3);
+        }
+        try (GameHistory history = open()) {
+            assertEquals(1, history.size());
+            history.append(game("Ana", day, false, 40, 20));
+            assertEquals(2, history.readAll().size());
+            assertEquals(2, history.getDaily("Ana", day).getGames());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.battleship.Model.Player;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardTest {
+
+    @TempDir
+    Path tempDir;
+
+    //Asserts the board ranks players as a full sort of the same players would
+    private void assertMatchesSort(Leaderboard board, Map<String, PlayerData> players) {
+        List<PlayerData> sorted = new ArrayList<>(players.values());
+        sorted.sort(Leaderboard.ORDER);
+        List<PlayerData> top = board.getTop(sorted.size() + 1);
+        assertEquals(sorted.size(), top.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(sorted.get(i).getName(), top.get(i).getName());
+            assertEquals(i + 1, board.getRank(sorted.get(i).getName()));
+            assertEquals(sorted.get(i).getName(), board.getPlayerAt(i + 1).getName());
+        }
+    }
+
+    //Random updates and removals keep the same order as a full sort
+    @Test
+    void testIncrementalOrder() {
+        SplittableRandom random = new SplittableRandom(9);
+        Leaderboard board = new Leaderboard();
+        Map<String, PlayerData> players = new HashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            String name = "p" + random.nextInt(300);
+            if (random.nextInt(10) == 0) {
+                board.remove(name);
+                players.remove(name);
+            } else {
+                int shots = 1 + random.nextInt(500);
+                PlayerData player = new PlayerData(name, 10, random.nextInt(10), shots, random.nextInt(shots));
+                board.update(player);
+                players.put(name, player);
+            }
+        }
+        assertMatchesSort(board, players);
+        assertEquals(-1, board.getRank("nobody"));
+        assertEquals(3, board.getTop(3).size());
+    }
+
+    //A saved ranking is read back in the same order
+    @Test
+    void testSaveAndLoad() throws IOException {
+        Map<String, PlayerData> players = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            players.put("p" + i, new PlayerData("p" + i, 20, i % 7, 100, i));
+        }
+        Path file = tempDir.resolve("leaderboard.dat");
+        Leaderboard.of(players.values()).save(file);
+
+        Leaderboard loaded = Leaderboard.load(file);
+        assertMatchesSort(loaded, players);
+        assertNull(Leaderboard.load(tempDir.resolve("missing.dat")));
+    }
+
+    //The cache keeps the ranking current and saves it with its batches
+    @Test
+    void testCacheKeepsRanking() throws IOException {
+        Path file = tempDir.resolve("leaderboard.dat");
+        try (PlayerStore store = new PlayerStore(tempDir.resolve("players.db"))) {
+            store.put(new PlayerData("Ana", 3, 1, 30, 10));
+            store.put(new PlayerData("Luis", 3, 2, 30, 10));
+
+            PlayerStatsCache cache = new PlayerStatsCache(store, file, 60_000);
+            assertEquals(1, cache.getLeaderboard().getRank("Luis"));
+            cache.recordGame("Ana", true, 10, 10);
+            cache.recordGame("Ana", true, 10, 10);
+            assertEquals(1, cache.getLeaderboard().getRank("ana"));
+            cache.close();
+
+            PlayerStatsCache restarted = new PlayerStatsCache(store, file, 60_000);
+            assertEquals(2, restarted.getLeaderboard().getRank("Luis"));
+            assertEquals(3, restarted.getLeaderboard().getTop(10).get(0).getGamesWon());
+            restarted.close();
+        }
+    }
+}
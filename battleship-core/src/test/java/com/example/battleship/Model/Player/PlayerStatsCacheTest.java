@@ -0,0 +1,95 @@
+package com.example.battleship.Model.Player;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerStatsCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    //Games finishing on several threads are all counted, and written in one batch
+    @Test
+    void testConcurrentGamesMerged() throws Exception {
+        try (PlayerStore store = new PlayerStore(tempDir.resolve("players.db"))) {
+            PlayerStatsCache cache = new PlayerStatsCache(store, 60_000);
+            ExecutorService pool = Executors.newFixedThreadPool(4);
+            List<Future<?>> games = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                boolean won = i % 2 == 0;
+                games.add(pool.submit(() -> cache.recordGame("Ana", won, 30, 10)));
+            }
+            for (Future<?> game : games) {
+                game.get();
+            }
+            pool.shutdown();
+
+            PlayerData ana = cache.get("ana");
+            assertEquals(200, ana.getGamesPlayed());
+            assertEquals(100, ana.getGamesWon());
+            assertEquals(6000, ana.getTotalShots());
+            assertNull(store.get("Ana"));
+
+            cache.close();
+            assertEquals(1, cache.getWriteCount());
+            assertEquals(2000, store.get("Ana").getTotalHits());
+        }
+    }
+
+    //Stored players are read once, then served and updated in memory
+    @Test
+    void testLoadsFromStore() throws IOException {
+        try (PlayerStore store = new PlayerStore(tempDir.resolve("players.db"))) {
+            store.put(new PlayerData("Luis", 4, 1, 80, 20));
+            store.put(new PlayerData("Marta", 2, 2, 40, 25));
+            PlayerStatsCache cache = new PlayerStatsCache(store, 60_000);
+
+            assertEquals(5, cache.recordGame("luis", true, 10, 5).getGamesPlayed());
+            assertEquals(2, cache.getAll().size());
+
+            cache.remove("Marta");
+            cache.flush();
+            assertFalse(store.contains("Marta"));
+            assertEquals(2, store.get("Luis").getGamesWon());
+            cache.close();
+        }
+    }
+
+    //A removed player stays removed while the store still holds its record
+    @Test
+    void testRemovedPlayerNotReloaded() throws IOException {
+        try (PlayerStore store = new PlayerStore(tempDir.resolve("players.db"))) {
+            store.put(new PlayerData("Ana", 9, 6, 300, 120));
+            store.put(new PlayerData("Luis", 4, 1, 80, 20));
+            PlayerStatsCache cache = new PlayerStatsCache(store, 60_000);
+
+            //Holding the store's lock keeps the writer from deleting the record
+            synchronized (store) {
+                cache.remove("Ana");
+                assertNull(cache.get("ana"));
+                assertFalse(cache.contains("Ana"));
+                assertEquals(-1, cache.getLeaderboard().getRank("ana"));
+                assertEquals(1, cache.getAll().size());
+                assertTrue(store.contains("Ana"));
+
+                PlayerData fresh = cache.recordGame("Ana", true, 20, 8);
+                assertEquals(1, fresh.getGamesPlayed());
+                assertEquals(1, cache.getLeaderboard().getRank("ana"));
+            }
+
+            cache.flush();
+            assertEquals(1, store.get("Ana").getGamesPlayed());
+            cache.close();
+        }
+    }
+}
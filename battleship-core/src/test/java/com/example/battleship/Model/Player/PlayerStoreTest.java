@@ -0,0 +1,66 @@
+package com.example.battleship.Model.Player;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    //Updates overwrite the record in place, names are case-insensitive
+    @Test
+    void testUpdateInPlace() throws IOException {
+        Path file = tempDir.resolve("players.db");
+        try (PlayerStore store = new PlayerStore(file)) {
+            store.put(new PlayerData("Ana", 1, 1, 20, 10));
+            store.put(new PlayerData("Luis", 2, 0, 40, 12));
+            long size = Files.size(file);
+
+            store.put(new PlayerData("ana", 2, 1, 45, 20));
+            assertEquals(size, Files.size(file));
+            assertEquals(2, store.size());
+            assertEquals(45, store.get("ANA").getTotalShots());
+            assertTrue(store.contains("luis"));
+            assertNull(store.get("Marta"));
+        }
+    }
+
+    //Deleted slots are reused and the index is rebuilt on reopen
+    @Test
+    void testRemoveAndReopen() throws IOException {
+        Path file = tempDir.resolve("players.db");
+        try (PlayerStore store = new PlayerStore(file)) {
+            store.put(new PlayerData("Ana", 1, 1, 20, 10));
+            store.put(new PlayerData("Luis", 2, 0, 40, 12));
+            assertTrue(store.remove("ana"));
+            long size = Files.size(file);
+            store.put(new PlayerData("Marta", 3, 2, 60, 30));
+            assertEquals(size, Files.size(file));
+        }
+        try (PlayerStore store = new PlayerStore(file)) {
+            assertEquals(2, store.size());
+            assertFalse(store.contains("Ana"));
+            assertEquals(2, store.get("marta").getGamesWon());
+            assertEquals(2, store.getAll().size());
+        }
+    }
+
+    //The legacy CSV file is imported when the store is created
+    @Test
+    void testCsvMigration() throws IOException {
+        Path csv = tempDir.resolve("players.csv");
+        Files.writeString(csv, "Miguel,3,2,118,43\n\nnacho,6,5,188,123\nbroken,x\n");
+        try (PlayerStore store = new PlayerStore(tempDir.resolve("players.db"), csv)) {
+            assertEquals(2, store.size());
+            assertEquals(123, store.get("Nacho").getTotalHits());
+            assertEquals("Miguel", store.get("miguel").getName());
+        }
+    }
+}
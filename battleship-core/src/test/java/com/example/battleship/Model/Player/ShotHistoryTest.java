@@ -0,0 +1,39 @@
+package com.example.battleship.Model.Player;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShotHistoryTest {
+
+    //Order is kept and repeated shots are rejected, also after the table grows
+    @Test
+    void testOrderAndMembership() {
+        ShotHistory history = new ShotHistory();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(history.add(i % 37, i / 37));
+        }
+        assertFalse(history.add(5, 0));
+
+        assertEquals(1000, history.size());
+        assertEquals(0, history.getX(0));
+        assertEquals(999 % 37, history.getX(999));
+        assertEquals(999 / 37, history.getY(999));
+        assertTrue(history.contains(36, 26));
+        assertFalse(history.contains(37, 0));
+    }
+
+    //Players share the history through AbstractPlayer
+    @Test
+    void testPlayerShots() {
+        Human human = new Human("Ana");
+        human.shoot(3, 4);
+        human.shoot(3, 4);
+        human.shoot(1, 2);
+
+        assertTrue(human.alreadyShot(1, 2));
+        assertFalse(human.alreadyShot(2, 1));
+        assertEquals(2, human.getShots().size());
+        assertArrayEquals(new int[]{1, 2}, human.getShots().get(1));
+    }
+}
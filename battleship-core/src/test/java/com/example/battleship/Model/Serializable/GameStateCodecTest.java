@@ -0,0 +1,117 @@
+package com.example.battleship.Model.Serializable;
+
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.Game.Game;
+import com.example.battleship.Model.Game.GameState;
+import com.example.battleship.Model.Ship.IShip;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStateCodecTest {
+
+    @TempDir
+    Path tempDir;
+
+    //Builds a snapshot with both fleets placed and a few shots fired
+    private GameState sampleState() {
+        Game game = new Game("Tester", BoardGeometry.STANDARD, 11L);
+        game.setVerbose(false);
+        game.generateFleet();
+        game.generateHumanFleet();
+        IShip ship = game.getMachineFleet().get(0);
+        int[] cell = ship.getCoordinates().get(0);
+        game.getMachineBoard().setCell(cell[0], cell[1], 3);
+        ship.registerHit();
+        game.getHumanShots().add(cell[0], cell[1]);
+        game.getMachineShots().add(4, 4);
+
+        return new GameState("Tester", game.getHumanBoard(), game.getMachineBoard(),
+                game.getHumanFleet(), game.getMachineFleet(),
+                game.getHumanShots(), game.getMachineShots(),
+                1, Game.GameState.PLAYING, false);
+    }
+
+    //Everything written is read back
+    @Test
+    void testRoundTrip() throws IOException {
+        GameState state = sampleState();
+        GameState copy = GameStateCodec.decode(GameStateCodec.encode(state));
+
+        assertEquals("Tester", copy.getPlayerName());
+        assertEquals(1, copy.getCurrentPlayerIndex());
+        assertEquals(Game.GameState.PLAYING, copy.getGamePhase());
+        assertEquals(state.getHumanShots(), copy.getHumanShots());
+        assertEquals(state.getMachineShots(), copy.getMachineShots());
+        assertEquals(state.getMachineFleet().size(), copy.getMachineFleet().size());
+        assertEquals(1, copy.getMachineFleet().get(0).getHitCount());
+        for (int r = 0; r < 10; r++) {
+            for (int c = 0; c < 10; c++) {
+                assertEquals(state.getMachineBoard().getCell(r, c), copy.getMachineBoard().getCell(r, c));
+                assertEquals(state.getHumanBoard().getCell(r, c), copy.getHumanBoard().getCell(r, c));
+            }
+        }
+    }
+
+    //A flipped byte is caught by the checksum
+    @Test
+    void testCorruptionDetected() {
+        byte[] data = GameStateCodec.encode(sampleState());
+        data[data.length / 2] ^= 0x10;
+        assertThrows(IOException.class, () -> GameStateCodec.decode(data));
+    }
+
+    //Saves written with Java serialization still load through the binary handler
+    @Test
+    void testLegacyFileFallback() {
+        String fileName = tempDir.resolve("game_save_tester.dat").toString();
+        new SerializableFileHandler().serialize(fileName, sampleState());
+
+        GameState loaded = (GameState) new GameStateFileHandler().deserialize(fileName);
+        assertNotNull(loaded);
+        assertEquals("Tester", loaded.getPlayerName());
+        assertEquals(1, loaded.getMachineShots().size());
+    }
+
+    //The seed is saved, and a restored game draws from it again
+    @Test
+    void testSeedRestored() throws IOException {
+        Game game = new Game("Tester", BoardGeometry.STANDARD, 99L);
+        game.setVerbose(false);
+        game.generateFleet();
+        game.generateHumanFleet();
+
+        GameState copy = GameStateCodec.decode(GameStateCodec.encode(game.toGameState()));
+        assertEquals(99L, copy.getSeed());
+        assertEquals(99L, Game.fromSnapshot("Tester", copy).getSeed());
+    }
+
+    //Version 1 files have no seed fields and load with an unknown seed
+    @Test
+    void testVersionOneWithoutSeed() throws IOException {
+        byte[] current = GameStateCodec.encode(sampleState());
+        //magic, version, name "Tester", turn, phase, game over
+        int seedAt = 4 + 2 + 2 + "Tester".length() + 3;
+        int seedBytes = 1 + 8;
+
+        ByteBuffer old = ByteBuffer.allocate(current.length - seedBytes);
+        old.put(current, 0, seedAt);
+        old.put(current, seedAt + seedBytes, current.length - seedAt - seedBytes - 4);
+        old.putShort(4, GameStateCodec.VERSION_WITHOUT_SEED);
+        CRC32 crc = new CRC32();
+        crc.update(old.array(), 0, old.position());
+        old.putInt((int) crc.getValue());
+
+        GameState copy = GameStateCodec.decode(old.array());
+        assertNull(copy.getSeed());
+        assertEquals("Tester", copy.getPlayerName());
+        assertEquals(1, copy.getMachineFleet().get(0).getHitCount());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.battleship.Model.Serializable;
+
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.Game.Game;
+import com.example.battleship.Model.Game.GameState;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    //Plays shots across the first rows, journaling each one, as the game screen does
+    private Game playAndJournal(MoveJournal journal, int shots) throws IOException {
+        Game game = new Game("Tester", BoardGeometry.STANDARD, 5L);
+        game.setVerbose(false);
+        game.generateFleet();
+        game.generateHumanFleet();
+        game.startGame();
+        journal.checkpoint(game.toGameState());
+
+        for (int i = 0; i < shots; i++) {
+            int row = i / 10, col = i % 10;
+            boolean human = game.isHumanTurn();
+            Game.ShotResult result = human ? game.executeHumanShot(row, col) : game.executeMachineShot(row, col);
+            journal.append(human, row, col, result);
+            if (result == Game.ShotResult.MISS) {
+                game.advanceTurn();
+            }
+        }
+        return game;
+    }
+
+    //Snapshot plus replayed moves give the state the game reached
+    @Test
+    void testRecoverReplaysMoves() throws IOException {
+        MoveJournal journal = new MoveJournal(tempDir.resolve("game_save_tester.dat").toString());
+        Game game = playAndJournal(journal, 30);
+
+        assertEquals(30, journal.readMoves().size());
+        GameState recovered = journal.recover();
+        assertEquals(game.getHumanShots(), recovered.getHumanShots());
+        assertEquals(game.getMachineShots(), recovered.getMachineShots());
+        assertEquals(game.getCurrentPlayerIndex(), recovered.getCurrentPlayerIndex());
+        for (int r = 0; r < 10; r++) {
+            for (int c = 0; c < 10; c++) {
+                assertEquals(game.getMachineBoard().getCell(r, c), recovered.getMachineBoard().getCell(r, c));
+                assertEquals(game.getHumanBoard().getCell(r, c), recovered.getHumanBoard().getCell(r, c));
+            }
+        }
+    }
+
+    //A record cut short by a crash is dropped, the rest is kept
+    @Test
+    void testTornRecordIgnored() throws IOException {
+        MoveJournal journal = new MoveJournal(tempDir.resolve("game_save_torn.dat").toString());
+        playAndJournal(journal, 5);
+
+        try (RandomAccessFile file = new RandomAccessFile(journal.getJournalFileName(), "rw")) {
+            file.setLength(file.length() - 1);
+        }
+        assertEquals(4, journal.readMoves().size());
+    }
+
+    //A new checkpoint makes the earlier moves part of the snapshot
+    @Test
+    void testCheckpointRestartsJournal() throws IOException {
+        MoveJournal journal = new MoveJournal(tempDir.resolve("game_save_checkpoint.dat").toString());
+        Game game = playAndJournal(journal, 12);
+
+        journal.checkpoint(game.toGameState());
+        assertTrue(journal.readMoves().isEmpty());
+        assertEquals(game.getHumanShots(), journal.recover().getHumanShots());
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.battleship.Model.Serializable;
+
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.Game.Game;
+import com.example.battleship.Model.Game.GameState;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaveHeaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    //Builds a snapshot of a game in progress
+    private GameState sampleState() {
+        Game game = new Game("Tester", BoardGeometry.STANDARD, 3L);
+        game.setVerbose(false);
+        game.generateFleet();
+        game.generateHumanFleet();
+        game.startGame();
+        return game.toGameState();
+    }
+
+    //The header gives the player and phase, and counts the journal in the size
+    @Test
+    void testReadsBinaryHeader() throws IOException {
+        MoveJournal journal = new MoveJournal(tempDir.resolve("game_save_tester.dat").toString());
+        journal.checkpoint(sampleState());
+        journal.append(true, 0, 0, Game.ShotResult.MISS);
+
+        SaveHeader header = SaveHeader.read(journal.getSnapshotFileName());
+        assertNotNull(header);
+        assertFalse(header.isLegacy());
+        assertTrue(header.isResumable());
+        assertEquals("Tester", header.getPlayerName());
+        assertEquals(Game.GameState.PLAYING, header.getPhase());
+        assertEquals(Files.size(Path.of(journal.getSnapshotFileName()))
+                + Files.size(Path.of(journal.getJournalFileName())), header.getSize());
+    }
+
+    //Saves written with Java serialization are reported as legacy and resumable
+    @Test
+    void testLegacySave() throws IOException {
+        String fileName = tempDir.resolve("game_save_legacy.dat").toString();
+        new SerializableFileHandler().serialize(fileName, sampleState());
+
+        SaveHeader header = SaveHeader.read(fileName);
+        assertNotNull(header);
+        assertTrue(header.isLegacy());
+        assertTrue(header.isResumable());
+    }
+
+    //A slot without snapshot has no header
+    @Test
+    void testMissingSave() throws IOException {
+        assertNull(SaveHeader.read(tempDir.resolve("game_save_nobody.dat").toString()));
+    }
+}
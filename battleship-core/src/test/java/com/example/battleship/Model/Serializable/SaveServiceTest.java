@@ -0,0 +1,93 @@
+package com.example.battleship.Model.Serializable;
+
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.Game.Game;
+import com.example.battleship.Model.Game.GameState;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaveServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    //Builds a snapshot after the given number of machine shots
+    private GameState stateWithShots(Game game, int shots) {
+        for (int i = 0; i < shots; i++) {
+            game.getMachineShots().add(i / 10, i % 10);
+        }
+        return new GameState("Tester", game.getHumanBoard(), game.getMachineBoard(),
+                game.getHumanFleet(), game.getMachineFleet(),
+                game.getHumanShots(), game.getMachineShots(),
+                0, Game.GameState.PLAYING, false);
+    }
+
+    //The last save of a burst is the one on disk, and no temporary file is left behind
+    @Test
+    void testLatestSaveWins() {
+        String fileName = tempDir.resolve("game_save_tester.dat").toString();
+        Game game = new Game("Tester", BoardGeometry.STANDARD, 3L);
+        game.setVerbose(false);
+
+        try (SaveService service = new SaveService()) {
+            for (int shots = 1; shots <= 50; shots++) {
+                service.save(fileName, stateWithShots(game, shots));
+            }
+            service.flush();
+
+            GameState loaded = (GameState) new GameStateFileHandler().deserialize(fileName);
+            assertNotNull(loaded);
+            assertEquals(50, loaded.getMachineShots().size());
+            assertEquals(50, service.getRequestCount());
+            assertTrue(service.getWriteCount() >= 1 && service.getWriteCount() <= 50);
+            assertFalse(new File(fileName + ".tmp").exists());
+        }
+    }
+
+    //A save queued before a delete does not bring the file back
+    @Test
+    void testDeleteAfterSave() {
+        String fileName = tempDir.resolve("game_save_deleted.dat").toString();
+        Game game = new Game("Tester", BoardGeometry.STANDARD, 3L);
+        game.setVerbose(false);
+
+        try (SaveService service = new SaveService()) {
+            service.save(fileName, stateWithShots(game, 1));
+            service.delete(fileName);
+            service.flush();
+            assertFalse(new File(fileName).exists());
+        }
+    }
+
+    //A save requested after a delete is written, even if an earlier save was still queued
+    @Test
+    void testSaveAfterDelete() {
+        Game game = new Game("Tester", BoardGeometry.STANDARD, 3L);
+        game.setVerbose(false);
+        GameState first = stateWithShots(game, 1);
+        GameState latest = stateWithShots(game, 2);
+
+        try (SaveService service = new SaveService()) {
+            for (int i = 0; i < 200; i++) {
+                String fileName = tempDir.resolve("game_save_" + i + ".dat").toString();
+                service.save(fileName, first);
+                service.delete(fileName);
+                service.save(fileName, latest);
+            }
+            service.flush();
+
+            for (int i = 0; i < 200; i++) {
+                GameState loaded = (GameState) new GameStateFileHandler()
+                        .deserialize(tempDir.resolve("game_save_" + i + ".dat").toString());
+                assertNotNull(loaded, "save " + i);
+                assertEquals(2, loaded.getMachineShots().size());
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.battleship.Model.Simulation;
+
+import com.example.battleship.Model.AI.RandomAI;
+import com.example.battleship.Model.AI.SmartAI;
+import com.example.battleship.Model.Board.BoardGeometry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEngineTest {
+
+    @Test
+    void testGameFinishesWithinBoardSize() {
+        GameEngine engine = new GameEngine();
+        MatchResult result = engine.play(new RandomAI(), new RandomAI());
+
+        assertNotNull(result.getWinner());
+        assertTrue(result.getWinnerShots() > 0);
+        assertTrue(result.getWinnerShots() <= 100);
+    }
+
+    @Test
+    void testRunnerReportsEveryGame() {
+        BoardGeometry geometry = BoardGeometry.square(12);
+        SmartAI smartAI = new SmartAI(geometry);
+        smartAI.setVerbose(false);
+        MatchRunner runner = new MatchRunner(new GameEngine(geometry), smartAI, new RandomAI(geometry, new Random(7)));
+
+        MatchReport report = runner.run(20);
+
+        assertEquals(20, report.getGames());
+        assertEquals(20, report.getFirstWins() + report.getSecondWins());
+        assertTrue(report.getGamesPerSecond() > 0);
+
+        long recorded = 0;
+        for (long games : report.getShotHistogram(MatchResult.Side.FIRST)) recorded += games;
+        assertEquals(report.getFirstWins(), recorded);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.battleship.Model.Simulation;
+
+import com.example.battleship.Model.AI.RandomAI;
+import com.example.battleship.Model.AI.SmartAI;
+import com.example.battleship.Model.Game.Game;
+import com.example.battleship.Model.Player.GameRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShotColumnsTest {
+
+    @TempDir
+    Path tempDir;
+
+    //Every column survives a round trip, across a block boundary
+    @Test
+    void testRoundTripAcrossBlocks() throws IOException {
+        Path file = tempDir.resolve("shots.bssc");
+        int total = ShotColumns.BLOCK_ROWS + 1000;
+        Game.ShotResult[] results = Game.ShotResult.values();
+        try (ShotColumnWriter writer = new ShotColumnWriter(file)) {
+            for (int i = 0; i < total; i++) {
+                writer.append(i / 50, i % 50, i % 3 == 0, i % 10, (i / 10) % 10,
+                        results[i % results.length], GameRecord.AiMode.MONTE_CARLO, i % 7 - 3);
+            }
+        }
+
+        try (ShotColumnReader reader = new ShotColumnReader(file)) {
+            for (int i = 0; i < total; i++) {
+                assertTrue(reader.next());
+                assertEquals(i / 50, reader.getGameId());
+                assertEquals(i % 50, reader.getTurn());
+                assertEquals(i % 3 == 0, reader.isHuman());
+                assertEquals(i % 10, reader.getRow());
+                assertEquals((i / 10) % 10, reader.getCol());
+                assertEquals(results[i % results.length], reader.getResult());
+                assertEquals(GameRecord.AiMode.MONTE_CARLO, reader.getAiMode());
+                assertEquals(i % 7 - 3, reader.getHeat());
+            }
+            assertFalse(reader.next());
+            assertEquals(total, reader.getShotsRead());
+        }
+    }
+
+    //Simulated games export one row per shot, with the shooter's AI mode
+    @Test
+    void testEngineExportsShots() throws IOException {
+        Path file = tempDir.resolve("games.bssc");
+        SmartAI smartAI = new SmartAI();
+        smartAI.setVerbose(false);
+        GameEngine engine = new GameEngine();
+        long fired = 0;
+        try (ShotColumnWriter writer = new ShotColumnWriter(file)) {
+            engine.setShotWriter(writer);
+            for (int i = 0; i < 3; i++) {
+                MatchResult result = engine.play(smartAI, new RandomAI());
+                fired += result.getFirstShots() + result.getSecondShots();
+            }
+            assertEquals(fired, writer.getShotCount());
+        }
+        assertTrue(Files.size(file) < fired * 8);
+
+        try (ShotColumnReader reader = new ShotColumnReader(file)) {
+            long lastGame = -1;
+            int expectedTurn = 0;
+            while (reader.next()) {
+                if (reader.getGameId() != lastGame) {
+                    lastGame = reader.getGameId();
+                    expectedTurn = 0;
+                }
+                assertEquals(expectedTurn++, reader.getTurn());
+                assertEquals(reader.isHuman() ? GameRecord.AiMode.HEURISTIC : GameRecord.AiMode.RANDOM,
+                        reader.getAiMode());
+            }
+            assertEquals(2, lastGame);
+            assertEquals(fired, reader.getShotsRead());
+        }
+    }
+
+    //Flushed shots are readable while the file is still open, and a resumed game keeps its id
+    @Test
+    void testFlushAndResume() throws IOException {
+        Path file = tempDir.resolve("session.bssc");
+        try (ShotColumnWriter writer = new ShotColumnWriter(file)) {
+            long gameId = writer.nextGameId();
+            writer.listenerFor(gameId, 0, null, new RandomAI()).onShot(true, 1, 2, Game.ShotResult.MISS);
+            writer.listenerFor(gameId, 1, null, new RandomAI()).onShot(false, 3, 4, Game.ShotResult.HIT);
+            writer.flush();
+
+            try (ShotColumnReader reader = new ShotColumnReader(file)) {
+                assertTrue(reader.next());
+                assertEquals(GameRecord.AiMode.HUMAN, reader.getAiMode());
+                assertTrue(reader.next());
+                assertEquals(gameId, reader.getGameId());
+                assertEquals(1, reader.getTurn());
+                assertEquals(GameRecord.AiMode.RANDOM, reader.getAiMode());
+                assertFalse(reader.next());
+            }
+        }
+    }
+}
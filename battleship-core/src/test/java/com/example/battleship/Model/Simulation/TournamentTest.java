@@ -0,0 +1,33 @@
+package com.example.battleship.Model.Simulation;
+
+import com.example.battleship.Model.Board.BoardGeometry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest {
+
+    //Same seed must give the same results whatever the number of workers
+    @Test
+    void testSameSeedSameResults() {
+        Tournament tournament = new Tournament(BoardGeometry.STANDARD,
+                StrategyFactory.smartAI(), StrategyFactory.randomAI(), 1234L, 8);
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool quad = new ForkJoinPool(4);
+        try {
+            MatchReport a = tournament.run(40, single);
+            MatchReport b = tournament.run(40, quad);
+
+            assertEquals(40, a.getGames());
+            assertEquals(a.getFirstWins(), b.getFirstWins());
+            assertArrayEquals(a.getShotHistogram(MatchResult.Side.FIRST), b.getShotHistogram(MatchResult.Side.FIRST));
+            assertArrayEquals(a.getShotHistogram(MatchResult.Side.SECOND), b.getShotHistogram(MatchResult.Side.SECOND));
+        } finally {
+            single.shutdown();
+            quad.shutdown();
+        }
+    }
+}
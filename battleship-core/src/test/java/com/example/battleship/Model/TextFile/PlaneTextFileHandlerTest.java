@@ -0,0 +1,53 @@
+package com.example.battleship.Model.TextFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaneTextFileHandlerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final PlaneTextFileHandler handler = new PlaneTextFileHandler();
+
+    //Records keep their own fields, one per line
+    @Test
+    void testRecordsRoundTrip() throws IOException {
+        String file = tempDir.resolve("players.csv").toString();
+        handler.writeRecords(file, ',', List.of(
+                new String[]{"Ana", "3", "1"},
+                new String[]{"Luis", "", "7"}));
+        Files.writeString(Path.of(file), "\n  Eva , 2 ,0\n", StandardOpenOption.APPEND);
+
+        List<String[]> records = new ArrayList<>();
+        handler.forEachRecord(file, ',', records::add);
+
+        assertEquals(3, records.size());
+        assertArrayEquals(new String[]{"Ana", "3", "1"}, records.get(0));
+        assertArrayEquals(new String[]{"Luis", "", "7"}, records.get(1));
+        assertArrayEquals(new String[]{"Eva", "2", "0"}, records.get(2));
+    }
+
+    //A rewrite replaces the file and leaves no temporary file behind
+    @Test
+    void testAtomicWrite() throws IOException {
+        String file = tempDir.resolve("notes.txt").toString();
+        handler.writeToFile(file, "old,content");
+        handler.writeLines(file, List.of("first", "second"));
+
+        List<String> lines = new ArrayList<>();
+        handler.forEachLine(file, lines::add);
+        assertEquals(List.of("first", "second"), lines);
+        assertArrayEquals(new String[]{"first", "second"}, handler.readFromFile(file));
+        assertFalse(Files.exists(tempDir.resolve("notes.txt.tmp")));
+    }
+}
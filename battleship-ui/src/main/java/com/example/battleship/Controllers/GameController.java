@@ -1,12 +1,22 @@
 package com.example.battleship.Controllers;
 
-import com.example.battleship.Model.Board.Board;
+import com.example.battleship.Model.Board.BoardGeometry;
+import com.example.battleship.Model.Board.CellBitSet;
+import com.example.battleship.Model.Board.IBoard;
 import com.example.battleship.Model.Game.Game;
 import com.example.battleship.Model.Game.GameState;
+import com.example.battleship.Model.Game.ShotListener;
+import com.example.battleship.Model.Player.GameHistory;
+import com.example.battleship.Model.Player.GameRecord;
 import com.example.battleship.Model.Player.PlayerData;
-import com.example.battleship.Model.Serializable.SerializableFileHandler;
+import com.example.battleship.Model.Player.PlayerStatsCache;
+import com.example.battleship.Model.RNG.GameRandom;
+import com.example.battleship.Model.Serializable.GameStateFileHandler;
+import com.example.battleship.Model.Serializable.ISerializableFileHandler;
+import com.example.battleship.Model.Serializable.MoveJournal;
+import com.example.battleship.Model.Serializable.SaveService;
+import com.example.battleship.Model.Simulation.ShotColumnWriter;
 import com.example.battleship.Model.Ship.*;
-import com.example.battleship.Model.TextFile.PlaneTextFileHandler;
 import com.example.battleship.Model.Utils.SpriteSheet;
 import com.example.battleship.Views.GameView;
 import com.example.battleship.Views.MainMenuView;
@@ -40,7 +50,10 @@ import javafx.scene.control.Alert;
 import com.example.battleship.Views.VictoryView;
 import javafx.scene.media.MediaException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -69,7 +82,7 @@ import java.util.concurrent.Executors;
  * @author Battleship Development Team
  * @version 1.0
  * @see Game
- * @see Board
+ * @see IBoard
  * @see IShip
  */
 public class GameController implements Initializable {
@@ -99,6 +112,10 @@ public class GameController implements Initializable {
     private Button helpButton;
 
     private boolean showEnemyShips = false;
+    /** Random source for explosion particles (JavaFX thread) */
+    private final GameRandom effectsRandom = new GameRandom();
+    /** Random source for the AI "thinking" delay (AI executor thread) */
+    private final GameRandom delayRandom = effectsRandom.split();
     private boolean videoWarmedUp = false;
 
     private GraphicsContext gPlayer;
@@ -112,8 +129,8 @@ public class GameController implements Initializable {
     private int currentShipSize = 4;
     private boolean vertical = false;
 
-    private Board board;
-    private Board boardEnemy;
+    private IBoard board;
+    private IBoard boardEnemy;
     List<IShip> enemyShips;
     List<int[]> coords;
     private Stack<IShip> ships = new Stack<>();
@@ -132,9 +149,18 @@ public class GameController implements Initializable {
     private ExecutorService aiExecutor;
     private volatile boolean isRunning = false;
 
-    private SerializableFileHandler serializableHandler = new SerializableFileHandler();
-    private PlaneTextFileHandler plainTextFileHandler;
+    private ISerializableFileHandler serializableHandler = new GameStateFileHandler();
+    private final SaveService saveService = SaveService.getInstance();
+    /** Journal of the current player's save slot, created on first use */
+    private MoveJournal journal;
+    private final PlayerStatsCache playerStats = PlayerStatsCache.getInstance();
     private PlayerData currentPlayerData;
+    /** When combat started or resumed, for the game history */
+    private long gameStartMillis;
+    /** Shots of the games played in this session, opened on first use */
+    private static ShotColumnWriter shotExport;
+    /** Export id of each player's unfinished game, so a resumed game keeps its id */
+    private static final Map<String, Long> exportGameIds = new HashMap<>();
 
     private final SpriteSheet carrierSheet = new SpriteSheet(
             getClass().getResource("/Battleship-Images/portaaviones.png").toExternalForm(),
@@ -177,8 +203,6 @@ public class GameController implements Initializable {
      */
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
-        plainTextFileHandler = new PlaneTextFileHandler();
-
         if (gameExecutor != null && !gameExecutor.isShutdown()) {
             gameExecutor.shutdownNow();
         }
@@ -259,65 +283,13 @@ public class GameController implements Initializable {
     }
 
     /**
-     * Loads player data from persistent storage.
-     * <p>
-     * Reads the player data file and searches for the specified player's statistics.
-     * </p>
+     * Loads player data from the shared player stats cache.
      *
      * @param playerName the name of the player whose data should be loaded
      * @return PlayerData object if found, null otherwise
      */
     private PlayerData loadPlayerData(String playerName) {
-        try {
-            String[] data = plainTextFileHandler.readFromFile("player_data.txt");
-
-            for (int i = 0; i < data.length; i++) {
-                String[] fields = data[i].split(",");
-                if (fields.length >= 5 && fields[0].equals(playerName)) {
-                    return PlayerData.fromCSV(fields);
-                }
-            }
-        } catch (Exception e) {
-            System.out.println("⚠️ Could not load player data");
-        }
-        return null;
-    }
-
-    /**
-     * Saves current player data to persistent storage.
-     * <p>
-     * Updates existing player record or creates new entry in the player data file.
-     * </p>
-     */
-    private void savePlayerData() {
-        try {
-            String[] allData = plainTextFileHandler.readFromFile("player_data.txt");
-            StringBuilder content = new StringBuilder();
-
-            boolean playerFound = false;
-
-            for (String line : allData) {
-                if (!line.trim().isEmpty()) {
-                    String[] fields = line.split(",");
-                    if (fields.length >= 5 && fields[0].equals(currentPlayerData.getName())) {
-                        content.append(currentPlayerData.toCSV()).append("\n");
-                        playerFound = true;
-                    } else {
-                        content.append(line).append("\n");
-                    }
-                }
-            }
-
-            if (!playerFound) {
-                content.append(currentPlayerData.toCSV()).append("\n");
-            }
-
-            plainTextFileHandler.writeToFile("player_data.txt", content.toString());
-            System.out.println("💾 Player data saved (plain text file)");
-
-        } catch (Exception e) {
-            System.err.println("❌ Error saving player data: " + e.getMessage());
-        }
+        return playerStats.get(playerName);
     }
 
     /**
@@ -332,17 +304,8 @@ public class GameController implements Initializable {
      * @param username the name of the player
      */
     public void loadSavedGame(GameState savedState, String username) {
-        game = new Game(username);
-
-        game.setHumanBoard(savedState.getHumanBoard());
-        game.setMachineBoard(savedState.getMachineBoard());
-        game.setHumanFleet(savedState.getHumanFleet());
-        game.setMachineFleet(savedState.getMachineFleet());
-        game.setHumanShots(savedState.getHumanShots());
-        game.setMachineShots(savedState.getMachineShots());
-        game.setCurrentPlayerIndex(savedState.getCurrentPlayerIndex());
-        game.setCurrentState(savedState.getGamePhase());
-        game.setGameOver(savedState.isGameOver());
+        game = Game.fromSnapshot(username, savedState);
+        journal = null;
 
         currentPlayerData = loadPlayerData(savedState.getPlayerName());
         if (currentPlayerData == null) {
@@ -371,33 +334,22 @@ public class GameController implements Initializable {
     /**
      * Saves the current game state to persistent storage.
      * <p>
-     * Creates a GameState snapshot with all current game data and serializes it
-     * to a file named after the player. Does not save if the game has already ended.
+     * Creates a GameState snapshot with all current game data and queues it on the
+     * {@link SaveService} as a checkpoint of the player's {@link MoveJournal}: the
+     * snapshot is written to a file named after the player in the background and
+     * the journal restarts. Does not save if the game has already ended.
      * </p>
      */
     private void saveGame() {
         try {
-            GameState savedState = new GameState(
-                    game.getHuman().getName(),
-                    game.getHumanBoard(),
-                    game.getMachineBoard(),
-                    game.getHumanFleet(),
-                    game.getMachineFleet(),
-                    game.getHumanShots(),
-                    game.getMachineShots(),
-                    game.getCurrentPlayerIndex(),
-                    game.getCurrentState(),
-                    game.isGameOver()
-            );
+            GameState savedState = game.toGameState();
 
             if (game.hasHumanWon()) {
                 return;
             }
 
-            String playerName = game.getHuman().getName().toLowerCase().trim();
-            String filename = "game_save_" + playerName + ".dat";
-            serializableHandler.serialize(filename, savedState);
-            System.out.println("💾 Game saved: " + filename);
+            saveService.checkpoint(getJournal(), savedState);
+            System.out.println("💾 Game save queued: " + getJournal().getSnapshotFileName());
 
         } catch (Exception e) {
             System.err.println("❌ Error saving game: " + e.getMessage());
@@ -405,6 +357,19 @@ public class GameController implements Initializable {
         }
     }
 
+    /**
+     * Returns the journal of the current player's save slot.
+     *
+     * @return the journal for "game_save_[player].dat"
+     */
+    private MoveJournal getJournal() {
+        if (journal == null) {
+            String playerName = game.getHuman().getName().toLowerCase().trim();
+            journal = new MoveJournal("game_save_" + playerName + ".dat");
+        }
+        return journal;
+    }
+
     /**
      * Handles ship rotation during placement phase.
      * <p>
@@ -534,16 +499,7 @@ public class GameController implements Initializable {
      * @return true if the ship fits, false otherwise
      */
     private boolean fits(int row, int col, int size) {
-        Board humanBoard = game.getHumanBoard();
-
-        for (int i = 0; i < size; i++) {
-            int r = row + (vertical ? i : 0);
-            int c = col + (vertical ? 0 : i);
-
-            if (r >= SIZE || c >= SIZE) return false;
-            if (humanBoard.getCell(r, c) == 1) return false;
-        }
-        return true;
+        return game.canPlaceHumanShip(row, col, size, vertical);
     }
 
     /**
@@ -592,7 +548,7 @@ public class GameController implements Initializable {
             }
         }
 
-        Board humanBoard = game.getHumanBoard();
+        IBoard humanBoard = game.getHumanBoard();
 
         for (int row = 0; row < 10; row++) {
             for (int col = 0; col < 10; col++) {
@@ -681,6 +637,10 @@ public class GameController implements Initializable {
     private void startGame() {
         game.startGame();
         isRunning = true;
+        gameStartMillis = System.currentTimeMillis();
+        // With the saved moves, the seed replays this game exactly
+        System.out.println("🎲 Game seed: " + (game.getSeed() != null ? game.getSeed() : "unknown"));
+        game.setShotListener(shotExportListener(game));
 
         Platform.runLater(() -> {
             updateStatusLabel("¡Juego iniciado! Es tu turno - Click en el tablero enemigo");
@@ -692,6 +652,9 @@ public class GameController implements Initializable {
             System.out.println("✅ Game state: " + game.getCurrentState());
             System.out.println("✅ Is human turn? " + game.isHumanTurn());
         });
+
+        // Start the journal from the current state
+        saveGame();
     }
 
     /**
@@ -710,7 +673,7 @@ public class GameController implements Initializable {
         });
 
         try {
-            Thread.sleep(500 + new Random().nextInt(1000));
+            Thread.sleep(500 + delayRandom.nextInt(1000));
 
             int[] shot = game.executeMachineShot();
             int row = shot[0];
@@ -776,16 +739,9 @@ public class GameController implements Initializable {
 
             WritableImage[] slices = sheet.getSlices(size, vertical);
 
+            // Cached by the ship, already ordered top-left first like the sprite slices
             List<int[]> coords = game.getShipCoordinates(ship);
 
-            coords.sort((a, b) -> {
-                if (vertical) {
-                    return Integer.compare(a[0], b[0]);
-                } else {
-                    return Integer.compare(a[1], b[1]);
-                }
-            });
-
             for (int i = 0; i < size; i++) {
                 int row = coords.get(i)[0];
                 int col = coords.get(i)[1];
@@ -811,7 +767,7 @@ public class GameController implements Initializable {
      * @param row the row coordinate
      * @param col the column coordinate
      */
-    private void handleBoardClick(Board enemyBoard, int row, int col) {
+    private void handleBoardClick(IBoard enemyBoard, int row, int col) {
         game.executeHumanPlay(enemyBoard, game.getHuman(), row, col);
     }
 
@@ -946,7 +902,11 @@ public class GameController implements Initializable {
             return;
         }
 
-        saveGame();
+        // Shots are journaled; the full state is only written every few moves
+        boolean fired = result == Game.ShotResult.MISS || result == Game.ShotResult.HIT || result == Game.ShotResult.SUNK;
+        if (fired && saveService.record(getJournal(), isPlayer, row, col, result)) {
+            saveGame();
+        }
     }
 
     /**
@@ -999,10 +959,98 @@ public class GameController implements Initializable {
         }, aiExecutor);
     }
 
+    /**
+     * Returns the shot export of this session, opening a new file under
+     * data/shots on first use.
+     *
+     * @return the writer, or null if the file cannot be created
+     */
+    private static synchronized ShotColumnWriter getShotExport() {
+        if (shotExport == null) {
+            Path file = Path.of("data", "shots", "session-" + System.currentTimeMillis() + ".bssc");
+            try {
+                shotExport = new ShotColumnWriter(file);
+            } catch (IOException e) {
+                System.err.println("❌ Error opening shot export: " + e.getMessage());
+            }
+        }
+        return shotExport;
+    }
+
+    /**
+     * Returns a listener exporting the shots of a game. A resumed game keeps the
+     * id it had before, and its turns carry on from the shots already fired;
+     * after a restart it continues under a new id in the new session file.
+     *
+     * @param game the game starting or resuming
+     * @return the listener, or null if there is no export file
+     */
+    private static synchronized ShotListener shotExportListener(Game game) {
+        ShotColumnWriter export = getShotExport();
+        if (export == null) return null;
+        String key = game.getHuman().getName().toLowerCase().trim();
+        int firstTurn = game.getHumanShots().size() + game.getMachineShots().size();
+        Long gameId = firstTurn > 0 ? exportGameIds.get(key) : null;
+        if (gameId == null) {
+            gameId = export.nextGameId();
+            exportGameIds.put(key, gameId);
+        }
+        return export.listenerFor(gameId, firstTurn, null, game.getSmartAI());
+    }
+
+    /**
+     * Writes the shots of a finished game to the export file, so they are kept
+     * even if the application does not shut down cleanly.
+     *
+     * @param game the finished game
+     */
+    private static synchronized void flushShotExport(Game game) {
+        exportGameIds.remove(game.getHuman().getName().toLowerCase().trim());
+        if (shotExport == null) return;
+        try {
+            shotExport.flush();
+        } catch (IOException e) {
+            System.err.println("❌ Error writing shot export: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the remaining shots of the session and closes the export file.
+     * Called when the application stops.
+     */
+    public static synchronized void closeShotExport() {
+        if (shotExport == null) return;
+        try {
+            shotExport.close();
+        } catch (IOException e) {
+            System.err.println("❌ Error closing shot export: " + e.getMessage());
+        }
+        shotExport = null;
+        exportGameIds.clear();
+    }
+
+    /**
+     * Appends a finished game to the game history on a background thread,
+     * which also updates its daily and weekly totals.
+     *
+     * @param record the finished game
+     */
+    private void recordHistory(GameRecord record) {
+        CompletableFuture.runAsync(() -> {
+            try {
+                GameHistory.getInstance().append(record);
+                System.out.println("📜 Game recorded: " + record);
+            } catch (IOException | UncheckedIOException e) {
+                System.err.println("❌ Error recording game history: " + e.getMessage());
+            }
+        });
+    }
+
     /**
      * Ends the game and displays results.
      * <p>
-     * Stops executors, counts statistics, updates player data, deletes save file,
+     * Stops executors, counts statistics, updates player data, records the game
+     * in the history, writes its shots to the export file, deletes save file,
      * closes current window, and opens victory/defeat screen.
      * </p>
      */
@@ -1048,19 +1096,14 @@ public class GameController implements Initializable {
             }
         }
 
-        int playerShipsSunk = (int) game.getMachineFleet().stream()
-                .filter(IShip::isSunken)
-                .count();
-
-        int machineShipsSunk = (int) ships.stream()
-                .filter(IShip::isSunken)
-                .count();
+        int playerShipsSunk = game.getMachineFleetStatus().getShipsSunk();
+        int machineShipsSunk = game.getHumanFleetStatus().getShipsSunk();
 
         int playerMisses = 0;
         int machineMisses = 0;
 
-        Board machineBoard = game.getMachineBoard();
-        Board humanBoard = game.getHumanBoard();
+        IBoard machineBoard = game.getMachineBoard();
+        IBoard humanBoard = game.getHumanBoard();
 
         for (int row = 0; row < 10; row++) {
             for (int col = 0; col < 10; col++) {
@@ -1071,25 +1114,22 @@ public class GameController implements Initializable {
 
         boolean playerWon = game.hasHumanWon();
 
-        currentPlayerData.incrementGamesPlayed();
-        currentPlayerData.addShots(game.getHumanShots().size());
-
         int hits = 0;
-        for (String shot : game.getHumanShots()) {
-            String[] coords = shot.split(",");
-            int row = Integer.parseInt(coords[0]);
-            int col = Integer.parseInt(coords[1]);
-            if (machineBoard.getCell(row, col) == 3) {
+        CellBitSet humanShots = game.getHumanShots();
+        BoardGeometry geometry = humanShots.getGeometry();
+        for (int i = humanShots.nextCell(0); i >= 0; i = humanShots.nextCell(i + 1)) {
+            if (machineBoard.getCell(geometry.rowOf(i), geometry.colOf(i)) == 3) {
                 hits++;
             }
         }
-        currentPlayerData.addHits(hits);
-
-        if (playerWon) {
-            currentPlayerData.incrementGamesWon();
-        }
-
-        savePlayerData();
+        // Written to disk in the cache's next batch
+        currentPlayerData = playerStats.recordGame(currentPlayerData.getName(), playerWon,
+                game.getHumanShots().size(), hits);
+        recordHistory(new GameRecord(currentPlayerData.getName(), System.currentTimeMillis(),
+                System.currentTimeMillis() - gameStartMillis,
+                game.getSmartAI().isMonteCarlo() ? GameRecord.AiMode.MONTE_CARLO : GameRecord.AiMode.HEURISTIC,
+                playerWon, playerShipsSunk, machineShipsSunk, game.getHumanShots().size(), hits, machineMisses));
+        flushShotExport(game);
 
         final int finalPlayerShipsSunk = playerShipsSunk;
         final int finalMachineShipsSunk = machineShipsSunk;
@@ -1099,10 +1139,8 @@ public class GameController implements Initializable {
         final int finalTotalShots = game.getHumanShots().size();
         final String finalPlayerName = currentPlayerData.getName();
 
-        String playerName = finalPlayerName.toLowerCase().trim();
-        String filename = "game_save_" + playerName + ".dat";
-        serializableHandler.delete(filename);
-        System.out.println("🗑️ Save file deleted: " + filename);
+        saveService.delete(getJournal());
+        System.out.println("🗑️ Save file deletion queued: " + getJournal().getSnapshotFileName());
 
         Platform.runLater(() -> {
             try {
@@ -1369,7 +1407,7 @@ public class GameController implements Initializable {
             System.out.println("videoContainer is null, explosion cancelled");
             return;
         }
-        Random random = new Random();
+        GameRandom random = effectsRandom;
         int particleCount = 30;
 
         for (int i = 0; i < particleCount; i++) {
@@ -1461,6 +1499,8 @@ public class GameController implements Initializable {
                 saveGame();
                 System.out.println("💾 Game saved before returning to menu");
             }
+            // The menu reads the save back, so it must be on disk first
+            saveService.flush();
 
             stopVideo();
 
@@ -2,7 +2,9 @@ package com.example.battleship.Controllers;
 
 import com.example.battleship.Model.Game.Game;
 import com.example.battleship.Model.Game.GameState;
-import com.example.battleship.Model.Serializable.SerializableFileHandler;
+import com.example.battleship.Model.Serializable.MoveJournal;
+import com.example.battleship.Model.Serializable.SaveHeader;
+import com.example.battleship.Model.Serializable.SaveService;
 import com.example.battleship.Model.TextFile.IPlaneTextFileHandler;
 import com.example.battleship.Views.MainMenuView;
 import javafx.animation.*;
@@ -24,6 +26,7 @@ import javafx.util.Duration;
 import com.example.battleship.Views.GameView;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
 import java.util.Random;
 import java.util.ResourceBundle;
@@ -65,8 +68,6 @@ public class MainMenuController implements Initializable {
     private Stage stage;
     private String savedPlayerName = "";
 
-    private SerializableFileHandler serializableHandler = new SerializableFileHandler();
-
     /**
      * Initializes the main menu controller.
      * <p>
@@ -98,7 +99,8 @@ public class MainMenuController implements Initializable {
      * Updates the continue button state based on saved game availability.
      * <p>
      * Checks if a saved game file exists for the entered username.
-     * Enables the button if a save file is found, disables it otherwise.
+     * Enables the button if a resumable save is found, disables it otherwise.
+     * Only the save header is read, so this is cheap enough to run on every keystroke.
      * </p>
      */
     private void updateContinueButton() {
@@ -111,9 +113,10 @@ public class MainMenuController implements Initializable {
                 return;
             }
 
+            // Only the header is read; the game itself is loaded by onContinue
             String filename = "game_save_" + username + ".dat";
-            GameState savedState = (GameState) serializableHandler.deserialize(filename);
-            boolean hasSave = (savedState != null);
+            SaveHeader header = SaveHeader.read(filename);
+            boolean hasSave = header != null && header.isResumable();
 
             continueButton.setDisable(!hasSave);
 
@@ -457,7 +460,13 @@ public class MainMenuController implements Initializable {
         System.out.println("Loading Game for player: " + username);
 
         String filename = "game_save_" + username + ".dat";
-        GameState savedState = (GameState) serializableHandler.deserialize(filename);
+        GameState savedState = null;
+        try {
+            // Snapshot plus the moves journaled since, replayed
+            savedState = new MoveJournal(filename).recover();
+        } catch (IOException e) {
+            System.err.println("❌ Load error: " + e.getMessage());
+        }
 
         if (savedState != null) {
             System.out.println("✅ Save game found: " + savedState.getGamePhase());
@@ -493,16 +502,8 @@ public class MainMenuController implements Initializable {
      */
     private void deleteGameSaveFile(String playerName) {
         String fileName = "game_save_" + playerName.toLowerCase().trim() + ".dat";
-        try {
-            File saveFile = new File(fileName);
-            if (saveFile.exists()) {
-                if (saveFile.delete()) {
-                    System.out.println("🗑️ File deleted: " + fileName);
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("❌ Error deleting file: " + e.getMessage());
-        }
+        // Queued behind any pending save, together with the slot's journal
+        SaveService.getInstance().delete(new MoveJournal(fileName));
     }
 
     /**
@@ -526,13 +527,15 @@ public class MainMenuController implements Initializable {
     /**
      * Handles the "Exit" button action.
      * <p>
-     * Stops video playback and terminates the application.
+     * Stops video playback and terminates the application through
+     * {@link Platform#exit()}, so {@code MainApplication.stop()} writes the
+     * pending player stats and saves before the JVM ends.
      * </p>
      */
     @FXML
     private void onExit() {
         stopVideo();
-        System.exit(0);
+        Platform.exit();
     }
 
     /**
@@ -1,6 +1,5 @@
 package com.example.battleship.Controllers;
 
-import com.example.battleship.Model.Player.PlayerData;
 import javafx.animation.*;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -21,7 +20,7 @@ import java.util.ResourceBundle;
  * Controller for the game statistics screen.
  * <p>
  * Displays detailed game statistics including ships sunk, shots fired, and accuracy.
- * Manages player data persistence and provides navigation back to the main menu.
+ * Provides navigation back to the main menu.
  * </p>
  *
  * @author Battleship Team
@@ -77,9 +76,9 @@ public class StatsController implements Initializable {
     /**
      * Sets and displays the game statistics.
      * <p>
-     * Updates the player's persistent data (games played, wins, shots, hits),
-     * saves it to file, and displays all statistics on the screen including:
-     * player name, game outcome, ships sunk on both sides, and missed shots.
+     * Displays all statistics on the screen including: player name, game outcome,
+     * ships sunk on both sides, and missed shots. The player's persistent data was
+     * already updated by the game screen through the player stats cache.
      * </p>
      *
      * @param playerName the name of the player
@@ -95,21 +94,6 @@ public class StatsController implements Initializable {
                              int machineShipsSunk, int playerShots, int playerHits,
                              int playerMisses, int machineMisses) {
 
-        PlayerData currentPlayer = PlayerData.loadPlayerData(playerName);
-
-        if (currentPlayer == null) {
-            currentPlayer = new PlayerData(playerName);
-        }
-
-        currentPlayer.incrementGamesPlayed();
-        if (playerWon) {
-            currentPlayer.incrementGamesWon();
-        }
-        currentPlayer.addShots(playerShots);
-        currentPlayer.addHits(playerHits);
-
-        PlayerData.savePlayerData(currentPlayer);
-
         playerNameLabel.setText("👤 JUGADOR: " + playerName);
         playerNameLabel.setStyle("-fx-font-size: 20px; -fx-font-weight: bold; -fx-text-fill: #4CAF50;");
 
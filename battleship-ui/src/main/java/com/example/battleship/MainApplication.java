@@ -0,0 +1,47 @@
+package com.example.battleship;
+
+import com.example.battleship.Controllers.GameController;
+import com.example.battleship.Model.Player.GameHistory;
+import com.example.battleship.Model.Player.PlayerStatsCache;
+import com.example.battleship.Model.Player.PlayerStore;
+import com.example.battleship.Model.Serializable.SaveService;
+import com.example.battleship.Views.MainMenuView;
+import javafx.application.Application;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Clase principal de la aplicación Batalla Naval.
+ *
+ * @author Tu Nombre
+ * @version 1.0
+ */
+public class MainApplication extends Application {
+
+    @Override
+    public void start(Stage primaryStage) throws Exception {
+        MainMenuView.getInstance();
+
+    }
+
+    @Override
+    public void stop() {
+        // Write any save still queued before the JVM exits
+        SaveService.getInstance().close();
+        PlayerStatsCache.getInstance().close();
+        PlayerStore.shutdown();
+        try {
+            GameHistory.getInstance().close();
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("❌ Error closing game history: " + e.getMessage());
+        }
+        GameController.closeShotExport();
+    }
+
+    public static void main(String[] args)
+    {
+        launch();
+    }
+}
\ No newline at end of file
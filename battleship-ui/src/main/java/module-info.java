@@ -1,13 +1,13 @@
 module com.example.battleship {
+    requires com.example.battleship.core;
     requires javafx.controls;
     requires javafx.fxml;
     requires javafx.media;
     requires javafx.graphics;
-    //requires com.example.battleship;
 
     opens com.example.battleship to javafx.fxml;
     opens com.example.battleship.Controllers to javafx.fxml;
 
     exports com.example.battleship;
     exports com.example.battleship.Controllers;
-}
\ No newline at end of file
+}